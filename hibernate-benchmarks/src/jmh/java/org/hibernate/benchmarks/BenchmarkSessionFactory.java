@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Customer;
+import org.hibernate.benchmarks.model.PurchaseOrder;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.tool.schema.Action;
+
+/**
+ * Builds the {@link SessionFactory} shared by all benchmark suites: the same
+ * domain model, an embedded in-memory H2 database and a fixed set of settings,
+ * so that numbers from different suites and different runs can be compared.
+ * <p>
+ * Logging of SQL and statistics collection are explicitly disabled, since
+ * either would dominate the measurements.
+ */
+public final class BenchmarkSessionFactory {
+
+	private BenchmarkSessionFactory() {
+	}
+
+	public static SessionFactoryImplementor build(String databaseName) {
+		return build( databaseName, new HashMap<>() );
+	}
+
+	public static SessionFactoryImplementor build(String databaseName, Map<String, Object> additionalSettings) {
+		final StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, Action.CREATE_DROP )
+				.applySetting( AvailableSettings.SHOW_SQL, false )
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, false )
+				.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, 50 )
+				.applySetting( AvailableSettings.ORDER_INSERTS, true )
+				.applySetting( AvailableSettings.ORDER_UPDATES, true )
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, false )
+				.applySetting( AvailableSettings.USE_QUERY_CACHE, false );
+		additionalSettings.forEach( registryBuilder::applySetting );
+
+		final StandardServiceRegistry registry = registryBuilder.build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( registry )
+					.addAnnotatedClass( Customer.class )
+					.addAnnotatedClass( PurchaseOrder.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Inserts {@code count} customers, each with {@code ordersPerCustomer} orders.
+	 */
+	public static void populate(SessionFactory sessionFactory, int count, int ordersPerCustomer) {
+		sessionFactory.inTransaction( session -> {
+			for ( int i = 0; i < count; i++ ) {
+				final Customer customer = new Customer( i );
+				session.persist( customer );
+				for ( int j = 0; j < ordersPerCustomer; j++ ) {
+					session.persist( new PurchaseOrder( customer, i * ordersPerCustomer + j ) );
+				}
+				if ( i % 50 == 0 ) {
+					session.flush();
+					session.clear();
+				}
+			}
+		} );
+	}
+}
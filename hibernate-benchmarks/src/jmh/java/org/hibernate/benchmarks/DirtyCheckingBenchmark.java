@@ -0,0 +1,65 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Customer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the flush-time dirty checking performed by
+ * {@code DefaultFlushEntityEventListener} for non-enhanced entities.
+ * <p>
+ * The session holds {@link #managedEntities} managed entities none of which
+ * is modified, so each flush compares every entity's current state against
+ * its loaded snapshot without issuing any SQL.
+ */
+@State(Scope.Thread)
+public class DirtyCheckingBenchmark {
+
+	@Param({ "1000", "10000" })
+	public int managedEntities;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "dirty_checking" );
+		BenchmarkSessionFactory.populate( sessionFactory, managedEntities, 0 );
+
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		final List<Customer> customers = session.createSelectionQuery( "from Customer", Customer.class )
+				.getResultList();
+		if ( customers.size() != managedEntities ) {
+			throw new IllegalStateException( "Expected " + managedEntities + " entities, loaded " + customers.size() );
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.getTransaction().rollback();
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void flushUnmodified() {
+		session.flush();
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.hql.HqlTranslator;
+import org.hibernate.query.spi.HqlInterpretation;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures lookups in {@code QueryInterpretationCacheStandardImpl}.
+ * <p>
+ * {@link #distinctQueries} HQL strings are requested at random.  When the
+ * number of distinct queries exceeds the configured {@link #cacheSize}, as
+ * with 4096 queries, the cache has to evict, and misses pay for a full HQL
+ * parse; this shows how the hit rate behaves when the working set is larger
+ * than the cache.
+ * The multithreaded variant exposes contention inside the cache.
+ */
+@State(Scope.Benchmark)
+public class QueryInterpretationCacheBenchmark {
+
+	@Param({ "100", "1000", "4096" })
+	public int distinctQueries;
+
+	@Param({ "2048" })
+	public int cacheSize;
+
+	private SessionFactoryImplementor sessionFactory;
+	private QueryInterpretationCache interpretationCache;
+	private HqlTranslator hqlTranslator;
+	private String[] queries;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build(
+				"interpretation_cache",
+				Map.of( AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, cacheSize )
+		);
+		interpretationCache = sessionFactory.getQueryEngine().getInterpretationCache();
+		hqlTranslator = sessionFactory.getQueryEngine().getHqlTranslator();
+
+		queries = new String[distinctQueries];
+		for ( int i = 0; i < distinctQueries; i++ ) {
+			queries[i] = "select c from Customer c where c.loyaltyPoints > " + i + " and c.city = :city";
+			// warm the cache
+			resolve( queries[i] );
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public HqlInterpretation resolve() {
+		return resolve( queries[ThreadLocalRandom.current().nextInt( distinctQueries )] );
+	}
+
+	@Benchmark
+	@Threads(8)
+	public HqlInterpretation resolveConcurrently() {
+		return resolve( queries[ThreadLocalRandom.current().nextInt( distinctQueries )] );
+	}
+
+	private HqlInterpretation resolve(String hql) {
+		return interpretationCache.resolveHqlInterpretation(
+				hql,
+				null,
+				queryString -> hqlTranslator.translate( queryString, null )
+		);
+	}
+}
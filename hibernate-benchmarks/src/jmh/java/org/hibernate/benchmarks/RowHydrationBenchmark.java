@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.benchmarks.model.Customer;
+import org.hibernate.benchmarks.model.PurchaseOrder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures result set processing through {@code StandardRowReader}: reading
+ * JDBC values and hydrating entities, with and without a persistence context,
+ * and plain scalar projections for comparison.
+ */
+@State(Scope.Benchmark)
+public class RowHydrationBenchmark {
+
+	@Param({ "100", "10000" })
+	public int rows;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "row_hydration" );
+		BenchmarkSessionFactory.populate( sessionFactory, rows, 1 );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Customer> entities() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "from Customer", Customer.class ).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<PurchaseOrder> entitiesWithJoinFetch() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery( "from PurchaseOrder o join fetch o.customer", PurchaseOrder.class )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Customer> entitiesStateless() {
+		try ( StatelessSession session = sessionFactory.openStatelessSession() ) {
+			return session.createSelectionQuery( "from Customer", Customer.class ).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Object[]> scalars() {
+		try ( Session session = sessionFactory.openSession() ) {
+			return session.createSelectionQuery(
+					"select c.id, c.firstName, c.lastName, c.email, c.loyaltyPoints, c.balance from Customer c",
+					Object[].class
+			).getResultList();
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Customer;
+import org.hibernate.benchmarks.model.PurchaseOrder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the {@code SessionImpl} entry points: {@code find}, {@code persist}
+ * and {@code flush}.
+ * <p>
+ * Writes are rolled back at the end of each invocation so that the size of
+ * the database does not drift during a run.
+ */
+@State(Scope.Benchmark)
+public class SessionOperationsBenchmark {
+	private static final int CUSTOMER_COUNT = 1_000;
+
+	@Param({ "1", "50" })
+	public int batch;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "session_ops" );
+		BenchmarkSessionFactory.populate( sessionFactory, CUSTOMER_COUNT, 1 );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	/**
+	 * {@code find} of {@link #batch} distinct entities by id, each one hitting the database.
+	 */
+	@Benchmark
+	public void find(Blackhole blackhole) {
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		try ( Session session = sessionFactory.openSession() ) {
+			for ( int i = 0; i < batch; i++ ) {
+				blackhole.consume( session.find( Customer.class, (long) random.nextInt( 1, CUSTOMER_COUNT + 1 ) ) );
+			}
+		}
+	}
+
+	/**
+	 * {@code find} of the same entity repeatedly, served from the persistence context.
+	 */
+	@Benchmark
+	public void findInPersistenceContext(Blackhole blackhole) {
+		try ( Session session = sessionFactory.openSession() ) {
+			for ( int i = 0; i < batch; i++ ) {
+				blackhole.consume( session.find( PurchaseOrder.class, 1L ) );
+			}
+		}
+	}
+
+	/**
+	 * {@code persist} of {@link #batch} new entities, without flushing.
+	 */
+	@Benchmark
+	public void persist(Blackhole blackhole) {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			try {
+				for ( int i = 0; i < batch; i++ ) {
+					final Customer customer = new Customer( i );
+					session.persist( customer );
+					blackhole.consume( customer );
+				}
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		}
+	}
+
+	/**
+	 * {@code persist} of {@link #batch} new entities, followed by a {@code flush}
+	 * which executes the (batched) inserts.
+	 */
+	@Benchmark
+	public void persistAndFlush(Blackhole blackhole) {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			try {
+				for ( int i = 0; i < batch; i++ ) {
+					final Customer customer = new Customer( i );
+					session.persist( customer );
+					session.persist( new PurchaseOrder( customer, i ) );
+					blackhole.consume( customer );
+				}
+				session.flush();
+			}
+			finally {
+				session.getTransaction().rollback();
+			}
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import org.hibernate.LockOptions;
+import org.hibernate.benchmarks.model.Customer;
+import org.hibernate.benchmarks.model.PurchaseOrder;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.loader.ast.internal.LoaderSelectBuilder;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures rendering of a SQL AST into a {@link JdbcOperationQuerySelect} by
+ * the dialect's {@code AbstractSqlAstTranslator}.
+ * <p>
+ * The SQL AST is built once, up front, from the loader of the given entity,
+ * so only the translation itself is measured.  A new translator is created
+ * per invocation since translators are single-use.
+ */
+@State(Scope.Benchmark)
+public class SqlRenderingBenchmark {
+
+	@Param({ "Customer", "PurchaseOrder" })
+	public String entity;
+
+	@Param({ "1", "64" })
+	public int keys;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SqlAstTranslatorFactory translatorFactory;
+	private SelectStatement selectStatement;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		sessionFactory = BenchmarkSessionFactory.build( "sql_rendering" );
+		translatorFactory = sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory();
+
+		final EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(
+				"PurchaseOrder".equals( entity ) ? PurchaseOrder.class : Customer.class
+		);
+		selectStatement = LoaderSelectBuilder.createSelect(
+				persister,
+				null,
+				persister.getIdentifierMapping(),
+				null,
+				keys,
+				new LoadQueryInfluencers( sessionFactory ),
+				LockOptions.NONE,
+				jdbcParameter -> {},
+				sessionFactory
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public JdbcOperationQuerySelect translate() {
+		return translatorFactory.buildSelectTranslator( sessionFactory, selectStatement )
+				.translate( JdbcParameterBindings.NO_BINDINGS, QueryOptions.NONE );
+	}
+}
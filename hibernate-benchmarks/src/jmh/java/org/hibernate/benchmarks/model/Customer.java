@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks.model;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+
+/**
+ * A flat entity with a mix of basic attribute types, used by most suites.
+ */
+@Entity
+public class Customer {
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_seq")
+	@SequenceGenerator(name = "customer_seq", allocationSize = 100)
+	private Long id;
+
+	private String firstName;
+	private String lastName;
+	private String email;
+	private String city;
+	private String country;
+	private int loyaltyPoints;
+	private boolean active;
+	private double balance;
+	private LocalDate registeredOn;
+
+	public Customer() {
+	}
+
+	public Customer(int seed) {
+		this.firstName = "first-" + seed;
+		this.lastName = "last-" + seed;
+		this.email = "customer" + seed + "@example.org";
+		this.city = "city-" + ( seed % 100 );
+		this.country = "country-" + ( seed % 10 );
+		this.loyaltyPoints = seed;
+		this.active = seed % 2 == 0;
+		this.balance = seed * 1.5d;
+		this.registeredOn = LocalDate.of( 2020, 1, 1 ).plusDays( seed % 1000 );
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getFirstName() {
+		return firstName;
+	}
+
+	public void setFirstName(String firstName) {
+		this.firstName = firstName;
+	}
+
+	public String getLastName() {
+		return lastName;
+	}
+
+	public void setLastName(String lastName) {
+		this.lastName = lastName;
+	}
+
+	public String getEmail() {
+		return email;
+	}
+
+	public void setEmail(String email) {
+		this.email = email;
+	}
+
+	public String getCity() {
+		return city;
+	}
+
+	public void setCity(String city) {
+		this.city = city;
+	}
+
+	public String getCountry() {
+		return country;
+	}
+
+	public void setCountry(String country) {
+		this.country = country;
+	}
+
+	public int getLoyaltyPoints() {
+		return loyaltyPoints;
+	}
+
+	public void setLoyaltyPoints(int loyaltyPoints) {
+		this.loyaltyPoints = loyaltyPoints;
+	}
+
+	public boolean isActive() {
+		return active;
+	}
+
+	public void setActive(boolean active) {
+		this.active = active;
+	}
+
+	public double getBalance() {
+		return balance;
+	}
+
+	public void setBalance(double balance) {
+		this.balance = balance;
+	}
+
+	public LocalDate getRegisteredOn() {
+		return registeredOn;
+	}
+
+	public void setRegisteredOn(LocalDate registeredOn) {
+		this.registeredOn = registeredOn;
+	}
+}
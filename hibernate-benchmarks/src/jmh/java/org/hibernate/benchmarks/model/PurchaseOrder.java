@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
+
+/**
+ * An entity with a versioned state and an eager association, so that loads
+ * and rendered SQL involve a join.
+ */
+@Entity
+public class PurchaseOrder {
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_seq")
+	@SequenceGenerator(name = "order_seq", allocationSize = 100)
+	private Long id;
+
+	@Version
+	private int version;
+
+	@ManyToOne(fetch = FetchType.EAGER, optional = false)
+	private Customer customer;
+
+	private String reference;
+	private BigDecimal amount;
+	private LocalDateTime placedAt;
+
+	public PurchaseOrder() {
+	}
+
+	public PurchaseOrder(Customer customer, int seed) {
+		this.customer = customer;
+		this.reference = "PO-" + seed;
+		this.amount = BigDecimal.valueOf( seed, 2 );
+		this.placedAt = LocalDateTime.of( 2023, 1, 1, 0, 0 ).plusMinutes( seed );
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public int getVersion() {
+		return version;
+	}
+
+	public Customer getCustomer() {
+		return customer;
+	}
+
+	public void setCustomer(Customer customer) {
+		this.customer = customer;
+	}
+
+	public String getReference() {
+		return reference;
+	}
+
+	public void setReference(String reference) {
+		this.reference = reference;
+	}
+
+	public BigDecimal getAmount() {
+		return amount;
+	}
+
+	public void setAmount(BigDecimal amount) {
+		this.amount = amount;
+	}
+
+	public LocalDateTime getPlacedAt() {
+		return placedAt;
+	}
+
+	public void setPlacedAt(LocalDateTime placedAt) {
+		this.placedAt = placedAt;
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate;
 
+import java.util.List;
+
 /**
  * A command-oriented API often used for performing bulk operations against
  * the database. A stateless session has no persistence context, and always
@@ -98,6 +100,48 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	void delete(String entityName, Object entity);
 
+	/**
+	 * Insert multiple rows, using JDBC batching.
+	 * <p>
+	 * The insert statements are accumulated in a JDBC batch, and executed
+	 * before this method returns. If no {@linkplain #setJdbcBatchSize
+	 * JDBC batch size} is configured, a moderate default batch size is
+	 * used. Statements batched by earlier operations are executed before
+	 * the first entity of the list is processed.
+	 * Statements are only batched when a transaction is active, and inserts
+	 * relying on identifiers generated by the database are never batched.
+	 *
+	 * @param entities a list of new transient instances
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	void insertMultiple(List<?> entities);
+
+	/**
+	 * Update multiple rows, using JDBC batching.
+	 *
+	 * @param entities a list of detached entity instances
+	 *
+	 * @see #insertMultiple(List)
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	void updateMultiple(List<?> entities);
+
+	/**
+	 * Delete multiple rows, using JDBC batching.
+	 *
+	 * @param entities a list of detached entity instances
+	 *
+	 * @see #insertMultiple(List)
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	void deleteMultiple(List<?> entities);
+
 	/**
 	 * Retrieve a row.
 	 *
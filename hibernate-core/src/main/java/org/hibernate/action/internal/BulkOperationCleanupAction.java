@@ -18,6 +18,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
+import org.hibernate.cache.internal.QuerySpacePartitions;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
@@ -47,6 +48,7 @@ import org.hibernate.sql.ast.tree.insert.InsertSelectStatement;
 public class BulkOperationCleanupAction implements Executable, Serializable {
 
 	private final Serializable[] affectedTableSpaces;
+	private final String affectedPartition;
 
 	private final Set<EntityCleanup> entityCleanups = new HashSet<>();
 	private final Set<CollectionCleanup> collectionCleanups = new HashSet<>();
@@ -95,6 +97,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 		}
 
 		this.affectedTableSpaces = spacesList.toArray( new String[ 0 ] );
+		this.affectedPartition = QuerySpacePartitions.bulkOperationPartition( session, affectedQueryables );
 	}
 
 	/**
@@ -141,6 +144,8 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 		} );
 
 		this.affectedTableSpaces = spacesList.toArray( new String[ 0 ] );
+		// native queries are not restricted to the tenant of the session
+		this.affectedPartition = null;
 	}
 
 	public static void schedule(SharedSessionContractImplementor session, SqmDmlStatement<?> statement) {
@@ -215,6 +220,11 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 		return affectedTableSpaces;
 	}
 
+	@Override
+	public String getPropertySpacesPartition() {
+		return affectedPartition;
+	}
+
 	@Override
 	public BeforeTransactionCompletionProcess getBeforeTransactionCompletionProcess() {
 		return null;
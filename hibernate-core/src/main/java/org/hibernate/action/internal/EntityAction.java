@@ -11,6 +11,7 @@ import java.io.Serializable;
 import org.hibernate.AssertionFailure;
 import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.cache.internal.QuerySpacePartitions;
 import org.hibernate.engine.spi.ComparableExecutable;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.event.spi.EventSource;
@@ -140,6 +141,11 @@ public abstract class EntityAction
 		return persister.getPropertySpaces();
 	}
 
+	@Override
+	public String getPropertySpacesPartition() {
+		return QuerySpacePartitions.entityPartition( getSession(), persister, getInstance() );
+	}
+
 	@Override
 	public void beforeExecutions() {
 		throw new AssertionFailure( "beforeExecutions() called for non-collection action" );
@@ -29,6 +29,20 @@ public interface Executable {
 	 */
 	Serializable[] getPropertySpaces();
 
+	/**
+	 * The partition of the spaces affected by this action, when this action is
+	 * known to only affect the data of a single partition.
+	 *
+	 * @return The partition, or null if this action may affect every partition.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_TENANT_PARTITIONING
+	 *
+	 * @since 6.3
+	 */
+	default @Nullable String getPropertySpacesPartition() {
+		return null;
+	}
+
 	/**
 	 * Called before executing any actions.  Gives actions a chance to perform any preparation.
 	 *
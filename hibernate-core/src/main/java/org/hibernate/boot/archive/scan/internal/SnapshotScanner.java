@@ -0,0 +1,410 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.archive.scan.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Version;
+import org.hibernate.boot.archive.internal.ByteArrayInputStreamAccess;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanParameters;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
+import org.hibernate.boot.spi.ClassLoaderAccess;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link Scanner} keeping the result of another scanner in a snapshot file,
+ * so that the archives don't have to be scanned again as long as they don't change.
+ * <p>
+ * The snapshot is keyed by a digest of the {@link ScanEnvironment}, the
+ * {@link ScanOptions}, the Hibernate version and the content of the scanned
+ * archives: the names, sizes and CRCs of the entries of a jar, or the relative
+ * paths and bytes of the files of a directory.  Neither the location of the
+ * archives nor their modification times are part of the key, so a snapshot
+ * written at build time still matches once the archives are copied or unpacked
+ * on another host.  When the key doesn't match, the archives are scanned again
+ * and the snapshot is replaced.  The snapshot holds the names of the discovered
+ * packages and classes, and the content of the discovered mapping files.
+ * <p>
+ * Only archives and directories of the file system, possibly referenced by
+ * {@code jar:} URLs, can be checked for changes.  If any other archive is
+ * scanned, the snapshot is neither used nor written.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#SCANNER_SNAPSHOT
+ *
+ * @since 6.3
+ */
+public class SnapshotScanner implements Scanner {
+	private static final Logger log = Logger.getLogger( SnapshotScanner.class );
+
+	private static final int MAGIC = 0x48534e50;
+	private static final int FORMAT_VERSION = 1;
+
+	private final Scanner delegate;
+	private final Path snapshotFile;
+	private final ClassLoaderAccess classLoaderAccess;
+
+	public SnapshotScanner(Scanner delegate, Path snapshotFile, ClassLoaderAccess classLoaderAccess) {
+		this.delegate = delegate;
+		this.snapshotFile = snapshotFile;
+		this.classLoaderAccess = classLoaderAccess;
+	}
+
+	@Override
+	public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanParameters parameters) {
+		final String key = computeKey( environment, options );
+		if ( key == null ) {
+			return delegate.scan( environment, options, parameters );
+		}
+
+		final ScanResult snapshot = readSnapshot( key );
+		if ( snapshot != null ) {
+			log.debugf( "Using scan result snapshot [%s]", snapshotFile );
+			return snapshot;
+		}
+
+		final ScanResult scanResult = delegate.scan( environment, options, parameters );
+		try {
+			return writeSnapshot( key, scanResult );
+		}
+		catch (IOException e) {
+			log.debugf( e, "Unable to write scan result snapshot [%s]", snapshotFile );
+			return scanResult;
+		}
+	}
+
+	private ScanResult readSnapshot(String key) {
+		if ( !Files.isRegularFile( snapshotFile ) ) {
+			return null;
+		}
+		try ( DataInputStream input = new DataInputStream( new BufferedInputStream( Files.newInputStream( snapshotFile ) ) ) ) {
+			if ( input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION || !key.equals( input.readUTF() ) ) {
+				log.debugf( "Scan result snapshot [%s] is stale", snapshotFile );
+				return null;
+			}
+
+			final int packageCount = input.readInt();
+			final Set<PackageDescriptor> packages = new HashSet<>( packageCount );
+			for ( int i = 0; i < packageCount; i++ ) {
+				final String name = input.readUTF();
+				packages.add( new PackageDescriptorImpl(
+						name,
+						new ResourceInputStreamAccess( name.replace( '.', '/' ) + "/package-info.class", classLoaderAccess )
+				) );
+			}
+
+			final int classCount = input.readInt();
+			final Set<ClassDescriptor> classes = new HashSet<>( classCount );
+			final ClassDescriptor.Categorization[] categorizations = ClassDescriptor.Categorization.values();
+			for ( int i = 0; i < classCount; i++ ) {
+				final String name = input.readUTF();
+				classes.add( new ClassDescriptorImpl(
+						name,
+						categorizations[input.readByte()],
+						new ResourceInputStreamAccess( name.replace( '.', '/' ) + ".class", classLoaderAccess )
+				) );
+			}
+
+			final int mappingFileCount = input.readInt();
+			final Set<MappingFileDescriptor> mappingFiles = new HashSet<>( mappingFileCount );
+			for ( int i = 0; i < mappingFileCount; i++ ) {
+				final String name = input.readUTF();
+				final String streamName = input.readUTF();
+				final byte[] content = new byte[input.readInt()];
+				input.readFully( content );
+				mappingFiles.add( new MappingFileDescriptorImpl(
+						name,
+						new ByteArrayInputStreamAccess( streamName, content )
+				) );
+			}
+
+			return new ScanResultImpl( packages, classes, mappingFiles );
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to read scan result snapshot [%s]", snapshotFile );
+			return null;
+		}
+	}
+
+	private ScanResult writeSnapshot(String key, ScanResult scanResult) throws IOException {
+		// the mapping file streams might not be readable twice, so we use the content we wrote
+		final Set<MappingFileDescriptor> mappingFiles = new HashSet<>( scanResult.getLocatedMappingFiles().size() );
+
+		final Path directory = snapshotFile.toAbsolutePath().getParent();
+		if ( directory != null ) {
+			Files.createDirectories( directory );
+		}
+		final Path temporaryFile = Files.createTempFile( directory, snapshotFile.getFileName().toString(), ".tmp" );
+		try {
+			try ( DataOutputStream output = new DataOutputStream( new BufferedOutputStream( Files.newOutputStream( temporaryFile ) ) ) ) {
+				output.writeInt( MAGIC );
+				output.writeInt( FORMAT_VERSION );
+				output.writeUTF( key );
+
+				output.writeInt( scanResult.getLocatedPackages().size() );
+				for ( PackageDescriptor packageDescriptor : scanResult.getLocatedPackages() ) {
+					output.writeUTF( packageDescriptor.getName() );
+				}
+
+				output.writeInt( scanResult.getLocatedClasses().size() );
+				for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
+					output.writeUTF( classDescriptor.getName() );
+					output.writeByte( classDescriptor.getCategorization().ordinal() );
+				}
+
+				output.writeInt( scanResult.getLocatedMappingFiles().size() );
+				for ( MappingFileDescriptor mappingFileDescriptor : scanResult.getLocatedMappingFiles() ) {
+					final InputStreamAccess streamAccess = mappingFileDescriptor.getStreamAccess();
+					final byte[] content;
+					try ( InputStream inputStream = streamAccess.accessInputStream() ) {
+						content = inputStream.readAllBytes();
+					}
+					final String streamName = streamAccess.getStreamName() == null
+							? mappingFileDescriptor.getName()
+							: streamAccess.getStreamName();
+					output.writeUTF( mappingFileDescriptor.getName() );
+					output.writeUTF( streamName );
+					output.writeInt( content.length );
+					output.write( content );
+					mappingFiles.add( new MappingFileDescriptorImpl(
+							mappingFileDescriptor.getName(),
+							new ByteArrayInputStreamAccess( streamName, content )
+					) );
+				}
+			}
+			try {
+				Files.move( temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+			}
+			catch (AtomicMoveNotSupportedException e) {
+				Files.move( temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING );
+			}
+		}
+		finally {
+			Files.deleteIfExists( temporaryFile );
+		}
+		log.debugf( "Wrote scan result snapshot [%s]", snapshotFile );
+
+		return new ScanResultImpl( scanResult.getLocatedPackages(), scanResult.getLocatedClasses(), mappingFiles );
+	}
+
+	private static String computeKey(ScanEnvironment environment, ScanOptions options) {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( "Unable to compute the scan result snapshot key", e );
+		}
+
+		update( digest, Version.getVersionString() );
+		update( digest, options.canDetectUnlistedClassesInRoot() + ":"
+				+ options.canDetectUnlistedClassesInNonRoot() + ":"
+				+ options.canDetectHibernateMappingFiles() );
+
+		final List<URL> urls = new ArrayList<>();
+		if ( environment.getRootUrl() != null ) {
+			urls.add( environment.getRootUrl() );
+		}
+		if ( environment.getNonRootUrls() != null ) {
+			urls.addAll( environment.getNonRootUrls() );
+		}
+		for ( URL url : urls ) {
+			update( digest, entryPath( url ) );
+			if ( !updateWithArchiveState( digest, url ) ) {
+				log.debugf( "Unable to tell whether [%s] changed, ignoring the scan result snapshot", url );
+				return null;
+			}
+		}
+		if ( environment.getExplicitlyListedClassNames() != null ) {
+			for ( String className : environment.getExplicitlyListedClassNames() ) {
+				update( digest, className );
+			}
+		}
+		if ( environment.getExplicitlyListedMappingFiles() != null ) {
+			for ( String mappingFile : environment.getExplicitlyListedMappingFiles() ) {
+				update( digest, mappingFile );
+			}
+		}
+
+		final StringBuilder key = new StringBuilder();
+		for ( byte b : digest.digest() ) {
+			key.append( Character.forDigit( ( b >> 4 ) & 0xf, 16 ) ).append( Character.forDigit( b & 0xf, 16 ) );
+		}
+		return key.toString();
+	}
+
+	private static boolean updateWithArchiveState(MessageDigest digest, URL url) {
+		final File file = resolveFile( url );
+		if ( file == null ) {
+			return false;
+		}
+		try {
+			if ( file.isDirectory() ) {
+				final Path directory = file.toPath();
+				try ( Stream<Path> files = Files.walk( directory ) ) {
+					final List<Path> paths = files.filter( Files::isRegularFile ).sorted().collect( Collectors.toList() );
+					for ( Path path : paths ) {
+						update( digest, directory.relativize( path ).toString().replace( File.separatorChar, '/' ) );
+						updateWithContent( digest, path );
+					}
+				}
+			}
+			else if ( file.isFile() ) {
+				updateWithArchiveContent( digest, file );
+			}
+			else {
+				return false;
+			}
+		}
+		catch (IOException | UncheckedIOException e) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Digests the names, sizes and CRCs of the entries of a jar, which are read
+	 * from its central directory, or the bytes of any other file
+	 */
+	private static void updateWithArchiveContent(MessageDigest digest, File file) throws IOException {
+		final ZipFile zipFile;
+		try {
+			zipFile = new ZipFile( file );
+		}
+		catch (ZipException e) {
+			updateWithContent( digest, file.toPath() );
+			return;
+		}
+		try ( zipFile ) {
+			final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+			while ( entries.hasMoreElements() ) {
+				final ZipEntry entry = entries.nextElement();
+				update( digest, entry.getName() + ":" + entry.getSize() + ":" + entry.getCrc() );
+			}
+		}
+	}
+
+	private static void updateWithContent(MessageDigest digest, Path path) throws IOException {
+		try ( InputStream input = Files.newInputStream( path ) ) {
+			final byte[] buffer = new byte[8192];
+			int read;
+			while ( ( read = input.read( buffer ) ) >= 0 ) {
+				digest.update( buffer, 0, read );
+			}
+		}
+		digest.update( (byte) 0 );
+	}
+
+	/**
+	 * The path of a {@code jar:} URL inside its archive, which, unlike the
+	 * location of the archive, is the same wherever the archive is deployed
+	 */
+	private static String entryPath(URL url) {
+		if ( "jar".equals( url.getProtocol() ) ) {
+			final String path = url.getPath();
+			final int separator = path.indexOf( "!/" );
+			return separator < 0 ? "" : path.substring( separator + 2 );
+		}
+		return "";
+	}
+
+	/**
+	 * The file or directory of the given {@code file:} URL, or the archive
+	 * of the given {@code jar:} URL, or {@code null} if the URL is not backed
+	 * by the file system
+	 */
+	private static File resolveFile(URL url) {
+		try {
+			if ( "jar".equals( url.getProtocol() ) ) {
+				final String path = url.getPath();
+				final int separator = path.indexOf( "!/" );
+				return resolveFile( new URL( separator < 0 ? path : path.substring( 0, separator ) ) );
+			}
+			else if ( "file".equals( url.getProtocol() ) ) {
+				return new File( url.toURI() );
+			}
+			else {
+				return null;
+			}
+		}
+		catch (MalformedURLException | URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update( value.getBytes( StandardCharsets.UTF_8 ) );
+		digest.update( (byte) 0 );
+	}
+
+	/**
+	 * Access to a class file, located through the {@link ClassLoaderAccess} of the scan
+	 */
+	private static final class ResourceInputStreamAccess implements InputStreamAccess {
+		private final String resourceName;
+		private final ClassLoaderAccess classLoaderAccess;
+
+		private ResourceInputStreamAccess(String resourceName, ClassLoaderAccess classLoaderAccess) {
+			this.resourceName = resourceName;
+			this.classLoaderAccess = classLoaderAccess;
+		}
+
+		@Override
+		public String getStreamName() {
+			return resourceName;
+		}
+
+		@Override
+		public InputStream accessInputStream() {
+			final URL url = classLoaderAccess.locateResource( resourceName );
+			if ( url == null ) {
+				throw new HibernateException( "Unable to locate resource [" + resourceName + "]" );
+			}
+			try {
+				return url.openStream();
+			}
+			catch (IOException e) {
+				throw new HibernateException( "Unable to open resource [" + resourceName + "]", e );
+			}
+		}
+	}
+}
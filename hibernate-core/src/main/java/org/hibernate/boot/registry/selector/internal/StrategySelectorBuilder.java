@@ -41,6 +41,8 @@ import org.hibernate.query.sqm.mutation.spi.SqmMultiTableMutationStrategy;
 import org.hibernate.resource.transaction.backend.jdbc.internal.JdbcResourceLocalTransactionCoordinatorBuilderImpl;
 import org.hibernate.resource.transaction.backend.jta.internal.JtaTransactionCoordinatorBuilderImpl;
 import org.hibernate.resource.transaction.spi.TransactionCoordinatorBuilder;
+import org.hibernate.sql.results.internal.JfrResultsProfiler;
+import org.hibernate.sql.results.spi.ResultsProfiler;
 import org.hibernate.type.format.FormatMapper;
 import org.hibernate.type.format.jackson.JacksonJsonFormatMapper;
 import org.hibernate.type.format.jackson.JacksonXmlFormatMapper;
@@ -121,6 +123,7 @@ public class StrategySelectorBuilder {
 		addCacheKeysFactories( strategySelector );
 		addJsonFormatMappers( strategySelector );
 		addXmlFormatMappers( strategySelector );
+		addResultsProfilers( strategySelector );
 
 		// apply auto-discovered registrations
 		for ( StrategyRegistrationProvider provider : classLoaderService.loadJavaServices( StrategyRegistrationProvider.class ) ) {
@@ -298,4 +301,12 @@ public class StrategySelectorBuilder {
 				JaxbXmlFormatMapper.class
 		);
 	}
+
+	private static void addResultsProfilers(StrategySelectorImpl strategySelector) {
+		strategySelector.registerStrategyImplementor(
+				ResultsProfiler.class,
+				JfrResultsProfiler.SHORT_NAME,
+				JfrResultsProfiler.class
+		);
+	}
 }
@@ -18,6 +18,7 @@ import org.hibernate.TimeZoneStorageStrategy;
 import org.hibernate.boot.SchemaAutoTooling;
 import org.hibernate.boot.TempTableDdlTransactionHandling;
 import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.cache.spi.QueryCacheLayout;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.internal.BaselineSessionEventsListenerBuilder;
@@ -35,6 +36,7 @@ import org.hibernate.query.sqm.mutation.spi.SqmMultiTableMutationStrategy;
 import org.hibernate.query.sqm.sql.SqmTranslatorFactory;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.sql.results.spi.ResultsProfiler;
 import org.hibernate.type.format.FormatMapper;
 
 /**
@@ -207,6 +209,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isOrderInsertsEnabled();
 	}
 
+	@Override
+	public int getParallelDirtyCheckingThreshold() {
+		return delegate.getParallelDirtyCheckingThreshold();
+	}
+
+	@Override
+	public int getDynamicUpdateCacheMaxSize() {
+		return delegate.getDynamicUpdateCacheMaxSize();
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return delegate.isMultiTenancyEnabled();
@@ -272,6 +284,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isDirectReferenceCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return delegate.isCompactCacheEntriesEnabled();
+	}
+
+	@Override
+	public QueryCacheLayout getQueryCacheLayout() {
+		return delegate.getQueryCacheLayout();
+	}
+
+	@Override
+	public boolean isQueryCacheTenantPartitioningEnabled() {
+		return delegate.isQueryCacheTenantPartitioningEnabled();
+	}
+
 	@Override
 	public boolean isAutoEvictCollectionCache() {
 		return delegate.isAutoEvictCollectionCache();
@@ -412,11 +439,26 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public boolean isCompiledRowReadersEnabled() {
+		return delegate.isCompiledRowReadersEnabled();
+	}
+
+	@Override
+	public ResultsProfiler getResultsProfiler() {
+		return delegate.getResultsProfiler();
+	}
+
 	@Override
 	public int getQueryStatisticsMaxSize() {
 		return delegate.getQueryStatisticsMaxSize();
 	}
 
+	@Override
+	public int getStatementStatisticsMaxSize() {
+		return delegate.getStatementStatisticsMaxSize();
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return delegate.areJPACallbacksEnabled();
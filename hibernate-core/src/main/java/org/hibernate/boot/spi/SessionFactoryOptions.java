@@ -18,6 +18,7 @@ import org.hibernate.TimeZoneStorageStrategy;
 import org.hibernate.boot.SchemaAutoTooling;
 import org.hibernate.boot.TempTableDdlTransactionHandling;
 import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.cache.spi.QueryCacheLayout;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -31,6 +32,7 @@ import org.hibernate.query.spi.QueryEngineOptions;
 import org.hibernate.query.sqm.NullPrecedence;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.sql.results.spi.ResultsProfiler;
 import org.hibernate.stat.Statistics;
 import org.hibernate.type.format.FormatMapper;
 
@@ -152,6 +154,29 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isOrderInsertsEnabled();
 
+	/**
+	 * The minimum number of managed entities for dirty checking to be performed
+	 * in parallel at flush time, or {@code 0} if it is never performed in parallel.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+	 *
+	 * @since 6.3
+	 */
+	default int getParallelDirtyCheckingThreshold() {
+		return 0;
+	}
+
+	/**
+	 * The maximum number of dynamic update statements cached per entity.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#DYNAMIC_UPDATE_CACHE_MAX_SIZE
+	 *
+	 * @since 6.3
+	 */
+	default int getDynamicUpdateCacheMaxSize() {
+		return 64;
+	}
+
 	boolean isMultiTenancyEnabled();
 
 	CurrentTenantIdentifierResolver getCurrentTenantIdentifierResolver();
@@ -172,6 +197,40 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isStructuredCacheEntriesEnabled();
 
+	/**
+	 * Should entity cache entries be stored in a compact binary form?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_COMPACT_CACHE_ENTRIES
+	 *
+	 * @since 6.3
+	 */
+	default boolean isCompactCacheEntriesEnabled() {
+		return false;
+	}
+
+	/**
+	 * The layout of query results stored in the query cache.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_LAYOUT
+	 *
+	 * @since 6.3
+	 */
+	default QueryCacheLayout getQueryCacheLayout() {
+		return QueryCacheLayout.FULL;
+	}
+
+	/**
+	 * Whether the query spaces of entities with a tenant id are invalidated
+	 * tenant by tenant.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_TENANT_PARTITIONING
+	 *
+	 * @since 6.3
+	 */
+	default boolean isQueryCacheTenantPartitioningEnabled() {
+		return false;
+	}
+
 	boolean isDirectReferenceCacheEntriesEnabled();
 
 	boolean isAutoEvictCollectionCache();
@@ -263,10 +322,31 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#COMPILED_ROW_READERS
+	 */
+	default boolean isCompiledRowReadersEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#RESULTS_PROFILER
+	 */
+	default ResultsProfiler getResultsProfiler() {
+		return null;
+	}
+
 	default int getQueryStatisticsMaxSize() {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_STATISTICS_MAX_SIZE
+	 */
+	default int getStatementStatisticsMaxSize() {
+		return 0;
+	}
+
 	default boolean areJPACallbacksEnabled() {
 		return true;
 	}
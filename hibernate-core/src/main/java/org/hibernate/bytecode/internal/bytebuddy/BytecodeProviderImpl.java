@@ -47,6 +47,7 @@ import org.hibernate.property.access.spi.Setter;
 import org.hibernate.property.access.spi.SetterFieldImpl;
 import org.hibernate.property.access.spi.SetterMethodImpl;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+import org.hibernate.sql.results.spi.RowReaderCompiler;
 
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.NamingStrategy;
@@ -108,6 +109,8 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 
 	private final ByteBuddyProxyHelper byteBuddyProxyHelper;
 
+	private final RowReaderCompilerImpl rowReaderCompiler;
+
 	/**
 	 * Constructs a ByteBuddy BytecodeProvider instance which attempts to auto-detect the target JVM version
 	 * from the currently running one, with a fallback on Java 11.
@@ -123,6 +126,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 	public BytecodeProviderImpl(ClassFileVersion targetCompatibleJVM) {
 		this.byteBuddyState = new ByteBuddyState( targetCompatibleJVM );
 		this.byteBuddyProxyHelper = new ByteBuddyProxyHelper( byteBuddyState );
+		this.rowReaderCompiler = new RowReaderCompilerImpl( byteBuddyState );
 	}
 
 	@Override
@@ -1318,9 +1322,15 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		return new EnhancerImpl( enhancementContext, byteBuddyState );
 	}
 
+	@Override
+	public RowReaderCompiler getRowReaderCompiler() {
+		return rowReaderCompiler;
+	}
+
 	@Override
 	public void resetCaches() {
 		byteBuddyState.clearState();
+		rowReaderCompiler.clearState();
 	}
 
 }
@@ -0,0 +1,210 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.HibernateException;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.internal.CompiledRowReader;
+import org.hibernate.sql.results.internal.InitializersList;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.sql.results.spi.RowReader;
+import org.hibernate.sql.results.spi.RowReaderCompiler;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+import net.bytebuddy.NamingStrategy;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.implementation.StubMethod;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+/**
+ * Generates a {@link CompiledRowReader} subclass per shape of result mapping.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#COMPILED_ROW_READERS
+ */
+final class RowReaderCompilerImpl implements RowReaderCompiler {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( RowReaderCompilerImpl.class );
+
+	private static final String ROW_READER_NAMING_SUFFIX = "HibernateRowReader";
+
+	// past this size, the generated methods would not be compiled by the JIT anyway
+	private static final int MAX_CALLS_PER_METHOD = 256;
+	// bound the number of generated classes, in case of many distinct result mappings
+	private static final int MAX_GENERATED_CLASSES = 1024;
+
+	private static final Method ASSEMBLER = resolve( "assembler", int.class );
+	private static final Method INITIALIZER = resolve( "initializer", int.class );
+	private static final Method KEY_RESOLUTION_INITIALIZER = resolve( "keyResolutionInitializer", int.class );
+	private static final Method INSTANCE_RESOLUTION_INITIALIZER = resolve( "instanceResolutionInitializer", int.class );
+	private static final Method SET = resolve( "set", Object[].class, int.class, Object.class );
+
+	private static final Method ASSEMBLE;
+	private static final Method RESOLVE_KEY;
+	private static final Method RESOLVE_INSTANCE;
+	private static final Method INITIALIZE_INSTANCE;
+	private static final Method FINISH_UP_ROW;
+
+	static {
+		try {
+			ASSEMBLE = DomainResultAssembler.class.getMethod(
+					"assemble",
+					RowProcessingState.class,
+					JdbcValuesSourceProcessingOptions.class
+			);
+			RESOLVE_KEY = Initializer.class.getMethod( "resolveKey", RowProcessingState.class );
+			RESOLVE_INSTANCE = Initializer.class.getMethod( "resolveInstance", RowProcessingState.class );
+			INITIALIZE_INSTANCE = Initializer.class.getMethod( "initializeInstance", RowProcessingState.class );
+			FINISH_UP_ROW = Initializer.class.getMethod( "finishUpRow", RowProcessingState.class );
+		}
+		catch (NoSuchMethodException e) {
+			throw new HibernateException( e );
+		}
+	}
+
+	private final ByteBuddyState byteBuddyState;
+	private final ConcurrentHashMap<List<Class<?>>, GeneratedRowReader> generatedRowReaders = new ConcurrentHashMap<>();
+
+	RowReaderCompilerImpl(ByteBuddyState byteBuddyState) {
+		this.byteBuddyState = byteBuddyState;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> @Nullable RowReader<T> compile(
+			List<DomainResultAssembler<?>> resultAssemblers,
+			InitializersList initializers,
+			RowTransformer<T> rowTransformer,
+			Class<T> domainResultJavaType) {
+		if ( resultAssemblers.size() > MAX_CALLS_PER_METHOD || initializers.size() > MAX_CALLS_PER_METHOD ) {
+			return null;
+		}
+
+		final List<Class<?>> shape = CompiledRowReader.shapeOf( resultAssemblers, initializers );
+		GeneratedRowReader generated = generatedRowReaders.get( shape );
+		if ( generated == null ) {
+			if ( generatedRowReaders.size() >= MAX_GENERATED_CLASSES ) {
+				return null;
+			}
+			generated = generatedRowReaders.computeIfAbsent(
+					shape,
+					(s) -> generate( resultAssemblers.size(), initializers.size() )
+			);
+		}
+
+		if ( generated.constructor == null ) {
+			return null;
+		}
+		try {
+			return (RowReader<T>) generated.constructor.newInstance(
+					resultAssemblers,
+					initializers,
+					rowTransformer,
+					domainResultJavaType
+			);
+		}
+		catch (Exception e) {
+			throw new HibernateException( "Unable to instantiate generated row reader", e );
+		}
+	}
+
+	void clearState() {
+		generatedRowReaders.clear();
+	}
+
+	private GeneratedRowReader generate(int assemblerCount, int initializerCount) {
+		try {
+			final Class<?> rowReaderClass = byteBuddyState.load( CompiledRowReader.class, byteBuddy -> byteBuddy
+					.with( new NamingStrategy.SuffixingRandom(
+							ROW_READER_NAMING_SUFFIX,
+							new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( CompiledRowReader.class.getName() )
+					) )
+					.subclass( CompiledRowReader.class, ConstructorStrategy.Default.IMITATE_SUPER_CLASS_OPENING )
+					.method( named( "resolveKeys" ) )
+					.intercept( initializerCalls( KEY_RESOLUTION_INITIALIZER, RESOLVE_KEY, initializerCount ) )
+					.method( named( "resolveInstances" ) )
+					.intercept( initializerCalls( INSTANCE_RESOLUTION_INITIALIZER, RESOLVE_INSTANCE, initializerCount ) )
+					.method( named( "initialize" ) )
+					.intercept( initializerCalls( INITIALIZER, INITIALIZE_INSTANCE, initializerCount ) )
+					.method( named( "finishUpRow" ) )
+					.intercept( initializerCalls( INITIALIZER, FINISH_UP_ROW, initializerCount ) )
+					.method( named( "assemble" ) )
+					.intercept( assemblerCalls( assemblerCount ) )
+			);
+			return new GeneratedRowReader( rowReaderClass.getConstructor(
+					List.class,
+					InitializersList.class,
+					RowTransformer.class,
+					Class.class
+			) );
+		}
+		catch (Exception e) {
+			// remember the failure, so that we don't try again for each execution
+			LOG.debugf( e, "Unable to generate row reader, falling back to the standard row reader" );
+			return new GeneratedRowReader( null );
+		}
+	}
+
+	/**
+	 * {@code target( i ).method( rowProcessingState )} for each initializer
+	 */
+	private static Implementation initializerCalls(Method target, Method method, int count) {
+		Implementation.Composable calls = null;
+		for ( int i = 0; i < count; i++ ) {
+			final MethodCall call = MethodCall.invoke( method )
+					.onMethodCall( MethodCall.invoke( target ).with( i ) )
+					.withArgument( 0 );
+			calls = calls == null ? call : calls.andThen( call );
+		}
+		return calls == null ? StubMethod.INSTANCE : calls;
+	}
+
+	/**
+	 * {@code set( resultRow, i, assembler( i ).assemble( rowProcessingState, options ) )} for each assembler
+	 */
+	private static Implementation assemblerCalls(int count) {
+		Implementation.Composable calls = null;
+		for ( int i = 0; i < count; i++ ) {
+			final MethodCall call = MethodCall.invoke( SET )
+					.withArgument( 0 )
+					.with( i )
+					.withMethodCall( MethodCall.invoke( ASSEMBLE )
+							.onMethodCall( MethodCall.invoke( ASSEMBLER ).with( i ) )
+							.withArgument( 1, 2 ) );
+			calls = calls == null ? call : calls.andThen( call );
+		}
+		return calls == null ? StubMethod.INSTANCE : calls;
+	}
+
+	private static Method resolve(String name, Class<?>... parameterTypes) {
+		try {
+			return CompiledRowReader.class.getDeclaredMethod( name, parameterTypes );
+		}
+		catch (NoSuchMethodException e) {
+			throw new HibernateException( e );
+		}
+	}
+
+	private static final class GeneratedRowReader {
+		private final @Nullable Constructor<?> constructor;
+
+		private GeneratedRowReader(@Nullable Constructor<?> constructor) {
+			this.constructor = constructor;
+		}
+	}
+}
@@ -12,6 +12,7 @@ import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.property.access.spi.PropertyAccess;
 import org.hibernate.service.Service;
+import org.hibernate.sql.results.spi.RowReaderCompiler;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -21,6 +22,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * Bytecode requirements break down into the following areas<ol>
  *     <li>proxy generation (both for runtime-lazy-loading and basic proxy generation) {@link #getProxyFactoryFactory()}</li>
  *     <li>bean reflection optimization {@link #getReflectionOptimizer}</li>
+ *     <li>result row reading {@link #getRowReaderCompiler()}</li>
  * </ol>
  *
  * @author Steve Ebersole
@@ -67,6 +69,19 @@ public interface BytecodeProvider extends Service {
 	 */
 	@Nullable Enhancer getEnhancer(EnhancementContext enhancementContext);
 
+	/**
+	 * Retrieve the compiler of specialized {@link org.hibernate.sql.results.spi.RowReader}s,
+	 * if this provider supports generating them.
+	 *
+	 * @return The compiler, or {@code null} if not supported.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#COMPILED_ROW_READERS
+	 * @since 6.3
+	 */
+	default @Nullable RowReaderCompiler getRowReaderCompiler() {
+		return null;
+	}
+
 	/**
 	 * Some BytecodeProvider implementations will have classloader specific caching.
 	 * These caches are useful at runtime but need to be reset at least on SessionFactory shutdown
@@ -0,0 +1,267 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.LocalStorageAccess;
+import org.hibernate.cache.spi.support.OffHeapStorageAccess;
+import org.hibernate.cache.spi.support.QueryResultsRegionTemplate;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.TimestampsRegionTemplate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import static org.hibernate.cfg.AvailableSettings.CACHE_LOCAL_MAX_ENTRIES;
+import static org.hibernate.cfg.AvailableSettings.CACHE_LOCAL_OFF_HEAP_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.CACHE_LOCAL_TTL;
+import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
+
+/**
+ * A {@link RegionFactory} keeping the cached data on-heap, in the memory of the
+ * current JVM, using {@link LocalStorageAccess}.  Meant for single-node deployments
+ * which need a second-level cache but no external caching provider.
+ * <p>
+ * Selected by setting {@value org.hibernate.cfg.AvailableSettings#CACHE_REGION_FACTORY}
+ * to {@value #SHORT_NAME}.  The size and time to live of the entity, collection,
+ * natural id, and query results regions are controlled by
+ * {@value org.hibernate.cfg.AvailableSettings#CACHE_LOCAL_MAX_ENTRIES} and
+ * {@value org.hibernate.cfg.AvailableSettings#CACHE_LOCAL_TTL}.  The timestamps
+ * region is never bounded, since evicting a timestamp would make stale query
+ * results look up-to-date.
+ * <p>
+ * The entity, collection, and natural id regions may instead keep their data
+ * outside the heap, using {@link OffHeapStorageAccess}, by setting
+ * {@value org.hibernate.cfg.AvailableSettings#CACHE_LOCAL_OFF_HEAP_MAX_SIZE}.  Since
+ * the off-heap storage only keeps serialized copies of the cached values, a region
+ * holding immutable entities may not be kept off-heap while
+ * {@value org.hibernate.cfg.AvailableSettings#USE_DIRECT_REFERENCE_CACHE_ENTRIES}
+ * is enabled.
+ *
+ * @since 6.3
+ */
+public class LocalRegionFactory extends RegionFactoryTemplate {
+	/**
+	 * The short name selecting this region factory
+	 */
+	public static final String SHORT_NAME = "local";
+
+	private Map<String, Object> configValues;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		this.configValues = configValues;
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		configValues = null;
+	}
+
+	private LocalStorageAccess createStorageAccess(String regionName) {
+		final int defaultMaxEntries = ConfigurationHelper.getInt( CACHE_LOCAL_MAX_ENTRIES, configValues, 10_000 );
+		long timeToLive = ConfigurationHelper.getLong( CACHE_LOCAL_TTL + '.' + regionName, configValues, -1 );
+		if ( timeToLive < 0 ) {
+			timeToLive = ConfigurationHelper.getLong( CACHE_LOCAL_TTL, configValues, 0 );
+		}
+		return new LocalStorageAccess(
+				ConfigurationHelper.getInt( CACHE_LOCAL_MAX_ENTRIES + '.' + regionName, configValues, defaultMaxEntries ),
+				timeToLive
+		);
+	}
+
+	@Override
+	public DomainDataRegion buildDomainDataRegion(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		verifyStarted();
+		final String regionName = regionConfig.getRegionName();
+		final long defaultOffHeapMaxSize = ConfigurationHelper.getLong( CACHE_LOCAL_OFF_HEAP_MAX_SIZE, configValues, 0 );
+		final long offHeapMaxSize = ConfigurationHelper.getLong(
+				CACHE_LOCAL_OFF_HEAP_MAX_SIZE + '.' + regionName,
+				configValues,
+				-1
+		);
+		if ( offHeapMaxSize > 0 || ( offHeapMaxSize < 0 && defaultOffHeapMaxSize > 0 ) ) {
+			if ( mayHoldReferenceCacheEntries( regionConfig, buildingContext ) ) {
+				throw new CacheException(
+						"Region '" + regionName + "' holds immutable entities, which may be cached as direct references ('"
+								+ USE_DIRECT_REFERENCE_CACHE_ENTRIES + "'), and can therefore not be kept off-heap ('"
+								+ CACHE_LOCAL_OFF_HEAP_MAX_SIZE + "')"
+				);
+			}
+			final OffHeapStorageAccess storageAccess = new OffHeapStorageAccess(
+					offHeapMaxSize > 0 ? offHeapMaxSize : defaultOffHeapMaxSize
+			);
+			return new LocalDomainDataRegion( regionConfig, this, storageAccess, storageAccess, buildingContext );
+		}
+		else {
+			final LocalStorageAccess storageAccess = createStorageAccess( regionName );
+			return new LocalDomainDataRegion( regionConfig, this, storageAccess, storageAccess, buildingContext );
+		}
+	}
+
+	private static boolean mayHoldReferenceCacheEntries(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		if ( buildingContext.getSessionFactory().getSessionFactoryOptions().isDirectReferenceCacheEntriesEnabled() ) {
+			for ( EntityDataCachingConfig entityCaching : regionConfig.getEntityCaching() ) {
+				if ( !entityCaching.isMutable() ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public QueryResultsRegion buildQueryResultsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new LocalQueryResultsRegion( regionName, this, createQueryResultsRegionStorageAccess( regionName, sessionFactory ) );
+	}
+
+	@Override
+	protected LocalStorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return createStorageAccess( regionName );
+	}
+
+	@Override
+	public TimestampsRegion buildTimestampsRegion(String regionName, SessionFactoryImplementor sessionFactory) {
+		verifyStarted();
+		return new LocalTimestampsRegion( regionName, this, createTimestampsRegionStorageAccess( regionName, sessionFactory ) );
+	}
+
+	@Override
+	protected LocalStorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new LocalStorageAccess( 0, 0 );
+	}
+
+	private static class LocalDomainDataRegion extends DomainDataRegionImpl implements ExtendedStatisticsSupport {
+		private final ExtendedStatisticsSupport statistics;
+
+		private LocalDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				RegionFactoryTemplate regionFactory,
+				DomainDataStorageAccess storageAccess,
+				ExtendedStatisticsSupport statistics,
+				DomainDataRegionBuildingContext buildingContext) {
+			super( regionConfig, regionFactory, storageAccess, DefaultCacheKeysFactory.INSTANCE, buildingContext );
+			this.statistics = statistics;
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return statistics.getElementCountInMemory();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return 0;
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return statistics.getSizeInMemory();
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return statistics.getEvictionCount();
+		}
+
+		@Override
+		public long getExpirationCount() {
+			return statistics.getExpirationCount();
+		}
+	}
+
+	private static class LocalQueryResultsRegion extends QueryResultsRegionTemplate
+			implements ExtendedStatisticsSupport {
+		private final LocalStorageAccess storageAccess;
+
+		private LocalQueryResultsRegion(String name, RegionFactory regionFactory, LocalStorageAccess storageAccess) {
+			super( name, regionFactory, storageAccess );
+			this.storageAccess = storageAccess;
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return storageAccess.getElementCountInMemory();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return 0;
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return storageAccess.getSizeInMemory();
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return storageAccess.getEvictionCount();
+		}
+
+		@Override
+		public long getExpirationCount() {
+			return storageAccess.getExpirationCount();
+		}
+	}
+
+	private static class LocalTimestampsRegion extends TimestampsRegionTemplate
+			implements ExtendedStatisticsSupport {
+		private final LocalStorageAccess storageAccess;
+
+		private LocalTimestampsRegion(String name, RegionFactory regionFactory, LocalStorageAccess storageAccess) {
+			super( name, regionFactory, storageAccess );
+			this.storageAccess = storageAccess;
+		}
+
+		@Override
+		public long getElementCountInMemory() {
+			return storageAccess.getElementCountInMemory();
+		}
+
+		@Override
+		public long getElementCountOnDisk() {
+			return 0;
+		}
+
+		@Override
+		public long getSizeInMemory() {
+			return storageAccess.getSizeInMemory();
+		}
+
+		@Override
+		public long getEvictionCount() {
+			return storageAccess.getEvictionCount();
+		}
+
+		@Override
+		public long getExpirationCount() {
+			return storageAccess.getExpirationCount();
+		}
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Objects;
+
+import org.hibernate.binder.internal.TenantIdBinder;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.Generator;
+import org.hibernate.generator.internal.TenantIdGeneration;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Determines the partitions of the query spaces used by the
+ * {@linkplain org.hibernate.cache.spi.TimestampsCache timestamps cache} when
+ * {@value org.hibernate.cfg.AvailableSettings#QUERY_CACHE_TENANT_PARTITIONING}
+ * is enabled.
+ * <p>
+ * A partition is the identifier of a tenant, for the tables of the entities
+ * which have a {@link org.hibernate.annotations.TenantId} attribute.  A session
+ * reads and writes the partition of its tenant as long as the tenant filter is
+ * enabled, that is, unless the session belongs to the root tenant.  A write
+ * which is not known to only affect the data of the tenant of the session, for
+ * example a native query, invalidates the query spaces for every partition.
+ * <p>
+ * The timestamp of a write to a partition is stored under the space qualified
+ * by the partition, and under the space qualified by {@link #ANY_PARTITION},
+ * while the timestamp of a write to every partition is stored under the space
+ * itself.  Cached results read by a session of a tenant are then checked
+ * against the space and the space qualified by the tenant, and cached results
+ * read by a session of the root tenant against the space and the space
+ * qualified by {@link #ANY_PARTITION}.
+ *
+ * @since 6.3
+ */
+public final class QuerySpacePartitions {
+	/**
+	 * The partition qualifying the spaces written to by any partition
+	 */
+	public static final String ANY_PARTITION = "*";
+
+	private static final String TENANT_ID_PARAMETER = TenantIdBinder.FILTER_NAME + '.' + TenantIdBinder.PARAMETER_NAME;
+
+	private QuerySpacePartitions() {
+	}
+
+	/**
+	 * The key of the timestamp of the given space in the given partition
+	 */
+	public static String qualify(String space, String partition) {
+		return space + '#' + partition;
+	}
+
+	/**
+	 * The partition of the data read by the given session, or {@code null}
+	 * if the session may read the data of every partition.
+	 */
+	public static String sessionPartition(SharedSessionContractImplementor session) {
+		if ( !session.getFactory().getSessionFactoryOptions().isQueryCacheTenantPartitioningEnabled() ) {
+			return null;
+		}
+		final String tenantIdentifier = session.getTenantIdentifier();
+		return tenantIdentifier != null
+				&& session.getLoadQueryInfluencers().getEnabledFilter( TenantIdBinder.FILTER_NAME ) != null
+				? tenantIdentifier
+				: null;
+	}
+
+	/**
+	 * The partition of the data written by a bulk operation on the given entities,
+	 * or {@code null} if the operation may affect the data of every partition.
+	 * Since the tenant filter restricts the rows affected by the operations on
+	 * entities with a tenant id, they only affect the partition of the session.
+	 */
+	public static String bulkOperationPartition(
+			SharedSessionContractImplementor session,
+			EntityPersister... persisters) {
+		final String partition = sessionPartition( session );
+		if ( partition == null || persisters.length == 0 ) {
+			return null;
+		}
+		for ( EntityPersister persister : persisters ) {
+			if ( tenantIdPropertyIndex( persister ) < 0 ) {
+				return null;
+			}
+		}
+		return partition;
+	}
+
+	/**
+	 * The partition of the data written when inserting, updating, or deleting the
+	 * given entity, or {@code null} if the entity has no tenant id or does not
+	 * belong to the tenant of the session.
+	 */
+	public static String entityPartition(
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			Object entity) {
+		final String partition = sessionPartition( session );
+		if ( partition == null || entity == null ) {
+			return null;
+		}
+		final int tenantIdIndex = tenantIdPropertyIndex( persister );
+		if ( tenantIdIndex < 0 ) {
+			return null;
+		}
+		final Object tenantId = persister.getValue( entity, tenantIdIndex );
+		return Objects.equals( tenantId, session.getLoadQueryInfluencers().getFilterParameterValue( TENANT_ID_PARAMETER ) )
+				? partition
+				: null;
+	}
+
+	private static int tenantIdPropertyIndex(EntityPersister persister) {
+		final Generator[] generators = persister.getEntityMetamodel().getGenerators();
+		for ( int i = 0; i < generators.length; i++ ) {
+			if ( generators[i] instanceof TenantIdGeneration ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
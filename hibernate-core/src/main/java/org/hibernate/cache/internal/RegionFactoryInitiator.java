@@ -82,6 +82,11 @@ public class RegionFactoryInitiator implements StandardServiceInitiator<RegionFa
 		}
 
 		final Object setting = configurationValues.get( AvailableSettings.CACHE_REGION_FACTORY );
+		if ( LocalRegionFactory.SHORT_NAME.equals( setting ) ) {
+			// the built-in factory is not a registered strategy, so that it never
+			// interferes with the defaulting to the single registered RegionFactory
+			return new LocalRegionFactory();
+		}
 
 		final StrategySelector selector = registry.getService( StrategySelector.class );
 		final Collection<Class<? extends RegionFactory>> implementors = selector.getRegisteredStrategyImplementors( RegionFactory.class );
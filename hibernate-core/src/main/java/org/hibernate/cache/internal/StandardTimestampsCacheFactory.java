@@ -10,6 +10,8 @@ import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 
 /**
  * Standard Hibernate implementation of the QueryCacheFactory interface.  Returns instances of
@@ -25,6 +27,11 @@ public class StandardTimestampsCacheFactory implements TimestampsCacheFactory {
 	public TimestampsCache buildTimestampsCache(
 			CacheImplementor cacheManager,
 			TimestampsRegion timestampsRegion) {
-		return new TimestampsCacheEnabledImpl( timestampsRegion );
+		final long mirrorTimeToLive = ConfigurationHelper.getLong(
+				AvailableSettings.QUERY_CACHE_TIMESTAMPS_MIRROR_TTL,
+				cacheManager.getSessionFactory().getProperties(),
+				0
+		);
+		return new TimestampsCacheEnabledImpl( timestampsRegion, mirrorTimeToLive );
 	}
 }
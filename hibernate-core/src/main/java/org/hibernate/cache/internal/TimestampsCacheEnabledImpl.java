@@ -6,13 +6,21 @@
  */
 package org.hibernate.cache.internal;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.engine.spi.SessionEventListenerManager;
-import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -20,6 +28,16 @@ import org.jboss.logging.Logger;
 
 /**
  * Standard implementation of TimestampsCache
+ * <p>
+ * The timestamps of all the spaces of a query are read from, and written to,
+ * the {@link TimestampsRegion} in a single bulk operation.  Optionally, the
+ * timestamps read from the region are mirrored locally for a short time.
+ * <p>
+ * When {@linkplain org.hibernate.cfg.AvailableSettings#QUERY_CACHE_TENANT_PARTITIONING
+ * tenant partitioning} is enabled, the timestamps are kept per partition, as
+ * described by {@link QuerySpacePartitions}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_TIMESTAMPS_MIRROR_TTL
  *
  * @author Steve Ebersole
  */
@@ -29,9 +47,21 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	public static final boolean DEBUG_ENABLED = log.isDebugEnabled();
 
 	private final TimestampsRegion timestampsRegion;
+	private final long mirrorTimeToLiveNanos;
+	private final ConcurrentMap<String, MirroredTimestamp> mirror;
 
 	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion) {
+		this( timestampsRegion, 0 );
+	}
+
+	/**
+	 * @param mirrorTimeToLive the time, in milliseconds, during which timestamps read
+	 * from the region are reused locally; {@code 0} to always read from the region
+	 */
+	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion, long mirrorTimeToLive) {
 		this.timestampsRegion = timestampsRegion;
+		this.mirrorTimeToLiveNanos = TimeUnit.MILLISECONDS.toNanos( mirrorTimeToLive );
+		this.mirror = mirrorTimeToLive > 0 ? new ConcurrentHashMap<>() : null;
 	}
 
 	@Override
@@ -43,63 +73,97 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	public void preInvalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session) {
-		final SessionFactoryImplementor factory = session.getFactory();
-		final RegionFactory regionFactory = factory.getCache().getRegionFactory();
-
-		final StatisticsImplementor statistics = factory.getStatistics();
-		final boolean stats = statistics.isStatisticsEnabled();
-
+		final RegionFactory regionFactory = session.getFactory().getCache().getRegionFactory();
 		final Long ts = regionFactory.nextTimestamp() + regionFactory.getTimeout();
 
-		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
-		final boolean debugEnabled = log.isDebugEnabled();
-
-		for ( String space : spaces ) {
-			if ( debugEnabled ) {
-				log.debugf( "Pre-invalidating space [%s], timestamp: %s", space, ts );
-			}
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Pre-invalidating spaces %s, timestamp: %s", Arrays.toString( spaces ), ts );
+		}
 
-			try {
-				eventListenerManager.cachePutStart();
+		//put() has nowait semantics, is this really appropriate?
+		//note that it needs to be async replication, never local or sync
+		putTimestamps( spaces, ts, session );
+	}
 
-				//put() has nowait semantics, is this really appropriate?
-				//note that it needs to be async replication, never local or sync
-				timestampsRegion.putIntoCache( space, ts, session );
-			}
-			finally {
-				eventListenerManager.cachePutEnd();
-			}
+	@Override
+	public void invalidate(
+			String[] spaces,
+			SharedSessionContractImplementor session) {
+		final Long ts = session.getFactory().getCache().getRegionFactory().nextTimestamp();
 
-			if ( stats ) {
-				statistics.updateTimestampsCachePut();
-			}
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Invalidating spaces %s, timestamp: %s", Arrays.toString( spaces ), ts );
 		}
+
+		putTimestamps( spaces, ts, session );
+	}
+
+	@Override
+	public void preInvalidate(
+			String[] spaces,
+			String partition,
+			SharedSessionContractImplementor session) {
+		preInvalidate( partitionedSpaces( spaces, partition ), session );
 	}
 
 	@Override
 	public void invalidate(
 			String[] spaces,
+			String partition,
 			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
-		final boolean stats = statistics.isStatisticsEnabled();
+		invalidate( partitionedSpaces( spaces, partition ), session );
+	}
 
-		final Long ts = session.getFactory().getCache().getRegionFactory().nextTimestamp();
-		final boolean debugEnabled = log.isDebugEnabled();
+	/**
+	 * The keys of the timestamps written when invalidating the given spaces
+	 * for the given partition
+	 */
+	private static String[] partitionedSpaces(String[] spaces, String partition) {
+		if ( partition == null ) {
+			return spaces;
+		}
+		final String[] partitionedSpaces = new String[spaces.length * 2];
+		for ( int i = 0; i < spaces.length; i++ ) {
+			partitionedSpaces[2 * i] = QuerySpacePartitions.qualify( spaces[i], partition );
+			partitionedSpaces[2 * i + 1] = QuerySpacePartitions.qualify( spaces[i], QuerySpacePartitions.ANY_PARTITION );
+		}
+		return partitionedSpaces;
+	}
+
+	private void putTimestamps(String[] spaces, Long ts, SharedSessionContractImplementor session) {
+		if ( spaces.length == 0 ) {
+			return;
+		}
 
+		final Map<String, Long> timestamps = new HashMap<>( spaces.length );
 		for ( String space : spaces ) {
-			if ( debugEnabled ) {
-				log.debugf( "Invalidating space [%s], timestamp: %s", space, ts );
+			timestamps.put( space, ts );
+		}
+
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		try {
+			eventListenerManager.cachePutStart();
+			if ( timestamps.size() == 1 ) {
+				timestampsRegion.putIntoCache( spaces[0], ts, session );
+			}
+			else {
+				timestampsRegion.putAllIntoCache( timestamps, session );
 			}
+		}
+		finally {
+			eventListenerManager.cachePutEnd();
 
-			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
-			try {
-				eventListenerManager.cachePutStart();
-				timestampsRegion.putIntoCache( space, ts, session );
+			if ( mirror != null ) {
+				// our own invalidations must be visible immediately
+				final long expiration = System.nanoTime() + mirrorTimeToLiveNanos;
+				for ( String space : timestamps.keySet() ) {
+					mirror.put( space, new MirroredTimestamp( ts, expiration ) );
+				}
 			}
-			finally {
-				eventListenerManager.cachePutEnd();
 
-				if ( stats ) {
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				for ( int i = 0; i < spaces.length; i++ ) {
 					statistics.updateTimestampsCachePut();
 				}
 			}
@@ -111,10 +175,23 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 			String[] spaces,
 			Long timestamp,
 			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		return isUpToDate( Arrays.asList( spaces ), timestamp, session );
+	}
 
-		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
+	@Override
+	public boolean isUpToDate(
+			Collection<String> spaces,
+			Long timestamp,
+			SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final Collection<String> checkedSpaces =
+				session.getFactory().getSessionFactoryOptions().isQueryCacheTenantPartitioningEnabled()
+						? checkedSpaces( spaces, QuerySpacePartitions.sessionPartition( session ) )
+						: spaces;
+		final Map<String, Long> lastUpdates = getLastUpdateTimestamps( checkedSpaces, session );
+
+		for ( String space : checkedSpaces ) {
+			if ( isSpaceOutOfDate( space, lastUpdates.get( space ), timestamp, statistics ) ) {
 				return false;
 			}
 		}
@@ -122,12 +199,25 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		return true;
 	}
 
+	/**
+	 * The keys of the timestamps checked for cached results read by a session
+	 * of the given partition, or of any partition if it is null
+	 */
+	private static Collection<String> checkedSpaces(Collection<String> spaces, String partition) {
+		final String qualifier = partition == null ? QuerySpacePartitions.ANY_PARTITION : partition;
+		final List<String> checkedSpaces = new ArrayList<>( spaces.size() * 2 );
+		for ( String space : spaces ) {
+			checkedSpaces.add( space );
+			checkedSpaces.add( QuerySpacePartitions.qualify( space, qualifier ) );
+		}
+		return checkedSpaces;
+	}
+
 	private boolean isSpaceOutOfDate(
 			String space,
+			Long lastUpdate,
 			Long timestamp,
-			SharedSessionContractImplementor session,
 			StatisticsImplementor statistics) {
-		final Long lastUpdate = getLastUpdateTimestampForSpace( space, session );
 		if ( lastUpdate == null ) {
 			// the last update timestamp for the given space was evicted from the
 			// cache or there have been no writes to it since startup
@@ -157,32 +247,91 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		return false;
 	}
 
-	@Override
-	public boolean isUpToDate(
+	private Map<String, Long> getLastUpdateTimestamps(
 			Collection<String> spaces,
-			Long timestamp,
 			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
-
-		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
-				return false;
+		final Map<String, Long> lastUpdates = new HashMap<>( spaces.size() );
+		final List<String> spacesToRead;
+		if ( mirror == null ) {
+			spacesToRead = new ArrayList<>( spaces );
+		}
+		else {
+			spacesToRead = new ArrayList<>( spaces.size() );
+			final long now = System.nanoTime();
+			for ( String space : spaces ) {
+				final MirroredTimestamp mirrored = mirror.get( space );
+				if ( mirrored != null && mirrored.expiration - now > 0 ) {
+					if ( mirrored.timestamp != null ) {
+						lastUpdates.put( space, mirrored.timestamp );
+					}
+				}
+				else {
+					spacesToRead.add( space );
+				}
 			}
 		}
 
-		return true;
-	}
+		if ( spacesToRead.isEmpty() ) {
+			return lastUpdates;
+		}
 
-	private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
-		Long ts = null;
+		Map<Object, Object> read = null;
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 		try {
-			session.getEventListenerManager().cacheGetStart();
-			ts = (Long) timestampsRegion.getFromCache( space, session );
+			eventListenerManager.cacheGetStart();
+			if ( spacesToRead.size() == 1 ) {
+				final String space = spacesToRead.get( 0 );
+				final Object ts = timestampsRegion.getFromCache( space, session );
+				read = new HashMap<>( 1 );
+				if ( ts != null ) {
+					read.put( space, ts );
+				}
+			}
+			else {
+				read = timestampsRegion.getAllFromCache( spacesToRead, session );
+			}
 		}
 		finally {
-			session.getEventListenerManager().cacheGetEnd( ts != null );
+			eventListenerManager.cacheGetEnd( read != null && !read.isEmpty() );
+		}
+
+		final long expiration = System.nanoTime() + mirrorTimeToLiveNanos;
+		for ( String space : spacesToRead ) {
+			final Long ts = (Long) read.get( space );
+			if ( ts != null ) {
+				lastUpdates.put( space, ts );
+			}
+			if ( mirror != null ) {
+				// don't replace a timestamp written by a concurrent local invalidation
+				mirror.merge(
+						space,
+						new MirroredTimestamp( ts, expiration ),
+						(current, latest) -> current.isNewerThan( latest ) ? current : latest
+				);
+			}
+		}
+		return lastUpdates;
+	}
+
+	@Override
+	public void clear() throws CacheException {
+		if ( mirror != null ) {
+			mirror.clear();
 		}
-		return ts;
+		TimestampsCache.super.clear();
 	}
 
+	private static final class MirroredTimestamp {
+		private final Long timestamp;
+		private final long expiration;
+
+		private MirroredTimestamp(Long timestamp, long expiration) {
+			this.timestamp = timestamp;
+			this.expiration = expiration;
+		}
+
+		private boolean isNewerThan(MirroredTimestamp other) {
+			return timestamp != null && ( other.timestamp == null || timestamp > other.timestamp );
+		}
+	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.cache.spi;
 
+import org.hibernate.stat.CacheRegionStatistics;
+
 /**
  * Optional contract for a {@link Region} defining support for extra statistic information.
  *
@@ -17,4 +19,22 @@ public interface ExtendedStatisticsSupport {
 	long getElementCountOnDisk();
 
 	long getSizeInMemory();
+
+	/**
+	 * The number of entries evicted to make room for new entries.
+	 *
+	 * @since 6.3
+	 */
+	default long getEvictionCount() {
+		return CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	/**
+	 * The number of entries dropped because they expired.
+	 *
+	 * @since 6.3
+	 */
+	default long getExpirationCount() {
+		return CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
 }
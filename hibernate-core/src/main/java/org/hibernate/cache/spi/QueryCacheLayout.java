@@ -0,0 +1,61 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+
+/**
+ * Describes how the JDBC values of query results are laid out in the query
+ * result cache.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_LAYOUT
+ *
+ * @since 6.3
+ */
+@Incubating
+public enum QueryCacheLayout {
+	/**
+	 * Every JDBC value of every row is cached, one array per row.
+	 */
+	FULL,
+	/**
+	 * The JDBC values are cached column by column.  When every selection of the
+	 * query is either a scalar or an entity which may be read from the second-level
+	 * cache, only the identifier (and discriminator and version) of the entities is
+	 * kept, and the entities are resolved from the second-level cache, or from the
+	 * database, when the cached results are read.
+	 */
+	SHALLOW;
+
+	/**
+	 * Interpret the configured {@link QueryCacheLayout} value.  Valid values are
+	 * either a {@code QueryCacheLayout} or its (case-insensitive) name.
+	 *
+	 * @param layout configured {@link QueryCacheLayout} representation
+	 * @return associated {@link QueryCacheLayout} object
+	 */
+	public static QueryCacheLayout interpret(Object layout) {
+		if ( layout == null ) {
+			return FULL;
+		}
+		else if ( layout instanceof QueryCacheLayout ) {
+			return (QueryCacheLayout) layout;
+		}
+		else if ( layout instanceof String ) {
+			for ( QueryCacheLayout value : values() ) {
+				if ( value.name().equalsIgnoreCase( ( (String) layout ).trim() ) ) {
+					return value;
+				}
+			}
+		}
+		throw new HibernateException(
+				"Unrecognized query_cache_layout value : " + layout
+						+ ".  Supported values include 'full' and 'shallow'."
+		);
+	}
+}
@@ -49,6 +49,42 @@ public interface TimestampsCache {
 			String[] spaces,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Perform pre-invalidation of the passed spaces (table names) for
+	 * the given partition only, or for every partition if it is null.
+	 *
+	 * @implNote the method default is to pre-invalidate the spaces for
+	 *           every partition
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_TENANT_PARTITIONING
+	 *
+	 * @since 6.3
+	 */
+	default void preInvalidate(
+			String[] spaces,
+			String partition,
+			SharedSessionContractImplementor session) {
+		preInvalidate( spaces, session );
+	}
+
+	/**
+	 * Perform invalidation of the passed spaces (table names) for the
+	 * given partition only, or for every partition if it is null.
+	 *
+	 * @implNote the method default is to invalidate the spaces for
+	 *           every partition
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_TENANT_PARTITIONING
+	 *
+	 * @since 6.3
+	 */
+	default void invalidate(
+			String[] spaces,
+			String partition,
+			SharedSessionContractImplementor session) {
+		invalidate( spaces, session );
+	}
+
 	/**
 	 * Perform an up-to-date check for the given set of query spaces as
 	 * part of verifying the validity of cached query results.
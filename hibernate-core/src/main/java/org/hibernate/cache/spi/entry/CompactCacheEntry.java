@@ -0,0 +1,412 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.HibernateException;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+/**
+ * Compact CacheEntry format for entities.  The disassembled state is encoded
+ * into a byte array, using a dedicated encoding for the values of the common
+ * basic types, and Java serialization for anything else.  Compared to an array
+ * of boxed values, the byte array takes much less memory in the cache, and is
+ * much cheaper to serialize for remote or off-heap caches.
+ * <p>
+ * Each entry starts with a format version, followed by a fingerprint of the
+ * names and types of the attributes of the entity.  An entry written with a
+ * different format version, or for a different version of the entity mapping,
+ * is treated as a cache miss.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#USE_COMPACT_CACHE_ENTRIES
+ *
+ * @since 6.3
+ */
+public class CompactCacheEntry implements CacheEntryStructure {
+	private static final byte FORMAT_VERSION = 1;
+
+	private static final byte NULL = 0;
+	private static final byte UNFETCHED = 1;
+	private static final byte UNKNOWN_BACK_REF = 2;
+	private static final byte TRUE = 3;
+	private static final byte FALSE = 4;
+	private static final byte BYTE = 5;
+	private static final byte SHORT = 6;
+	private static final byte INTEGER = 7;
+	private static final byte LONG = 8;
+	private static final byte FLOAT = 9;
+	private static final byte DOUBLE = 10;
+	private static final byte CHARACTER = 11;
+	private static final byte STRING = 12;
+	private static final byte BYTES = 13;
+	private static final byte BIG_DECIMAL = 14;
+	private static final byte BIG_INTEGER = 15;
+	private static final byte UUID_VALUE = 16;
+	private static final byte LOCAL_DATE = 17;
+	private static final byte LOCAL_TIME = 18;
+	private static final byte LOCAL_DATE_TIME = 19;
+	private static final byte INSTANT = 20;
+	private static final byte ARRAY = 21;
+	private static final byte SERIALIZED = 22;
+
+	private final EntityPersister persister;
+	private final ConcurrentMap<String, Integer> fingerprints = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a CompactCacheEntry strategy
+	 *
+	 * @param persister The (root) persister whose data needs to be structured.
+	 */
+	public CompactCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final Serializable[] state = entry.getDisassembledState();
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 16 + state.length * 8 );
+		try ( DataOutputStream output = new DataOutputStream( bytes ) ) {
+			output.writeByte( FORMAT_VERSION );
+			writeString( output, entry.getSubclass() );
+			output.writeInt( fingerprint( entry.getSubclass(), persister.getFactory() ) );
+			writeValue( output, entry.getVersion() );
+			writeVarInt( output, state.length );
+			for ( Serializable value : state ) {
+				writeValue( output, value );
+			}
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Unable to encode cache entry for entity [" + entry.getSubclass() + "]", e );
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * @return the cache entry, or {@code null} if the structured form was
+	 * written in a different format, or for a different mapping of the entity
+	 */
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		try ( DataInputStream input = new DataInputStream( new ByteArrayInputStream( (byte[]) structured ) ) ) {
+			if ( input.readByte() != FORMAT_VERSION ) {
+				return null;
+			}
+			final String subclass = readString( input );
+			if ( input.readInt() != fingerprint( subclass, factory ) ) {
+				return null;
+			}
+			final Object version = readValue( input );
+			final Serializable[] state = new Serializable[readVarInt( input )];
+			for ( int i = 0; i < state.length; i++ ) {
+				state[i] = (Serializable) readValue( input );
+			}
+			return new StandardCacheEntryImpl( state, subclass, version );
+		}
+		catch (IOException e) {
+			throw new HibernateException( "Unable to decode cache entry for entity [" + persister.getEntityName() + "]", e );
+		}
+	}
+
+	private int fingerprint(String entityName, SessionFactoryImplementor factory) {
+		final Integer fingerprint = fingerprints.get( entityName );
+		if ( fingerprint != null ) {
+			return fingerprint;
+		}
+		final EntityPersister subclassPersister = factory.getRuntimeMetamodels()
+				.getMappingMetamodel()
+				.findEntityDescriptor( entityName );
+		if ( subclassPersister == null ) {
+			// an unknown entity never matches
+			return 0;
+		}
+		final StringBuilder description = new StringBuilder();
+		describe( description, subclassPersister.getPropertyNames(), subclassPersister.getPropertyTypes() );
+		final int computed = description.toString().hashCode();
+		fingerprints.put( entityName, computed );
+		return computed;
+	}
+
+	/**
+	 * Describes the given attributes by their names, their types, and the JDBC
+	 * types of their basic values, since these determine the disassembled state
+	 */
+	private static void describe(StringBuilder description, String[] names, Type[] types) {
+		description.append( '[' );
+		for ( int i = 0; i < names.length; i++ ) {
+			final Type type = types[i];
+			description.append( names[i] )
+					.append( ':' )
+					.append( type.getName() )
+					.append( ':' )
+					.append( type.getReturnedClass().getName() );
+			if ( type instanceof BasicType<?> ) {
+				description.append( ':' ).append( ( (BasicType<?>) type ).getJdbcType().getDefaultSqlTypeCode() );
+			}
+			else if ( type instanceof CompositeType ) {
+				final CompositeType compositeType = (CompositeType) type;
+				describe( description, compositeType.getPropertyNames(), compositeType.getSubtypes() );
+			}
+			description.append( ';' );
+		}
+		description.append( ']' );
+	}
+
+	private static void writeValue(DataOutputStream output, Object value) throws IOException {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			output.writeByte( UNFETCHED );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			output.writeByte( UNKNOWN_BACK_REF );
+		}
+		else if ( value instanceof String ) {
+			output.writeByte( STRING );
+			writeString( output, (String) value );
+		}
+		else if ( value instanceof Integer ) {
+			output.writeByte( INTEGER );
+			writeVarLong( output, (Integer) value );
+		}
+		else if ( value instanceof Long ) {
+			output.writeByte( LONG );
+			writeVarLong( output, (Long) value );
+		}
+		else if ( value instanceof Boolean ) {
+			output.writeByte( (Boolean) value ? TRUE : FALSE );
+		}
+		else if ( value instanceof Short ) {
+			output.writeByte( SHORT );
+			output.writeShort( (Short) value );
+		}
+		else if ( value instanceof Byte ) {
+			output.writeByte( BYTE );
+			output.writeByte( (Byte) value );
+		}
+		else if ( value instanceof Double ) {
+			output.writeByte( DOUBLE );
+			output.writeDouble( (Double) value );
+		}
+		else if ( value instanceof Float ) {
+			output.writeByte( FLOAT );
+			output.writeFloat( (Float) value );
+		}
+		else if ( value instanceof Character ) {
+			output.writeByte( CHARACTER );
+			output.writeChar( (Character) value );
+		}
+		else if ( value instanceof byte[] ) {
+			output.writeByte( BYTES );
+			writeBytes( output, (byte[]) value );
+		}
+		else if ( value.getClass() == BigDecimal.class ) {
+			final BigDecimal decimal = (BigDecimal) value;
+			output.writeByte( BIG_DECIMAL );
+			writeVarLong( output, decimal.scale() );
+			writeBytes( output, decimal.unscaledValue().toByteArray() );
+		}
+		else if ( value.getClass() == BigInteger.class ) {
+			output.writeByte( BIG_INTEGER );
+			writeBytes( output, ( (BigInteger) value ).toByteArray() );
+		}
+		else if ( value instanceof UUID ) {
+			final UUID uuid = (UUID) value;
+			output.writeByte( UUID_VALUE );
+			output.writeLong( uuid.getMostSignificantBits() );
+			output.writeLong( uuid.getLeastSignificantBits() );
+		}
+		else if ( value instanceof LocalDate ) {
+			output.writeByte( LOCAL_DATE );
+			writeVarLong( output, ( (LocalDate) value ).toEpochDay() );
+		}
+		else if ( value instanceof LocalTime ) {
+			output.writeByte( LOCAL_TIME );
+			writeVarLong( output, ( (LocalTime) value ).toNanoOfDay() );
+		}
+		else if ( value instanceof LocalDateTime ) {
+			final LocalDateTime dateTime = (LocalDateTime) value;
+			output.writeByte( LOCAL_DATE_TIME );
+			writeVarLong( output, dateTime.toLocalDate().toEpochDay() );
+			writeVarLong( output, dateTime.toLocalTime().toNanoOfDay() );
+		}
+		else if ( value instanceof Instant ) {
+			final Instant instant = (Instant) value;
+			output.writeByte( INSTANT );
+			writeVarLong( output, instant.getEpochSecond() );
+			writeVarLong( output, instant.getNano() );
+		}
+		else if ( value.getClass() == Object[].class || value.getClass() == Serializable[].class ) {
+			// the disassembled state of an embeddable
+			final Object[] array = (Object[]) value;
+			output.writeByte( ARRAY );
+			output.writeBoolean( value.getClass() == Serializable[].class );
+			writeVarInt( output, array.length );
+			for ( Object element : array ) {
+				writeValue( output, element );
+			}
+		}
+		else {
+			output.writeByte( SERIALIZED );
+			writeBytes( output, SerializationHelper.serialize( (Serializable) value ) );
+		}
+	}
+
+	private static Object readValue(DataInputStream input) throws IOException {
+		final byte tag = input.readByte();
+		switch ( tag ) {
+			case NULL:
+				return null;
+			case UNFETCHED:
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case UNKNOWN_BACK_REF:
+				return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			case TRUE:
+				return Boolean.TRUE;
+			case FALSE:
+				return Boolean.FALSE;
+			case BYTE:
+				return input.readByte();
+			case SHORT:
+				return input.readShort();
+			case INTEGER:
+				return (int) readVarLong( input );
+			case LONG:
+				return readVarLong( input );
+			case FLOAT:
+				return input.readFloat();
+			case DOUBLE:
+				return input.readDouble();
+			case CHARACTER:
+				return input.readChar();
+			case STRING:
+				return readString( input );
+			case BYTES:
+				return readBytes( input );
+			case BIG_DECIMAL: {
+				final int scale = (int) readVarLong( input );
+				return new BigDecimal( new BigInteger( readBytes( input ) ), scale );
+			}
+			case BIG_INTEGER:
+				return new BigInteger( readBytes( input ) );
+			case UUID_VALUE:
+				return new UUID( input.readLong(), input.readLong() );
+			case LOCAL_DATE:
+				return LocalDate.ofEpochDay( readVarLong( input ) );
+			case LOCAL_TIME:
+				return LocalTime.ofNanoOfDay( readVarLong( input ) );
+			case LOCAL_DATE_TIME: {
+				final LocalDate date = LocalDate.ofEpochDay( readVarLong( input ) );
+				return LocalDateTime.of( date, LocalTime.ofNanoOfDay( readVarLong( input ) ) );
+			}
+			case INSTANT: {
+				final long seconds = readVarLong( input );
+				return Instant.ofEpochSecond( seconds, readVarLong( input ) );
+			}
+			case ARRAY: {
+				final boolean serializable = input.readBoolean();
+				final int length = readVarInt( input );
+				final Object[] array = serializable ? new Serializable[length] : new Object[length];
+				for ( int i = 0; i < length; i++ ) {
+					array[i] = readValue( input );
+				}
+				return array;
+			}
+			case SERIALIZED:
+				return SerializationHelper.deserialize( readBytes( input ) );
+			default:
+				throw new IOException( "Unknown value tag " + tag );
+		}
+	}
+
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		writeBytes( output, value.getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		return new String( readBytes( input ), StandardCharsets.UTF_8 );
+	}
+
+	private static void writeBytes(DataOutputStream output, byte[] value) throws IOException {
+		writeVarInt( output, value.length );
+		output.write( value );
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		final byte[] value = new byte[readVarInt( input )];
+		input.readFully( value );
+		return value;
+	}
+
+	private static void writeVarInt(DataOutputStream output, int value) throws IOException {
+		while ( ( value & ~0x7F ) != 0 ) {
+			output.writeByte( ( value & 0x7F ) | 0x80 );
+			value >>>= 7;
+		}
+		output.writeByte( value );
+	}
+
+	private static int readVarInt(DataInputStream input) throws IOException {
+		int value = 0;
+		for ( int shift = 0; shift < 32; shift += 7 ) {
+			final byte b = input.readByte();
+			value |= ( b & 0x7F ) << shift;
+			if ( ( b & 0x80 ) == 0 ) {
+				return value;
+			}
+		}
+		throw new IOException( "Malformed variable length integer" );
+	}
+
+	/**
+	 * Writes a zig-zag encoded variable length long, so that small negative values are short too
+	 */
+	private static void writeVarLong(DataOutputStream output, long value) throws IOException {
+		long zigZag = ( value << 1 ) ^ ( value >> 63 );
+		while ( ( zigZag & ~0x7FL ) != 0 ) {
+			output.writeByte( (int) ( ( zigZag & 0x7F ) | 0x80 ) );
+			zigZag >>>= 7;
+		}
+		output.writeByte( (int) zigZag );
+	}
+
+	private static long readVarLong(DataInputStream input) throws IOException {
+		long zigZag = 0;
+		for ( int shift = 0; shift < 64; shift += 7 ) {
+			final byte b = input.readByte();
+			zigZag |= (long) ( b & 0x7F ) << shift;
+			if ( ( b & 0x80 ) == 0 ) {
+				return ( zigZag >>> 1 ) ^ -( zigZag & 1 );
+			}
+		}
+		throw new IOException( "Malformed variable length long" );
+	}
+}
@@ -6,6 +6,9 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
@@ -38,6 +41,21 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 		return storageAccess;
 	}
 
+	/**
+	 * Record a load of the data for the given key, and determine whether it should
+	 * be put into the region according to the region's {@link FrequencyAdmissionPolicy}
+	 */
+	protected boolean admitFromLoad(Object key) {
+		if ( region instanceof AbstractDomainDataRegion ) {
+			final FrequencyAdmissionPolicy admissionPolicy = ( (AbstractDomainDataRegion) region ).getAdmissionPolicy();
+			if ( admissionPolicy != null && !admissionPolicy.admit( key ) ) {
+				log.tracef( "Load of [%s] not admitted to region [%s]", key, region.getName() );
+				return false;
+			}
+		}
+		return true;
+	}
+
 	protected void clearCache() {
 		log.debugf( "Clearing cache data map [region=`%s`]", region.getName() );
 		getStorageAccess().evictData();
@@ -53,6 +71,11 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 		return getStorageAccess().getFromCache( key, session );
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		return getStorageAccess().getAllFromCache( keys, session );
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -26,10 +26,14 @@ import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 
 import org.jboss.logging.Logger;
 
+import static org.hibernate.cfg.AvailableSettings.CACHE_ADMISSION_MIN_LOADS;
+import static org.hibernate.cfg.AvailableSettings.CACHE_ADMISSION_WINDOW;
+
 /**
  * @author Steve Ebersole
  */
@@ -38,6 +42,7 @@ public abstract class AbstractDomainDataRegion extends AbstractRegion implements
 
 	private final SessionFactoryImplementor sessionFactory;
 	private final CacheKeysFactory effectiveKeysFactory;
+	private final FrequencyAdmissionPolicy admissionPolicy;
 
 	private Map<NavigableRole,EntityDataAccess> entityDataAccessMap;
 	private Map<NavigableRole,NaturalIdDataAccess> naturalIdDataAccessMap;
@@ -59,6 +64,24 @@ public abstract class AbstractDomainDataRegion extends AbstractRegion implements
 		this.effectiveKeysFactory = buildingContext.getEnforcedCacheKeysFactory() != null
 				? buildingContext.getEnforcedCacheKeysFactory()
 				: defaultKeysFactory;
+		this.admissionPolicy = buildAdmissionPolicy( regionConfig.getRegionName(), sessionFactory.getProperties() );
+	}
+
+	private static FrequencyAdmissionPolicy buildAdmissionPolicy(String regionName, Map<String, Object> properties) {
+		final int defaultMinLoads = ConfigurationHelper.getInt( CACHE_ADMISSION_MIN_LOADS, properties, 0 );
+		final int minLoads = ConfigurationHelper.getInt(
+				CACHE_ADMISSION_MIN_LOADS + '.' + regionName,
+				properties,
+				defaultMinLoads
+		);
+		if ( minLoads <= 0 ) {
+			return null;
+		}
+		log.debugf( "Admitting entities to region [%s] after %s loads", regionName, minLoads );
+		return new FrequencyAdmissionPolicy(
+				minLoads,
+				ConfigurationHelper.getInt( CACHE_ADMISSION_WINDOW, properties, 10_000 )
+		);
 	}
 
 	/**
@@ -86,6 +109,16 @@ public abstract class AbstractDomainDataRegion extends AbstractRegion implements
 		return effectiveKeysFactory;
 	}
 
+	/**
+	 * The policy deciding which loaded entities are put into this region,
+	 * or {@code null} if they all are.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_ADMISSION_MIN_LOADS
+	 */
+	public FrequencyAdmissionPolicy getAdmissionPolicy() {
+		return admissionPolicy;
+	}
+
 	@Override
 	public EntityDataAccess getEntityDataAccess(NavigableRole rootEntityRole) {
 		final EntityDataAccess access = entityDataAccessMap.get( rootEntityRole );
@@ -50,6 +50,15 @@ public abstract class AbstractEntityDataAccess
 		return cacheKeysFactory.getEntityId( cacheKey );
 	}
 
+	@Override
+	public boolean putFromLoad(
+			SharedSessionContractImplementor session,
+			Object key,
+			Object value,
+			Object version) {
+		return admitFromLoad( key ) && super.putFromLoad( session, key, value, version );
+	}
+
 	@Override
 	public SoftLock lockRegion() {
 		return null;
@@ -69,6 +69,15 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 		return keysFactory.getEntityId( cacheKey );
 	}
 
+	@Override
+	public boolean putFromLoad(
+			SharedSessionContractImplementor session,
+			Object key,
+			Object value,
+			Object version) {
+		return admitFromLoad( key ) && super.putFromLoad( session, key, value, version );
+	}
+
 	@Override
 	public boolean insert(
 			SharedSessionContractImplementor session,
@@ -0,0 +1,67 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import org.hibernate.internal.util.cache.FrequencySketch;
+
+/**
+ * Decides whether the data loaded from the database for a given cache key is put
+ * into a region, so that data read only once in a while does not evict the data
+ * which is read frequently.  A key is admitted once it has been loaded more than
+ * a minimum number of times within a window of recent loads.
+ * <p>
+ * The load frequencies are estimated using a {@link FrequencySketch}, which is
+ * halved every time the number of recorded loads reaches the size of the window.
+ * Since an admission check only happens after reading from the database, the
+ * sketch is simply guarded by this policy's monitor.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_ADMISSION_MIN_LOADS
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_ADMISSION_WINDOW
+ *
+ * @since 6.3
+ */
+public class FrequencyAdmissionPolicy {
+	/**
+	 * The largest supported minimum number of loads, given that the
+	 * frequencies can't exceed {@link FrequencySketch#MAX_FREQUENCY}
+	 */
+	public static final int MAX_MIN_LOADS = FrequencySketch.MAX_FREQUENCY - 1;
+
+	private final int minLoads;
+	private final FrequencySketch sketch;
+
+	/**
+	 * @param minLoads the number of loads a key needs to exceed to be admitted
+	 * @param window the number of loads after which the recorded frequencies are halved
+	 */
+	public FrequencyAdmissionPolicy(int minLoads, int window) {
+		if ( minLoads < 1 || minLoads > MAX_MIN_LOADS ) {
+			throw new IllegalArgumentException(
+					"The minimum number of loads must be between 1 and " + MAX_MIN_LOADS + " : " + minLoads
+			);
+		}
+		if ( window < 1 ) {
+			throw new IllegalArgumentException( "The admission window must be positive : " + window );
+		}
+		this.minLoads = minLoads;
+		this.sketch = new FrequencySketch( window / 10, window );
+	}
+
+	public int getMinLoads() {
+		return minLoads;
+	}
+
+	/**
+	 * Record a load of the data for the given key, and determine whether it
+	 * should be put into the region.
+	 */
+	public synchronized boolean admit(Object key) {
+		final int hash = key.hashCode();
+		sketch.increment( hash );
+		return sketch.frequency( hash ) > minLoads;
+	}
+}
@@ -0,0 +1,334 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import static org.hibernate.internal.util.MathHelper.ceilingPowerOfTwo;
+
+/**
+ * A {@link DomainDataStorageAccess} keeping the data on-heap, in a number of
+ * shards each guarded by its own lock, so that concurrent sessions rarely
+ * contend.  Each shard evicts its least recently used entries once it holds
+ * more than its share of the maximum number of entries, and entries older
+ * than the time to live are dropped when read.
+ * <p>
+ * The memory used by the entries is estimated from the disassembled state of
+ * the cached entities and collections, which is enough to compare regions with
+ * each other but does not pretend to be an exact measure.
+ *
+ * @see org.hibernate.cache.internal.LocalRegionFactory
+ *
+ * @since 6.3
+ */
+public class LocalStorageAccess implements DomainDataStorageAccess, ExtendedStatisticsSupport {
+	/**
+	 * The estimated overhead of an entry: the map node, the key and the entry holder
+	 */
+	private static final int ENTRY_OVERHEAD = 128;
+	private static final int MAX_ESTIMATION_DEPTH = 4;
+
+	private final Shard[] shards;
+	private final int shardMask;
+	private final long timeToLiveNanos;
+
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder expirationCount = new LongAdder();
+
+	/**
+	 * @param maxEntries the maximum number of entries, or {@code 0} for no limit
+	 * @param timeToLive the time, in milliseconds, after which an entry expires, or {@code 0} if they never do
+	 */
+	public LocalStorageAccess(int maxEntries, long timeToLive) {
+		if ( maxEntries < 0 ) {
+			throw new IllegalArgumentException( "The maximum number of entries must not be negative : " + maxEntries );
+		}
+		if ( timeToLive < 0 ) {
+			throw new IllegalArgumentException( "The time to live must not be negative : " + timeToLive );
+		}
+		int shardCount = ceilingPowerOfTwo( Math.min( Runtime.getRuntime().availableProcessors() * 2, 64 ) );
+		if ( maxEntries > 0 ) {
+			// keep at least a few entries per shard, so that the bound remains meaningful
+			while ( shardCount > 1 && shardCount * 8 > maxEntries ) {
+				shardCount >>= 1;
+			}
+		}
+		final int maxEntriesPerShard = maxEntries == 0
+				? Integer.MAX_VALUE
+				: ( maxEntries + shardCount - 1 ) / shardCount;
+		this.shards = new Shard[shardCount];
+		for ( int i = 0; i < shardCount; i++ ) {
+			shards[i] = new Shard( maxEntriesPerShard );
+		}
+		this.shardMask = shardCount - 1;
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos( timeToLive );
+	}
+
+	private Shard shardFor(Object key) {
+		final int hash = key.hashCode();
+		return shards[( hash ^ ( hash >>> 16 ) ) & shardMask];
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return shardFor( key ).get( key, System.nanoTime() );
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final long now = System.nanoTime();
+		final Map<Object, Object> result = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object value = shardFor( key ).get( key, now );
+			if ( value != null ) {
+				result.put( key, value );
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		shardFor( key ).put( key, value, System.nanoTime() );
+	}
+
+	@Override
+	public void putAllIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		final long now = System.nanoTime();
+		for ( Map.Entry<?, ?> entry : entries.entrySet() ) {
+			shardFor( entry.getKey() ).put( entry.getKey(), entry.getValue(), now );
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return shardFor( key ).get( key, System.nanoTime() ) != null;
+	}
+
+	@Override
+	public void evictData() {
+		for ( Shard shard : shards ) {
+			shard.clear();
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		shardFor( key ).remove( key );
+	}
+
+	@Override
+	public void release() {
+		evictData();
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		long count = 0;
+		for ( Shard shard : shards ) {
+			count += shard.size;
+		}
+		return count;
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		long size = 0;
+		for ( Shard shard : shards ) {
+			size += shard.estimatedSize;
+		}
+		return size;
+	}
+
+	/**
+	 * The number of entries evicted because the maximum number of entries was reached
+	 */
+	@Override
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	/**
+	 * The number of entries dropped because they were older than the time to live
+	 */
+	@Override
+	public long getExpirationCount() {
+		return expirationCount.sum();
+	}
+
+	private static long estimateSize(Object value, int depth) {
+		if ( value == null ) {
+			return 0;
+		}
+		else if ( value instanceof byte[] ) {
+			return 16 + ( (byte[]) value ).length;
+		}
+		else if ( value instanceof String ) {
+			return 40 + ( (String) value ).length();
+		}
+		else if ( value instanceof Number || value instanceof Boolean || value instanceof Character ) {
+			return 16;
+		}
+		else if ( depth >= MAX_ESTIMATION_DEPTH ) {
+			return 32;
+		}
+		else if ( value instanceof Object[] ) {
+			final Object[] array = (Object[]) value;
+			long size = 16 + 8L * array.length;
+			for ( Object element : array ) {
+				size += estimateSize( element, depth + 1 );
+			}
+			return size;
+		}
+		else if ( value instanceof AbstractReadWriteAccess.Lockable ) {
+			return 32 + estimateSize( ( (AbstractReadWriteAccess.Lockable) value ).getValue(), depth + 1 );
+		}
+		else if ( value instanceof CacheEntry ) {
+			return 32 + estimateSize( ( (CacheEntry) value ).getDisassembledState(), depth + 1 );
+		}
+		else if ( value instanceof CollectionCacheEntry ) {
+			return 16 + estimateSize( ( (CollectionCacheEntry) value ).getState(), depth + 1 );
+		}
+		else {
+			return 32;
+		}
+	}
+
+	private static final class Entry {
+		private final Object value;
+		private final long created;
+		private final long size;
+
+		private Entry(Object value, long created) {
+			this.value = value;
+			this.created = created;
+			this.size = ENTRY_OVERHEAD + estimateSize( value, 0 );
+		}
+	}
+
+	private final class Shard {
+		private final ReentrantLock lock = new ReentrantLock();
+		private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>( 16, 0.75f, true );
+		private final int maxEntries;
+
+		// only written while holding the lock, read without it by the statistics
+		private volatile int size;
+		private volatile long estimatedSize;
+
+		private Shard(int maxEntries) {
+			this.maxEntries = maxEntries;
+		}
+
+		private boolean isExpired(Entry entry, long now) {
+			return timeToLiveNanos > 0 && now - entry.created >= timeToLiveNanos;
+		}
+
+		private Object get(Object key, long now) {
+			lock.lock();
+			try {
+				final Entry entry = entries.get( key );
+				if ( entry == null ) {
+					return null;
+				}
+				else if ( isExpired( entry, now ) ) {
+					entries.remove( key );
+					removed( entry );
+					expirationCount.increment();
+					return null;
+				}
+				else {
+					return entry.value;
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void put(Object key, Object value, long now) {
+			// estimate the size outside the lock
+			final Entry entry = new Entry( value, now );
+			lock.lock();
+			try {
+				final Entry previous = entries.put( key, entry );
+				if ( previous != null ) {
+					removed( previous );
+				}
+				estimatedSize += entry.size;
+				size = entries.size();
+				if ( size > maxEntries ) {
+					evict( now );
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void evict(long now) {
+			final Iterator<Entry> iterator = entries.values().iterator();
+			while ( entries.size() > maxEntries && iterator.hasNext() ) {
+				final Entry eldest = iterator.next();
+				iterator.remove();
+				removed( eldest );
+				if ( isExpired( eldest, now ) ) {
+					expirationCount.increment();
+				}
+				else {
+					evictionCount.increment();
+				}
+			}
+		}
+
+		private void removed(Entry entry) {
+			estimatedSize -= entry.size;
+			size = entries.size();
+		}
+
+		private void remove(Object key) {
+			lock.lock();
+			try {
+				final Entry entry = entries.remove( key );
+				if ( entry != null ) {
+					removed( entry );
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void clear() {
+			lock.lock();
+			try {
+				entries.clear();
+				size = 0;
+				estimatedSize = 0;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+}
@@ -0,0 +1,247 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
+/**
+ * A {@link DomainDataStorageAccess} keeping a bounded, on-heap copy of the data
+ * read from another (typically remote or clustered) {@code DomainDataStorageAccess},
+ * so that frequently read data is served without a round trip to the underlying
+ * cache.
+ * <p>
+ * Local entries are invalidated whenever Hibernate writes to, or removes from,
+ * the underlying cache through this storage access.  This includes the
+ * {@linkplain SoftLock soft locks} put by the read-write strategies while an
+ * item is being updated, and the removals done by the nonstrict read-write
+ * strategies.  Soft locks are never kept locally, so a locked item is always
+ * read from the underlying cache.  Changes made to the underlying cache by other
+ * nodes are not seen until the local entry expires, so the time to live bounds
+ * how stale the local data may get.  For this reason, {@link RegionFactoryTemplate}
+ * only uses a near cache for regions whose data is cached with the read-only or
+ * nonstrict read-write access types.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_NEAR_CACHE_MAX_ENTRIES
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_NEAR_CACHE_TTL
+ *
+ * @since 6.3
+ */
+public class NearCacheDomainDataStorageAccess implements DomainDataStorageAccess {
+	private final DomainDataStorageAccess delegate;
+	private final ConcurrentMap<Object, NearEntry> nearCache;
+	private final long timeToLiveNanos;
+
+	/**
+	 * Incremented by every local invalidation, so that a value read from the
+	 * underlying cache concurrently with an invalidation is not kept locally
+	 */
+	private final AtomicLong invalidations = new AtomicLong();
+
+	/**
+	 * @param delegate the underlying storage access
+	 * @param maxEntries the maximum number of entries kept locally
+	 * @param timeToLive the time, in milliseconds, during which a local entry may be used
+	 */
+	public NearCacheDomainDataStorageAccess(DomainDataStorageAccess delegate, int maxEntries, long timeToLive) {
+		if ( maxEntries < 1 ) {
+			throw new IllegalArgumentException( "The maximum number of near cache entries must be positive" );
+		}
+		if ( timeToLive < 1 ) {
+			throw new IllegalArgumentException( "The near cache time to live must be positive" );
+		}
+		this.delegate = delegate;
+		this.nearCache = new BoundedConcurrentHashMap<>( maxEntries, 16, BoundedConcurrentHashMap.Eviction.LRU );
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos( timeToLive );
+	}
+
+	public DomainDataStorageAccess getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Object value = getLocally( key );
+		if ( value != null ) {
+			return value;
+		}
+
+		final long invalidationCount = invalidations.get();
+		final Object read = delegate.getFromCache( key, session );
+		keepLocally( key, read, invalidationCount );
+		return read;
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> result = new HashMap<>( keys.size() );
+		final List<Object> keysToRead = new ArrayList<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = getLocally( key );
+			if ( value != null ) {
+				result.put( key, value );
+			}
+			else {
+				keysToRead.add( key );
+			}
+		}
+
+		if ( !keysToRead.isEmpty() ) {
+			final long invalidationCount = invalidations.get();
+			final Map<Object, Object> read = delegate.getAllFromCache( keysToRead, session );
+			for ( Map.Entry<Object, Object> entry : read.entrySet() ) {
+				if ( entry.getValue() != null ) {
+					result.put( entry.getKey(), entry.getValue() );
+					keepLocally( entry.getKey(), entry.getValue(), invalidationCount );
+				}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return getLocally( key ) != null || delegate.contains( key );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		try {
+			delegate.putIntoCache( key, value, session );
+		}
+		finally {
+			invalidate( key );
+		}
+	}
+
+	@Override
+	public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+		try {
+			delegate.putFromLoad( key, value, session );
+		}
+		finally {
+			invalidate( key );
+		}
+	}
+
+	@Override
+	public void putAllIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		try {
+			delegate.putAllIntoCache( entries, session );
+		}
+		finally {
+			invalidations.incrementAndGet();
+			for ( Object key : entries.keySet() ) {
+				nearCache.remove( key );
+			}
+		}
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		try {
+			delegate.removeFromCache( key, session );
+		}
+		finally {
+			invalidate( key );
+		}
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		try {
+			delegate.clearCache( session );
+		}
+		finally {
+			invalidateAll();
+		}
+	}
+
+	@Override
+	public void evictData() {
+		try {
+			delegate.evictData();
+		}
+		finally {
+			invalidateAll();
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		try {
+			delegate.evictData( key );
+		}
+		finally {
+			invalidate( key );
+		}
+	}
+
+	@Override
+	public void release() {
+		invalidateAll();
+		delegate.release();
+	}
+
+	private Object getLocally(Object key) {
+		final NearEntry entry = nearCache.get( key );
+		if ( entry == null ) {
+			return null;
+		}
+		if ( entry.expiration - System.nanoTime() <= 0 ) {
+			nearCache.remove( key, entry );
+			return null;
+		}
+		return entry.value;
+	}
+
+	private void keepLocally(Object key, Object value, long invalidationCount) {
+		if ( value == null || value instanceof SoftLock ) {
+			return;
+		}
+		if ( invalidations.get() != invalidationCount ) {
+			// something was invalidated while we were reading
+			return;
+		}
+		final NearEntry entry = new NearEntry( value, System.nanoTime() + timeToLiveNanos );
+		nearCache.put( key, entry );
+		if ( invalidations.get() != invalidationCount ) {
+			// an invalidation happened between the check and the put
+			nearCache.remove( key, entry );
+		}
+	}
+
+	private void invalidate(Object key) {
+		invalidations.incrementAndGet();
+		nearCache.remove( key );
+	}
+
+	private void invalidateAll() {
+		invalidations.incrementAndGet();
+		nearCache.clear();
+	}
+
+	private static final class NearEntry {
+		private final Object value;
+		private final long expiration;
+
+		private NearEntry(Object value, long expiration) {
+			this.value = value;
+			this.expiration = expiration;
+		}
+	}
+}
@@ -0,0 +1,486 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+
+import static org.hibernate.internal.util.MathHelper.ceilingPowerOfTwo;
+
+/**
+ * A {@link DomainDataStorageAccess} keeping the serialized cache entries outside
+ * the Java heap, in direct {@link ByteBuffer}s, so that a large second-level cache
+ * adds almost no work to the garbage collector.  Only the keys, and a small node
+ * per entry, remain on-heap.
+ * <p>
+ * The memory is allocated in slabs of a fixed size, up to a maximum total size.
+ * Like in memcached, each slab is split into chunks of a single power-of-two size,
+ * and a value is copied into a chunk of the smallest size which fits it.  Once no
+ * more slab may be allocated, storing a value evicts the least recently used entry
+ * stored in a chunk of the same size.  Values larger than a slab are not cached.
+ * <p>
+ * The entries are spread over a number of segments, each owning its slabs and
+ * guarded by its own lock.  The values are serialized and deserialized outside
+ * the lock, so the lock is only held while copying bytes.
+ * <p>
+ * Since every read returns a new copy of the cached value, this storage does not
+ * support {@linkplain org.hibernate.cfg.AvailableSettings#USE_DIRECT_REFERENCE_CACHE_ENTRIES
+ * direct reference cache entries}, and {@link org.hibernate.cache.internal.LocalRegionFactory}
+ * refuses to build an off-heap region which could hold them.
+ *
+ * @see org.hibernate.cache.internal.LocalRegionFactory
+ * @see org.hibernate.cfg.AvailableSettings#CACHE_LOCAL_OFF_HEAP_MAX_SIZE
+ *
+ * @since 6.3
+ */
+public class OffHeapStorageAccess implements DomainDataStorageAccess, ExtendedStatisticsSupport {
+	/**
+	 * The default size of a slab, 1 MiB
+	 */
+	public static final int DEFAULT_SLAB_SIZE = 1 << 20;
+
+	/**
+	 * The smallest chunk is 64 bytes
+	 */
+	private static final int MIN_CHUNK_SHIFT = 6;
+
+	private final Segment[] segments;
+	private final int segmentMask;
+	private final int slabSize;
+	private final int sizeClassCount;
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * @param maxSize the maximum number of bytes allocated outside the heap
+	 */
+	public OffHeapStorageAccess(long maxSize) {
+		this( maxSize, DEFAULT_SLAB_SIZE );
+	}
+
+	/**
+	 * @param maxSize the maximum number of bytes allocated outside the heap
+	 * @param slabSize the number of bytes allocated at once, a power of two
+	 */
+	public OffHeapStorageAccess(long maxSize, int slabSize) {
+		if ( slabSize < ( 1 << MIN_CHUNK_SHIFT ) || Integer.bitCount( slabSize ) != 1 ) {
+			throw new IllegalArgumentException(
+					"The slab size must be a power of two of at least " + ( 1 << MIN_CHUNK_SHIFT ) + " : " + slabSize
+			);
+		}
+		if ( maxSize < slabSize ) {
+			throw new IllegalArgumentException(
+					"The maximum off-heap size must be at least the slab size (" + slabSize + ") : " + maxSize
+			);
+		}
+		final long maxSlabs = maxSize / slabSize;
+		int segmentCount = ceilingPowerOfTwo( Math.min( Runtime.getRuntime().availableProcessors(), 16 ) );
+		// keep a few slabs per segment, so that the different chunk sizes can coexist
+		while ( segmentCount > 1 && maxSlabs / segmentCount < 4 ) {
+			segmentCount >>= 1;
+		}
+		final int slabsPerSegment = (int) Math.min( maxSlabs / segmentCount, Integer.MAX_VALUE );
+		this.slabSize = slabSize;
+		this.sizeClassCount = Integer.numberOfTrailingZeros( slabSize ) - MIN_CHUNK_SHIFT + 1;
+		this.segments = new Segment[segmentCount];
+		for ( int i = 0; i < segmentCount; i++ ) {
+			segments[i] = new Segment( slabsPerSegment );
+		}
+		this.segmentMask = segmentCount - 1;
+	}
+
+	private Segment segmentFor(Object key) {
+		final int hash = key.hashCode();
+		return segments[( hash ^ ( hash >>> 16 ) ) & segmentMask];
+	}
+
+	private static int sizeClassOf(int length) {
+		return length <= ( 1 << MIN_CHUNK_SHIFT )
+				? 0
+				: 32 - Integer.numberOfLeadingZeros( length - 1 ) - MIN_CHUNK_SHIFT;
+	}
+
+	private static int chunkSizeOf(int sizeClass) {
+		return 1 << ( sizeClass + MIN_CHUNK_SHIFT );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final byte[] bytes = segmentFor( key ).get( key );
+		return bytes == null ? null : SerializationHelper.deserialize( bytes );
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> result = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				result.put( key, value );
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		if ( value == null ) {
+			segmentFor( key ).remove( key );
+			return;
+		}
+		if ( !( value instanceof Serializable ) ) {
+			throw new CacheException(
+					"Off-heap cache regions can only store serializable values : " + value.getClass().getName()
+			);
+		}
+		final byte[] bytes = SerializationHelper.serialize( (Serializable) value );
+		if ( bytes.length > slabSize ) {
+			// drop any previous value, which is now out of date
+			segmentFor( key ).remove( key );
+		}
+		else {
+			segmentFor( key ).put( key, bytes );
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return segmentFor( key ).contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		for ( Segment segment : segments ) {
+			segment.clear();
+		}
+	}
+
+	@Override
+	public void evictData(Object key) {
+		segmentFor( key ).remove( key );
+	}
+
+	@Override
+	public void release() {
+		for ( Segment segment : segments ) {
+			segment.release();
+		}
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		long count = 0;
+		for ( Segment segment : segments ) {
+			count += segment.size;
+		}
+		return count;
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	/**
+	 * The number of bytes used by the cached values outside the heap,
+	 * including the unused ends of their chunks
+	 */
+	@Override
+	public long getSizeInMemory() {
+		long size = 0;
+		for ( Segment segment : segments ) {
+			size += segment.usedBytes;
+		}
+		return size;
+	}
+
+	/**
+	 * The number of bytes allocated outside the heap
+	 */
+	public long getAllocatedSize() {
+		long size = 0;
+		for ( Segment segment : segments ) {
+			size += (long) segment.slabCount * slabSize;
+		}
+		return size;
+	}
+
+	/**
+	 * The number of entries evicted to make room for other entries
+	 */
+	@Override
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	/**
+	 * The location of a cached value, linked into the LRU list of its size class
+	 */
+	private static final class Entry {
+		private final Object key;
+		private final long chunk;
+		private final int length;
+		private final int sizeClass;
+		private Entry previous;
+		private Entry next;
+
+		private Entry(Object key, long chunk, int length, int sizeClass) {
+			this.key = key;
+			this.chunk = chunk;
+			this.length = length;
+			this.sizeClass = sizeClass;
+		}
+	}
+
+	private final class Segment {
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Map<Object, Entry> entries = new HashMap<>();
+		private final int maxSlabs;
+
+		private ByteBuffer[] slabs = new ByteBuffer[0];
+		private int[] slabSizeClasses = new int[0];
+
+		// the free chunks of each size class, encoded as slab index and offset
+		private final long[][] freeChunks = new long[sizeClassCount][];
+		private final int[] freeChunkCounts = new int[sizeClassCount];
+
+		// the least and most recently used entries of each size class
+		private final Entry[] eldest = new Entry[sizeClassCount];
+		private final Entry[] youngest = new Entry[sizeClassCount];
+
+		// only written while holding the lock, read without it by the statistics
+		private volatile int slabCount;
+		private volatile int size;
+		private volatile long usedBytes;
+
+		private Segment(int maxSlabs) {
+			this.maxSlabs = maxSlabs;
+			for ( int i = 0; i < sizeClassCount; i++ ) {
+				freeChunks[i] = new long[16];
+			}
+		}
+
+		private byte[] get(Object key) {
+			lock.lock();
+			try {
+				final Entry entry = entries.get( key );
+				if ( entry == null ) {
+					return null;
+				}
+				unlink( entry );
+				link( entry );
+				final byte[] bytes = new byte[entry.length];
+				final ByteBuffer slab = slabs[slabIndex( entry.chunk )];
+				slab.position( offset( entry.chunk ) );
+				slab.get( bytes );
+				return bytes;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private boolean contains(Object key) {
+			lock.lock();
+			try {
+				return entries.containsKey( key );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void put(Object key, byte[] bytes) {
+			final int sizeClass = sizeClassOf( bytes.length );
+			lock.lock();
+			try {
+				final Entry previous = entries.remove( key );
+				if ( previous != null ) {
+					free( previous );
+				}
+				final long chunk = allocate( sizeClass );
+				if ( chunk < 0 ) {
+					// no chunk of this size could be found, so the value is not cached
+					return;
+				}
+				final ByteBuffer slab = slabs[slabIndex( chunk )];
+				slab.position( offset( chunk ) );
+				slab.put( bytes );
+				final Entry entry = new Entry( key, chunk, bytes.length, sizeClass );
+				entries.put( key, entry );
+				link( entry );
+				size = entries.size();
+				usedBytes += chunkSizeOf( sizeClass );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void remove(Object key) {
+			lock.lock();
+			try {
+				final Entry entry = entries.remove( key );
+				if ( entry != null ) {
+					free( entry );
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private long allocate(int sizeClass) {
+			if ( freeChunkCounts[sizeClass] > 0 ) {
+				return freeChunks[sizeClass][--freeChunkCounts[sizeClass]];
+			}
+			else if ( slabCount < maxSlabs ) {
+				final int slabIndex = slabCount;
+				if ( slabIndex == slabs.length ) {
+					final int length = Math.min( Math.max( 4, slabIndex * 2 ), maxSlabs );
+					slabs = Arrays.copyOf( slabs, length );
+					slabSizeClasses = Arrays.copyOf( slabSizeClasses, length );
+				}
+				slabs[slabIndex] = ByteBuffer.allocateDirect( slabSize );
+				slabSizeClasses[slabIndex] = sizeClass;
+				slabCount = slabIndex + 1;
+				carve( slabIndex, sizeClass );
+				return freeChunks[sizeClass][--freeChunkCounts[sizeClass]];
+			}
+			else {
+				final Entry victim = eldest[sizeClass];
+				if ( victim == null ) {
+					// every slab is used by chunks of other sizes
+					return -1;
+				}
+				entries.remove( victim.key );
+				unlink( victim );
+				size = entries.size();
+				usedBytes -= chunkSizeOf( sizeClass );
+				evictionCount.increment();
+				return victim.chunk;
+			}
+		}
+
+		private void carve(int slabIndex, int sizeClass) {
+			final int chunkSize = chunkSizeOf( sizeClass );
+			for ( int offset = slabSize - chunkSize; offset >= 0; offset -= chunkSize ) {
+				pushFreeChunk( sizeClass, chunk( slabIndex, offset ) );
+			}
+		}
+
+		private void free(Entry entry) {
+			unlink( entry );
+			pushFreeChunk( entry.sizeClass, entry.chunk );
+			size = entries.size();
+			usedBytes -= chunkSizeOf( entry.sizeClass );
+		}
+
+		private void pushFreeChunk(int sizeClass, long chunk) {
+			if ( freeChunkCounts[sizeClass] == freeChunks[sizeClass].length ) {
+				freeChunks[sizeClass] = Arrays.copyOf( freeChunks[sizeClass], freeChunkCounts[sizeClass] * 2 );
+			}
+			freeChunks[sizeClass][freeChunkCounts[sizeClass]++] = chunk;
+		}
+
+		private void link(Entry entry) {
+			final int sizeClass = entry.sizeClass;
+			entry.previous = youngest[sizeClass];
+			entry.next = null;
+			if ( youngest[sizeClass] == null ) {
+				eldest[sizeClass] = entry;
+			}
+			else {
+				youngest[sizeClass].next = entry;
+			}
+			youngest[sizeClass] = entry;
+		}
+
+		private void unlink(Entry entry) {
+			final int sizeClass = entry.sizeClass;
+			if ( entry.previous == null ) {
+				eldest[sizeClass] = entry.next;
+			}
+			else {
+				entry.previous.next = entry.next;
+			}
+			if ( entry.next == null ) {
+				youngest[sizeClass] = entry.previous;
+			}
+			else {
+				entry.next.previous = entry.previous;
+			}
+			entry.previous = null;
+			entry.next = null;
+		}
+
+		/**
+		 * Drop all the entries, but keep the slabs for the subsequent puts
+		 */
+		private void clear() {
+			lock.lock();
+			try {
+				resetEntries();
+				for ( int i = 0; i < slabCount; i++ ) {
+					carve( i, slabSizeClasses[i] );
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Drop all the entries and the slabs, letting the garbage collector
+		 * free the memory allocated outside the heap
+		 */
+		private void release() {
+			lock.lock();
+			try {
+				resetEntries();
+				slabs = new ByteBuffer[0];
+				slabSizeClasses = new int[0];
+				slabCount = 0;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void resetEntries() {
+			entries.clear();
+			Arrays.fill( freeChunkCounts, 0 );
+			Arrays.fill( eldest, null );
+			Arrays.fill( youngest, null );
+			size = 0;
+			usedBytes = 0;
+		}
+	}
+
+	private static long chunk(int slabIndex, int offset) {
+		return ( (long) slabIndex << 32 ) | offset;
+	}
+
+	private static int slabIndex(long chunk) {
+		return (int) ( chunk >>> 32 );
+	}
+
+	private static int offset(long chunk) {
+		return (int) chunk;
+	}
+}
@@ -6,6 +6,9 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Map;
+
+import org.hibernate.cache.cfg.spi.DomainDataCachingConfig;
 import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
 import org.hibernate.cache.internal.DefaultCacheKeysFactory;
@@ -14,7 +17,12 @@ import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import static org.hibernate.cfg.AvailableSettings.CACHE_NEAR_CACHE_MAX_ENTRIES;
+import static org.hibernate.cfg.AvailableSettings.CACHE_NEAR_CACHE_TTL;
 
 /**
  * @author Steve Ebersole
@@ -28,12 +36,58 @@ public abstract class RegionFactoryTemplate extends AbstractRegionFactory {
 		return new DomainDataRegionTemplate(
 				regionConfig,
 				this,
-				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				applyNearCache( createDomainDataStorageAccess( regionConfig, buildingContext ), regionConfig, buildingContext ),
 				getImplicitCacheKeysFactory(),
 				buildingContext
 		);
 	}
 
+	/**
+	 * Wraps the given storage access in a {@link NearCacheDomainDataStorageAccess}
+	 * if a near cache is configured, and the region only holds data cached with
+	 * access types which tolerate stale reads.
+	 */
+	protected DomainDataStorageAccess applyNearCache(
+			DomainDataStorageAccess storageAccess,
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		final Map<String, Object> properties = buildingContext.getSessionFactory().getProperties();
+		final int maxEntries = ConfigurationHelper.getInt( CACHE_NEAR_CACHE_MAX_ENTRIES, properties, 0 );
+		if ( maxEntries <= 0 || !isNearCacheable( regionConfig ) ) {
+			return storageAccess;
+		}
+		final long timeToLive = ConfigurationHelper.getLong( CACHE_NEAR_CACHE_TTL, properties, 1000 );
+		return new NearCacheDomainDataStorageAccess( storageAccess, maxEntries, timeToLive );
+	}
+
+	/**
+	 * The near cache cannot see the soft locks and updates made by other nodes,
+	 * so it may only be used for data cached with the {@link AccessType#READ_ONLY}
+	 * and {@link AccessType#NONSTRICT_READ_WRITE} access types.
+	 */
+	private static boolean isNearCacheable(DomainDataRegionConfig regionConfig) {
+		for ( DomainDataCachingConfig cachingConfig : regionConfig.getEntityCaching() ) {
+			if ( !isNearCacheable( cachingConfig.getAccessType() ) ) {
+				return false;
+			}
+		}
+		for ( DomainDataCachingConfig cachingConfig : regionConfig.getNaturalIdCaching() ) {
+			if ( !isNearCacheable( cachingConfig.getAccessType() ) ) {
+				return false;
+			}
+		}
+		for ( DomainDataCachingConfig cachingConfig : regionConfig.getCollectionCaching() ) {
+			if ( !isNearCacheable( cachingConfig.getAccessType() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isNearCacheable(AccessType accessType) {
+		return accessType == AccessType.READ_ONLY || accessType == AccessType.NONSTRICT_READ_WRITE;
+	}
+
 	protected CacheKeysFactory getImplicitCacheKeysFactory() {
 		return DefaultCacheKeysFactory.INSTANCE;
 	}
@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -28,6 +32,40 @@ public interface StorageAccess {
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
 
+	/**
+	 * Get the items cached for the given keys.  The returned map only contains
+	 * the keys found in the cache.
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each key,
+	 *           providers able to fetch several entries at once should override it
+	 *
+	 * @since 6.3
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> result = new HashMap<>();
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				result.put( key, value );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Put the given items into the cache.
+	 *
+	 * @implNote the method default is to call {@link #putIntoCache} for each entry,
+	 *           providers able to store several entries at once should override it
+	 *
+	 * @since 6.3
+	 */
+	default void putAllIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		for ( Map.Entry<?, ?> entry : entries.entrySet() ) {
+			putIntoCache( entry.getKey(), entry.getValue(), session );
+		}
+	}
+
 	/**
 	 * Remove an item from the cache by key
 	 */
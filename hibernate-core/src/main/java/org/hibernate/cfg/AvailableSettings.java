@@ -324,6 +324,25 @@ public interface AvailableSettings {
 	 */
 	String STATIC_METAMODEL_POPULATION = "hibernate.jpa.static_metamodel.population";
 
+	/**
+	 * The number of threads used to instantiate the
+	 * {@linkplain org.hibernate.persister.entity.EntityPersister entity persisters}
+	 * and {@linkplain org.hibernate.persister.collection.CollectionPersister
+	 * collection persisters} when the {@code SessionFactory} is built.
+	 * <p>
+	 * The persisters are independent of each other, and may be instantiated
+	 * concurrently on a {@link java.util.concurrent.ForkJoinPool}, which reduces
+	 * the startup time of applications with many entities. The processing steps
+	 * which depend on the other persisters still happen sequentially.
+	 * <p>
+	 * The default is {@code 1}, that is, the persisters are instantiated by the
+	 * thread building the {@code SessionFactory}.
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String BOOTSTRAP_PARALLELISM = "hibernate.bootstrap.parallelism";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// StandardServiceRegistry level settings
@@ -823,6 +842,21 @@ public interface AvailableSettings {
 	 */
 	String SCANNER_DISCOVERY = "hibernate.archive.autodetection";
 
+	/**
+	 * Specifies a file in which the result of scanning the archives is kept,
+	 * so that the archives are only scanned again when they, or the scanning
+	 * configuration, change.
+	 * <p>
+	 * Typically, the snapshot is written at build time, and packaged with
+	 * the application.
+	 *
+	 * @see org.hibernate.boot.archive.scan.internal.SnapshotScanner
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String SCANNER_SNAPSHOT = "hibernate.archive.scan_snapshot";
+
 	/**
 	 * Used to specify the {@link org.hibernate.boot.model.naming.ImplicitNamingStrategy}
 	 * class to use. The following shortcut names are defined for this setting:
@@ -1106,6 +1140,42 @@ public interface AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, specifies that the rows of a JDBC insert batch should be
+	 * written using multi-row {@code insert ... values (...), (...)} statements
+	 * instead of one single-row statement per row.  The number of rows written
+	 * by each statement is limited by the {@linkplain #STATEMENT_BATCH_SIZE batch size}
+	 * and by {@link org.hibernate.dialect.Dialect#getMultiRowInsertLimit()}.
+	 * <p>
+	 * Has no effect unless JDBC batching is enabled, or when the dialect does
+	 * not support multi-row inserts.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @since 6.3
+	 */
+	String BATCH_MULTI_ROW_INSERTS = "hibernate.jdbc.batch_multi_row_inserts";
+
+	/**
+	 * When enabled, specifies that a full JDBC batch should be executed on a
+	 * background thread, while the session continues to prepare the rows of
+	 * the next batch.  At most one batch execution is in flight per session,
+	 * and the session waits for it to complete, and for its row counts to be
+	 * checked, before using the JDBC connection for anything else, including
+	 * the end of the flush and transaction completion.
+	 * <p>
+	 * Since the JDBC connection is then used from a thread other than the one
+	 * which obtained it, this requires a JDBC driver whose connections may be
+	 * used from several threads, and is not recommended with JTA.  Has no
+	 * effect unless JDBC batching is enabled, nor when
+	 * {@value #BATCH_MULTI_ROW_INSERTS} is enabled.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @since 6.3
+	 */
+	String BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
 	/**
 	 * Specifies the {@linkplain java.util.TimeZone time zone} to use in the JDBC driver,
 	 * which is supposed to match the database timezone.
@@ -1266,6 +1336,38 @@ public interface AvailableSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * The minimum number of entities held by the persistence context for the comparison
+	 * of their current state with their loaded state to be performed in parallel, using
+	 * a {@link java.util.concurrent.ForkJoinPool} owned by the session factory, when the
+	 * session is flushed.
+	 * <p>
+	 * Only entities which are not bytecode enhanced, and whose attributes are all of basic
+	 * or embeddable type, are checked in parallel.  The results are then consumed in order
+	 * by the {@link org.hibernate.event.spi.FlushEntityEventListener}, on the thread of the
+	 * session, which also schedules the updates.  The state of an entity should not be
+	 * mutated in place by a listener or callback while the session is being flushed.
+	 * <p>
+	 * Defaults to {@code 0}, meaning that dirty checking is never performed in parallel.
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String PARALLEL_DIRTY_CHECKING_THRESHOLD = "hibernate.flush.parallel_dirty_checking_threshold";
+
+	/**
+	 * The maximum number of SQL {@code update} statements kept by each entity with
+	 * {@linkplain org.hibernate.annotations.DynamicUpdate dynamic updates}, keyed by
+	 * the set of attributes they update, so that the statement is not generated again
+	 * on every flush.  The least recently used statements are discarded first.
+	 * <p>
+	 * Defaults to {@code 64}.  A value of {@code 0} disables the cache.
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String DYNAMIC_UPDATE_CACHE_MAX_SIZE = "hibernate.dynamic_update_cache_max_size";
+
 	/**
 	 * Allows JPA callbacks (via {@link jakarta.persistence.PreUpdate} and friends) to be
 	 * completely disabled. Mostly useful to save some memory when they are not used.
@@ -1436,7 +1538,9 @@ public interface AvailableSettings {
 	 * <ul>
 	 *     <li>an instance of {@link org.hibernate.cache.spi.RegionFactory},
 	 *     <li>a {@link Class} implementing {@link org.hibernate.cache.spi.RegionFactory}, or
-	 *     <li>he name of a class implementing {@link org.hibernate.cache.spi.RegionFactory}.
+	 *     <li>he name of a class implementing {@link org.hibernate.cache.spi.RegionFactory}, or
+	 *     <li>{@code local}, for the built-in {@link org.hibernate.cache.internal.LocalRegionFactory},
+	 *         which keeps the data in the memory of the current JVM.
 	 * </ul>
 	 * <p>
 	 * Defaults to {@link NoCachingRegionFactory}, so that caching is disabled.
@@ -1489,6 +1593,53 @@ public interface AvailableSettings {
 	 */
 	String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
 
+	/**
+	 * The time, in milliseconds, during which the update timestamps of query spaces
+	 * read from the timestamps region may be reused locally, without reading them
+	 * from the region again, when checking cached query results for staleness.
+	 * Invalidations performed by this {@code SessionFactory} are always visible
+	 * immediately, but invalidations performed by other nodes sharing the region
+	 * may go unnoticed for up to this amount of time.
+	 * <p>
+	 * Defaults to {@code 0}, meaning that the timestamps are always read from the
+	 * region.
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String QUERY_CACHE_TIMESTAMPS_MIRROR_TTL = "hibernate.cache.timestamps_mirror_ttl";
+
+	/**
+	 * Specifies the {@link org.hibernate.cache.spi.QueryCacheLayout} used to store
+	 * query results in the query cache, either {@code full} or {@code shallow}.
+	 * With the {@code shallow} layout, results are stored column by column, and
+	 * only the identifiers of cacheable entities are stored, the entities being
+	 * resolved through the second-level cache when the results are read.
+	 * <p>
+	 * Defaults to {@code full}.
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String QUERY_CACHE_LAYOUT = "hibernate.cache.query_cache_layout";
+
+	/**
+	 * When enabled, the tables of entities with a {@link org.hibernate.annotations.TenantId}
+	 * are invalidated tenant by tenant in the query cache: a write performed by a session
+	 * of a given tenant only invalidates the cached query results of this tenant, and of
+	 * sessions reading the data of all tenants.  Writes which are not known to only affect
+	 * the data of the tenant of the session, such as native queries, still invalidate the
+	 * cached query results of every tenant.
+	 * <p>
+	 * Defaults to {@code false}.
+	 *
+	 * @see org.hibernate.cache.internal.QuerySpacePartitions
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String QUERY_CACHE_TENANT_PARTITIONING = "hibernate.cache.query_cache_tenant_partitioning";
+
 	/**
 	 * The {@code CacheProvider} region name prefix
 	 *
@@ -1518,6 +1669,20 @@ public interface AvailableSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enables the use of compact second-level cache entries for entities. The
+	 * disassembled state is encoded into a byte array, which takes less memory
+	 * in the cache, and serializes faster, than the default entries.
+	 * <p>
+	 * Ignored when {@value #USE_STRUCTURED_CACHE} is enabled.
+	 *
+	 * @see org.hibernate.cache.spi.entry.CompactCacheEntry
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String USE_COMPACT_CACHE_ENTRIES = "hibernate.cache.use_compact_entries";
+
 	/**
 	 * Enables the automatic eviction of a bidirectional association's collection
 	 * cache when an element in the {@link jakarta.persistence.ManyToOne} collection
@@ -1539,6 +1704,136 @@ public interface AvailableSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * The maximum number of entries of each entity, collection, or natural id cache
+	 * region kept in a local, on-heap near cache in front of the second-level cache.
+	 * This is useful when the second-level cache is remote or clustered.
+	 * <p>
+	 * Since the near cache does not see the changes, including the soft locks,
+	 * made to the second-level cache by other nodes, it is only used for regions
+	 * whose data is cached exclusively with the
+	 * {@linkplain org.hibernate.cache.spi.access.AccessType#READ_ONLY read-only} or
+	 * {@linkplain org.hibernate.cache.spi.access.AccessType#NONSTRICT_READ_WRITE
+	 * nonstrict read-write} access types.
+	 * <p>
+	 * Only applies to caching providers built on
+	 * {@link org.hibernate.cache.spi.support.RegionFactoryTemplate}, such as the
+	 * JCache integration.
+	 * <p>
+	 * Defaults to {@code 0}, meaning that no near cache is used.
+	 *
+	 * @see #CACHE_NEAR_CACHE_TTL
+	 * @see org.hibernate.cache.spi.support.NearCacheDomainDataStorageAccess
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String CACHE_NEAR_CACHE_MAX_ENTRIES = "hibernate.cache.near_cache.max_entries";
+
+	/**
+	 * The time, in milliseconds, during which an entry of the near cache may be used.
+	 * Changes made to the second-level cache by other nodes may go unnoticed for up to
+	 * this amount of time.
+	 * <p>
+	 * Defaults to {@code 1000}.
+	 *
+	 * @see #CACHE_NEAR_CACHE_MAX_ENTRIES
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String CACHE_NEAR_CACHE_TTL = "hibernate.cache.near_cache.ttl";
+
+	/**
+	 * The number of times an entity must have been loaded from the database, within
+	 * the {@linkplain #CACHE_ADMISSION_WINDOW admission window}, before it is put
+	 * into the second-level cache when loaded.  Entities read only once in a while
+	 * then no longer evict the entities which are read frequently.
+	 * <p>
+	 * May be specified for a single region by appending its name to the setting,
+	 * for example, {@code hibernate.cache.admission.min_loads.org.acme.Book}.
+	 * <p>
+	 * Only applies to caching providers built on
+	 * {@link org.hibernate.cache.spi.support.RegionFactoryTemplate}, such as the
+	 * JCache integration.  Must not exceed
+	 * {@value org.hibernate.cache.spi.support.FrequencyAdmissionPolicy#MAX_MIN_LOADS}.
+	 * <p>
+	 * Defaults to {@code 0}, meaning that every loaded entity is put into the cache.
+	 *
+	 * @see org.hibernate.cache.spi.support.FrequencyAdmissionPolicy
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String CACHE_ADMISSION_MIN_LOADS = "hibernate.cache.admission.min_loads";
+
+	/**
+	 * The number of loads after which the load frequencies recorded for
+	 * {@link #CACHE_ADMISSION_MIN_LOADS} are halved, so that old loads fade away.
+	 * <p>
+	 * Defaults to {@code 10000}.
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String CACHE_ADMISSION_WINDOW = "hibernate.cache.admission.window";
+
+	/**
+	 * The maximum number of entries of each region of the
+	 * {@linkplain org.hibernate.cache.internal.LocalRegionFactory local region factory}.
+	 * The least recently used entries are evicted once a region is full.
+	 * <p>
+	 * May be specified for a single region by appending its name to the setting,
+	 * for example, {@code hibernate.cache.local.max_entries.org.acme.Book}.
+	 * <p>
+	 * Defaults to {@code 10000}.  A value of {@code 0} means that the regions are
+	 * not bounded.
+	 *
+	 * @see #CACHE_LOCAL_TTL
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String CACHE_LOCAL_MAX_ENTRIES = "hibernate.cache.local.max_entries";
+
+	/**
+	 * The time, in milliseconds, after which an entry of a region of the
+	 * {@linkplain org.hibernate.cache.internal.LocalRegionFactory local region factory}
+	 * expires.
+	 * <p>
+	 * May be specified for a single region by appending its name to the setting,
+	 * for example, {@code hibernate.cache.local.ttl.org.acme.Book}.
+	 * <p>
+	 * Defaults to {@code 0}, meaning that the entries never expire.
+	 *
+	 * @see #CACHE_LOCAL_MAX_ENTRIES
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String CACHE_LOCAL_TTL = "hibernate.cache.local.ttl";
+
+	/**
+	 * The maximum number of bytes allocated outside the Java heap by each entity,
+	 * collection, or natural id region of the
+	 * {@linkplain org.hibernate.cache.internal.LocalRegionFactory local region factory}.
+	 * When set, the regions keep their entries serialized in direct byte buffers,
+	 * so that a large second-level cache adds no pressure on the garbage collector,
+	 * and {@link #CACHE_LOCAL_MAX_ENTRIES} and {@link #CACHE_LOCAL_TTL} do not apply
+	 * to them.
+	 * <p>
+	 * May be specified for a single region by appending its name to the setting,
+	 * for example, {@code hibernate.cache.local.off_heap.max_size.org.acme.Book}.
+	 * <p>
+	 * Defaults to {@code 0}, meaning that the entries are kept on-heap.
+	 *
+	 * @see org.hibernate.cache.spi.support.OffHeapStorageAccess
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String CACHE_LOCAL_OFF_HEAP_MAX_SIZE = "hibernate.cache.local.off_heap.max_size";
+
 
 
 
@@ -1614,6 +1909,25 @@ public interface AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Specifies the {@link org.hibernate.internal.util.cache.InternalCacheFactory}
+	 * producing the caches backing the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query
+	 * interpretation cache}. Accepts:
+	 * <ul>
+	 *     <li>{@code tinylfu}, the default, for a mostly lock-free cache with
+	 *     a W-TinyLFU eviction policy,
+	 *     <li>{@code lirs}, for the segmented caches with a LIRS eviction policy
+	 *     used by previous versions, which don't report their evictions to
+	 *     {@link org.hibernate.stat.Statistics#getQueryPlanCacheEvictionCount()}, or
+	 *     <li>an instance, class, or the name of a class implementing
+	 *     {@code InternalCacheFactory}.
+	 * </ul>
+	 *
+	 * @since 6.3
+	 */
+	String QUERY_PLAN_CACHE_FACTORY = "hibernate.query.plan_cache_factory";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
@@ -2671,6 +2985,42 @@ public interface AvailableSettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * When enabled, specifies that the {@link org.hibernate.sql.results.spi.RowReader}
+	 * used to process query results should be a class generated by the
+	 * {@linkplain org.hibernate.bytecode.spi.BytecodeProvider bytecode provider}
+	 * specifically for the concrete types of the assemblers and initializers
+	 * of the result mapping.
+	 * <p>
+	 * The per-row processing is then performed through call sites which are
+	 * private to each such generated class, allowing the JIT to inline the calls
+	 * which are otherwise megamorphic. This is mostly beneficial for queries
+	 * returning a large number of rows.
+	 * <p>
+	 * By default, the standard row reader is used.
+	 *
+	 * @since 6.3
+	 */
+	String COMPILED_ROW_READERS = "hibernate.query.compiled_row_readers";
+
+	/**
+	 * Specifies a {@link org.hibernate.sql.results.spi.ResultsProfiler} to which
+	 * the time spent in each phase of the processing of the results of a query
+	 * is reported, either:
+	 * <ul>
+	 *     <li>an instance of {@code ResultsProfiler},
+	 *     <li>a {@link Class} representing a class that implements {@code ResultsProfiler},
+	 *     <li>the name of a class that implements {@code ResultsProfiler}, or
+	 *     <li>{@code jfr}, to record the profiles as Java Flight Recorder events.
+	 * </ul>
+	 * <p>
+	 * By default, the processing of results is not profiled.
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String RESULTS_PROFILER = "hibernate.query.results_profiler";
+
 	/**
 	 * This setting controls the number of {@link org.hibernate.stat.QueryStatistics}
 	 * entries that will be stored by the Hibernate {@link org.hibernate.stat.Statistics}
@@ -2682,6 +3032,23 @@ public interface AvailableSettings {
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
 
+	/**
+	 * This setting controls the number of distinct SQL statements for which
+	 * {@link org.hibernate.stat.StatementStatistics}, that is, histograms of
+	 * the time taken to prepare and execute the statement, and to fetch its
+	 * results, are kept by the Hibernate {@link org.hibernate.stat.Statistics}
+	 * object.  The least recently executed statements are evicted first.
+	 * <p>
+	 * The default value is {@code 0}, which disables the collection of
+	 * statement statistics.
+	 *
+	 * @see org.hibernate.stat.Statistics#getStatementStatistics(String)
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String STATEMENT_STATISTICS_MAX_SIZE = "hibernate.statistics.statement_max_size";
+
 	/**
 	 * This setting defines the {@link org.hibernate.id.SequenceMismatchStrategy} used
 	 * when Hibernate detects a mismatch between a sequence configuration in an entity
@@ -38,6 +38,7 @@ import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.resource.transaction.spi.TransactionStatus;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.CompositeType;
+import org.hibernate.type.ManyToOneType;
 import org.hibernate.type.Type;
 
 import static org.hibernate.pretty.MessageHelper.collectionInfoString;
@@ -903,6 +904,58 @@ public abstract class AbstractPersistentCollection<E> implements Serializable, P
 		return session;
 	}
 
+	/**
+	 * Load, all at once, the entities referenced by the elements of the given
+	 * cached state which are not yet associated with the session, so that
+	 * assembling the elements one by one does not load them one by one.  The
+	 * entities are resolved using a multi-load, which reads the entity cache
+	 * in bulk and then loads the remaining entities in batches.  Like the
+	 * elements assembled one by one, they are loaded with the cache mode of
+	 * the session, and are read-only if the session is read-only by default.
+	 *
+	 * @param persister The collection persister
+	 * @param cached The disassembled state of the collection
+	 * @param first The position of the first disassembled element in the state
+	 * @param step The distance between two disassembled elements in the state
+	 */
+	protected void preloadCachedElements(CollectionPersister persister, Serializable[] cached, int first, int step) {
+		final Type elementType = persister.getElementType();
+		if ( !( elementType instanceof ManyToOneType )
+				|| !( (ManyToOneType) elementType ).isEager( null )
+				|| !session.isEventSource()
+				|| cached.length < first + 2 * step ) {
+			return;
+		}
+
+		final EntityPersister elementPersister =
+				( (ManyToOneType) elementType ).getAssociatedEntityPersister( session.getFactory() );
+		final Type identifierType = elementPersister.getIdentifierType();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final List<Object> ids = new ArrayList<>();
+		for ( int i = first; i < cached.length; i += step ) {
+			if ( cached[i] != null ) {
+				final Object id = identifierType.assemble( cached[i], session, null );
+				if ( persistenceContext.getEntity( session.generateEntityKey( id, elementPersister ) ) == null ) {
+					ids.add( id );
+				}
+			}
+		}
+
+		if ( ids.size() > 1 ) {
+			LOG.tracef(
+					"Preloading %s elements of cached collection %s",
+					ids.size(),
+					persister.getRole()
+			);
+			session.asEventSource()
+					.byMultipleIds( elementPersister.getEntityName() )
+					.with( session.getCacheMode() )
+					.enableSessionCheck( true )
+					.enableOrderedReturn( false )
+					.multiLoad( ids );
+		}
+	}
+
 	protected final class IteratorProxy<E> implements Iterator<E> {
 		private final Iterator<E> itr;
 
@@ -192,6 +192,7 @@ public class PersistentArrayHolder<E> extends AbstractPersistentCollection<E> {
 			throws HibernateException {
 		final Serializable[] cached = (Serializable[]) disassembled;
 		array = Array.newInstance( persister.getElementClass(), cached.length );
+		preloadCachedElements( persister, cached, 0, 1 );
 
 		for ( int i=0; i<cached.length; i++ ) {
 			Array.set( array, i, persister.getElementType().assemble( cached[i], getSession(), owner ) );
@@ -267,6 +267,7 @@ public class PersistentBag<E> extends AbstractPersistentCollection<E> implements
 		final int size = array.length;
 
 		this.bag = (List<E>) collectionDescriptor.getCollectionSemantics().instantiateRaw( size, collectionDescriptor );
+		preloadCachedElements( collectionDescriptor, array, 0, 1 );
 
 		for ( Serializable item : array ) {
 			final Object element = collectionDescriptor.getElementType().assemble( item, getSession(), owner );
@@ -100,6 +100,7 @@ public class PersistentIdentifierBag<E> extends AbstractPersistentCollection<E>
 		values = size <= 0
 				? new ArrayList<>()
 				: new ArrayList<>( size );
+		preloadCachedElements( persister, array, 1, 2 );
 
 		for ( int i = 0; i < size; i+=2 ) {
 			identifiers.put(
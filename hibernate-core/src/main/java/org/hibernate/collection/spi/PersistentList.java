@@ -123,6 +123,7 @@ public class PersistentList<E> extends AbstractPersistentCollection<E> implement
 
 		assert list == null;
 		list = (List<E>) persister.getCollectionSemantics().instantiateRaw( size, persister );
+		preloadCachedElements( persister, array, 0, 1 );
 
 		for ( Serializable arrayElement : array ) {
 			list.add( (E) persister.getElementType().assemble( arrayElement, getSession(), owner ) );
@@ -275,6 +275,7 @@ public class PersistentMap<K,E> extends AbstractPersistentCollection<E> implemen
 		final int size = array.length;
 
 		this.map = (Map<K,E>) persister.getCollectionSemantics().instantiateRaw( size, persister );
+		preloadCachedElements( persister, array, 1, 2 );
 
 		for ( int i = 0; i < size; i+=2 ) {
 			map.put(
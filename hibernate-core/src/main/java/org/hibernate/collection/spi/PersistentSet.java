@@ -132,6 +132,7 @@ public class PersistentSet<E> extends AbstractPersistentCollection<E> implements
 		final int size = array.length;
 
 		this.set = (Set<E>) persister.getCollectionSemantics().instantiateRaw( size, persister );
+		preloadCachedElements( persister, array, 0, 1 );
 
 		for ( Serializable arrayElement : array ) {
 			final Object assembledArrayElement = persister.getElementType().assemble( arrayElement, getSession(), owner );
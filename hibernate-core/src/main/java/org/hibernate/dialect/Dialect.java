@@ -3844,6 +3844,22 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return getInExpressionCountLimit();
 	}
 
+	/**
+	 * Return the maximum number of rows which may be written by a single
+	 * multi-row {@code insert into ... values (...), (...)} statement when
+	 * {@value org.hibernate.cfg.AvailableSettings#BATCH_MULTI_ROW_INSERTS}
+	 * is enabled.  The number of rows is additionally limited by the JDBC
+	 * batch size and by {@link #getParameterCountLimit()}.
+	 * <p>
+	 * By default, multi-row inserts are not used.
+	 *
+	 * @return The limit, or a number smaller than two if the database does
+	 *         not support multi-row inserts
+	 */
+	public int getMultiRowInsertLimit() {
+		return 0;
+	}
+
 	/**
 	 * Must LOB values occur last in inserts and updates?
 	 *
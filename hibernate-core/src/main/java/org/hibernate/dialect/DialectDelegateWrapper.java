@@ -1159,6 +1159,11 @@ public class DialectDelegateWrapper extends Dialect {
 		return wrapped.getParameterCountLimit();
 	}
 
+	@Override
+	public int getMultiRowInsertLimit() {
+		return wrapped.getMultiRowInsertLimit();
+	}
+
 	@Override
 	public boolean forceLobAsLastValue() {
 		return wrapped.forceLobAsLastValue();
@@ -606,6 +606,12 @@ public class H2Dialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public int getMultiRowInsertLimit() {
+		// no limit on the number of rows, only on the number of parameters
+		return Integer.MAX_VALUE;
+	}
+
 	@Override
 	public boolean supportsIfExistsAfterTableName() {
 		return !supportsIfExistsBeforeTableName();
@@ -1017,6 +1017,12 @@ public class MySQLDialect extends Dialect {
 		throw new UnsupportedOperationException( "MySQL does not support dropping creating/dropping schemas in the JDBC sense" );
 	}
 
+	@Override
+	public int getMultiRowInsertLimit() {
+		// the statement size is limited by 'max_allowed_packet', not by the number of rows
+		return Integer.MAX_VALUE;
+	}
+
 	@Override
 	public boolean supportsIfExistsBeforeTableName() {
 		return true;
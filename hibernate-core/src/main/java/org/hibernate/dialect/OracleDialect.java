@@ -1053,6 +1053,12 @@ public class OracleDialect extends Dialect {
 		return false;
 	}
 
+	@Override
+	public int getMultiRowInsertLimit() {
+		// table value constructors were introduced in 23c
+		return getVersion().isSameOrAfter( 23 ) ? Integer.MAX_VALUE : 0;
+	}
+
 	@Override
 	public int getInExpressionCountLimit() {
 		return PARAM_LIST_SIZE_LIMIT;
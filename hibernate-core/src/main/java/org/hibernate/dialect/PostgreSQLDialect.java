@@ -722,6 +722,12 @@ public class PostgreSQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public int getMultiRowInsertLimit() {
+		// no limit on the number of rows, only on the number of parameters
+		return Integer.MAX_VALUE;
+	}
+
 	@Override
 	public boolean supportsValuesList() {
 		return true;
@@ -609,6 +609,12 @@ public class SQLServerDialect extends AbstractTransactSQLDialect {
 		return false;
 	}
 
+	@Override
+	public int getMultiRowInsertLimit() {
+		// a table value constructor is limited to 1000 rows
+		return 1000;
+	}
+
 	@Override
 	public int getInExpressionCountLimit() {
 		return PARAM_LIST_SIZE_LIMIT;
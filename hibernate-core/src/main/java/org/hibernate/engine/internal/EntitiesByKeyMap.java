@@ -0,0 +1,408 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * The index of the entity instances held by a {@link StatefulPersistenceContext},
+ * by {@link EntityKey}.
+ * <p>
+ * Rather than a single {@link HashMap}, which allocates a node per entry and
+ * compares the keys through {@link org.hibernate.type.Type#isEqual}, the entries
+ * are split into one open-addressing table per entity hierarchy (consistently
+ * with {@link EntityKey#equals}, which only considers the root entity name and
+ * the identifier).  Hierarchies having an integral identifier use a table keyed
+ * by the primitive {@code long} value of the identifier, which avoids both the
+ * virtual calls needed to hash and compare the keys and most of the pointer
+ * chasing during the lookups.
+ * <p>
+ * The map views are only meant for the (deprecated)
+ * {@link org.hibernate.engine.spi.PersistenceContext#getEntitiesByKey()}
+ * and for serialization, they don't support removals.
+ *
+ * @see StatefulPersistenceContext
+ */
+final class EntitiesByKeyMap extends AbstractMap<EntityKey, Object> {
+	private static final int INITIAL_CAPACITY = 8;
+
+	private final HashMap<String, Table> tablesByRootEntityName = new HashMap<>();
+
+	// most of the time, consecutive operations target the same hierarchy
+	private String lastRootEntityName;
+	private Table lastTable;
+
+	private int size;
+	private int modCount;
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public Object get(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return null;
+		}
+		final EntityKey entityKey = (EntityKey) key;
+		final Table table = table( entityKey.getPersister(), false );
+		return table == null ? null : table.get( entityKey );
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get( key ) != null;
+	}
+
+	@Override
+	public Object put(EntityKey key, Object value) {
+		if ( value == null ) {
+			throw new IllegalArgumentException( "Entity instance can not be null" );
+		}
+		final Object previous = table( key.getPersister(), true ).put( key, value );
+		if ( previous == null ) {
+			size++;
+			modCount++;
+		}
+		return previous;
+	}
+
+	@Override
+	public Object remove(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return null;
+		}
+		final EntityKey entityKey = (EntityKey) key;
+		final Table table = table( entityKey.getPersister(), false );
+		if ( table == null ) {
+			return null;
+		}
+		final Object previous = table.remove( entityKey );
+		if ( previous != null ) {
+			size--;
+			modCount++;
+		}
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		tablesByRootEntityName.clear();
+		lastRootEntityName = null;
+		lastTable = null;
+		size = 0;
+		modCount++;
+	}
+
+	private Table table(EntityPersister persister, boolean create) {
+		final String rootEntityName = persister.getRootEntityName();
+		if ( rootEntityName == lastRootEntityName ) {
+			return lastTable;
+		}
+		Table table = tablesByRootEntityName.get( rootEntityName );
+		if ( table == null ) {
+			if ( !create ) {
+				return null;
+			}
+			table = isIntegral( persister.getIdentifierType().getReturnedClass() )
+					? new LongIdTable()
+					: new KeyTable();
+			tablesByRootEntityName.put( rootEntityName, table );
+		}
+		lastRootEntityName = rootEntityName;
+		lastTable = table;
+		return table;
+	}
+
+	private static boolean isIntegral(Class<?> idClass) {
+		return idClass == Long.class || idClass == Integer.class || idClass == Short.class
+				|| idClass == long.class || idClass == int.class || idClass == short.class;
+	}
+
+	/**
+	 * Iterates over the entity instances, without materializing the entries
+	 */
+	Iterator<Object> valuesIterator() {
+		return new EntryIterator<>() {
+			@Override
+			Object next(Table table, int slot) {
+				return table.values[slot];
+			}
+		};
+	}
+
+	@Override
+	public Set<Entry<EntityKey, Object>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<EntityKey, Object>> iterator() {
+				return new EntryIterator<>() {
+					@Override
+					Entry<EntityKey, Object> next(Table table, int slot) {
+						return new SimpleImmutableEntry<>( table.keys[slot], table.values[slot] );
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				if ( !( o instanceof Entry ) ) {
+					return false;
+				}
+				final Entry<?, ?> entry = (Entry<?, ?>) o;
+				final Object value = get( entry.getKey() );
+				return value != null && value.equals( entry.getValue() );
+			}
+		};
+	}
+
+	private abstract class EntryIterator<T> implements Iterator<T> {
+		private final Iterator<Table> tables = tablesByRootEntityName.values().iterator();
+		private final int expectedModCount = modCount;
+		private Table table;
+		private int slot = -1;
+
+		private EntryIterator() {
+			advance();
+		}
+
+		private void advance() {
+			while ( true ) {
+				if ( table != null ) {
+					final EntityKey[] keys = table.keys;
+					while ( ++slot < keys.length ) {
+						if ( keys[slot] != null ) {
+							return;
+						}
+					}
+				}
+				if ( !tables.hasNext() ) {
+					table = null;
+					return;
+				}
+				table = tables.next();
+				slot = -1;
+			}
+		}
+
+		abstract T next(Table table, int slot);
+
+		@Override
+		public boolean hasNext() {
+			return table != null;
+		}
+
+		@Override
+		public T next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( table == null ) {
+				throw new NoSuchElementException();
+			}
+			final T next = next( table, slot );
+			advance();
+			return next;
+		}
+	}
+
+	/**
+	 * An open-addressing (linear probing) table for the entities of a single
+	 * hierarchy.  Removals use backward shifting, so that there are no tombstones.
+	 */
+	private abstract static class Table {
+		EntityKey[] keys = new EntityKey[INITIAL_CAPACITY];
+		Object[] values = new Object[INITIAL_CAPACITY];
+		int size;
+
+		abstract int slot(EntityKey key, int mask);
+
+		abstract boolean matches(int slot, EntityKey key);
+
+		abstract void store(int slot, EntityKey key);
+
+		abstract void move(int from, int to);
+
+		abstract void resize(int capacity);
+
+		private int find(EntityKey key) {
+			final int mask = keys.length - 1;
+			int slot = slot( key, mask );
+			while ( keys[slot] != null ) {
+				if ( matches( slot, key ) ) {
+					return slot;
+				}
+				slot = ( slot + 1 ) & mask;
+			}
+			return -1 - slot;
+		}
+
+		Object get(EntityKey key) {
+			final int slot = find( key );
+			return slot < 0 ? null : values[slot];
+		}
+
+		Object put(EntityKey key, Object value) {
+			int slot = find( key );
+			if ( slot >= 0 ) {
+				final Object previous = values[slot];
+				values[slot] = value;
+				return previous;
+			}
+			// keep the load factor under 2/3
+			if ( 3 * ( size + 1 ) > 2 * keys.length ) {
+				resize( keys.length << 1 );
+				slot = find( key );
+			}
+			slot = -1 - slot;
+			store( slot, key );
+			values[slot] = value;
+			size++;
+			return null;
+		}
+
+		Object remove(EntityKey key) {
+			final int slot = find( key );
+			if ( slot < 0 ) {
+				return null;
+			}
+			final Object previous = values[slot];
+			final int mask = keys.length - 1;
+			int hole = slot;
+			int next = ( hole + 1 ) & mask;
+			while ( keys[next] != null ) {
+				final int home = slot( keys[next], mask );
+				// move the entry back if the hole lies between its home slot and its current slot
+				if ( ( ( next - home ) & mask ) >= ( ( next - hole ) & mask ) ) {
+					move( next, hole );
+					values[hole] = values[next];
+					hole = next;
+				}
+				next = ( next + 1 ) & mask;
+			}
+			keys[hole] = null;
+			values[hole] = null;
+			size--;
+			return previous;
+		}
+
+		void rehash(EntityKey[] oldKeys, Object[] oldValues, int capacity) {
+			keys = new EntityKey[capacity];
+			values = new Object[capacity];
+			final int mask = capacity - 1;
+			for ( int i = 0; i < oldKeys.length; i++ ) {
+				final EntityKey key = oldKeys[i];
+				if ( key != null ) {
+					int slot = slot( key, mask );
+					while ( keys[slot] != null ) {
+						slot = ( slot + 1 ) & mask;
+					}
+					store( slot, key );
+					values[slot] = oldValues[i];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Table for identifiers of any type, relying on {@link EntityKey#hashCode()}
+	 * and {@link EntityKey#equals(Object)}
+	 */
+	private static final class KeyTable extends Table {
+		@Override
+		int slot(EntityKey key, int mask) {
+			final int hash = key.hashCode();
+			return ( hash ^ ( hash >>> 16 ) ) & mask;
+		}
+
+		@Override
+		boolean matches(int slot, EntityKey key) {
+			final EntityKey existing = keys[slot];
+			return existing == key || existing.equals( key );
+		}
+
+		@Override
+		void store(int slot, EntityKey key) {
+			keys[slot] = key;
+		}
+
+		@Override
+		void move(int from, int to) {
+			keys[to] = keys[from];
+		}
+
+		@Override
+		void resize(int capacity) {
+			rehash( keys, values, capacity );
+		}
+	}
+
+	/**
+	 * Table for {@code long}, {@code int} and {@code short} identifiers, which
+	 * keeps the primitive values of the identifiers in a parallel array
+	 */
+	private static final class LongIdTable extends Table {
+		private long[] ids = new long[INITIAL_CAPACITY];
+
+		private static long id(EntityKey key) {
+			return ( (Number) key.getIdentifier() ).longValue();
+		}
+
+		private static int slot(long id, int mask) {
+			// Fibonacci hashing, so that sequential identifiers spread over the table
+			return (int) ( ( id * 0x9E3779B97F4A7C15L ) >>> 32 ) & mask;
+		}
+
+		@Override
+		int slot(EntityKey key, int mask) {
+			return slot( id( key ), mask );
+		}
+
+		@Override
+		boolean matches(int slot, EntityKey key) {
+			return ids[slot] == id( key );
+		}
+
+		@Override
+		void store(int slot, EntityKey key) {
+			keys[slot] = key;
+			ids[slot] = id( key );
+		}
+
+		@Override
+		void move(int from, int to) {
+			keys[to] = keys[from];
+			ids[to] = ids[from];
+		}
+
+		@Override
+		void resize(int capacity) {
+			ids = new long[capacity];
+			rehash( keys, values, capacity );
+		}
+	}
+}
@@ -7,6 +7,10 @@
 package org.hibernate.engine.jdbc.batch.internal;
 
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.hibernate.Internal;
@@ -17,8 +21,11 @@ import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+import org.hibernate.service.spi.Stoppable;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
+import org.hibernate.type.descriptor.WrapperOptions;
 
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_TRACE_ENABLED;
@@ -29,8 +36,12 @@ import static org.hibernate.jdbc.Expectations.NONE;
  *
  * @author Steve Ebersole
  */
-public class BatchBuilderImpl implements BatchBuilder {
+public class BatchBuilderImpl implements BatchBuilder, Stoppable {
 	private final int globalBatchSize;
+	private final boolean multiRowInserts;
+	private final boolean pipelining;
+
+	private volatile ExecutorService pipelineExecutor;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -39,14 +50,44 @@ public class BatchBuilderImpl implements BatchBuilder {
 	 * on {@link #buildBatch}
 	 */
 	public BatchBuilderImpl(int globalBatchSize) {
+		this( globalBatchSize, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInserts Whether batched inserts should be written using
+	 * multi-row {@code insert} statements
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean multiRowInserts) {
+		this( globalBatchSize, multiRowInserts, false );
+	}
+
+	/**
+	 * Constructs a BatchBuilderImpl
+	 *
+	 * @param globalBatchSize The batch size to use.  Can be overridden
+	 * on {@link #buildBatch}
+	 * @param multiRowInserts Whether batched inserts should be written using
+	 * multi-row {@code insert} statements
+	 * @param pipelining Whether full batches should be executed on a background
+	 * thread.  Ignored if {@code multiRowInserts} is enabled.
+	 */
+	public BatchBuilderImpl(int globalBatchSize, boolean multiRowInserts, boolean pipelining) {
 		if ( BATCH_TRACE_ENABLED ) {
 			BATCH_LOGGER.tracef(
-					"Using standard BatchBuilder (%s)",
-					globalBatchSize
+					"Using standard BatchBuilder (%s, multi-row inserts: %s, pipelining: %s)",
+					(Object) globalBatchSize,
+					multiRowInserts,
+					pipelining
 			);
 		}
 
 		this.globalBatchSize = globalBatchSize;
+		this.multiRowInserts = multiRowInserts;
+		this.pipelining = pipelining && !multiRowInserts;
 	}
 
 	public int getJdbcBatchSize() {
@@ -64,7 +105,55 @@ public class BatchBuilderImpl implements BatchBuilder {
 				: explicitBatchSize;
 		assert batchSize > 1;
 
-		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
+		final JdbcSessionOwner sessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		if ( pipelining && sessionOwner instanceof WrapperOptions ) {
+			return new PipelinedBatchImpl(
+					key,
+					statementGroupSupplier.get(),
+					batchSize,
+					jdbcCoordinator,
+					(WrapperOptions) sessionOwner,
+					getPipelineExecutor()
+			);
+		}
+
+		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator, multiRowInserts );
+	}
+
+	private ExecutorService getPipelineExecutor() {
+		ExecutorService executor = pipelineExecutor;
+		if ( executor == null ) {
+			synchronized ( this ) {
+				executor = pipelineExecutor;
+				if ( executor == null ) {
+					// threads are only kept while batches are being executed
+					executor = Executors.newCachedThreadPool( new PipelineThreadFactory() );
+					pipelineExecutor = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	@Override
+	public void stop() {
+		final ExecutorService executor = pipelineExecutor;
+		if ( executor != null ) {
+			executor.shutdown();
+			pipelineExecutor = null;
+		}
+	}
+
+	private static class PipelineThreadFactory implements ThreadFactory {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate JDBC Batch Pipeline Thread " + count.incrementAndGet() );
+			return thread;
+		}
 	}
 
 
@@ -143,7 +232,8 @@ public class BatchBuilderImpl implements BatchBuilder {
 						session
 				),
 				batchSize,
-				jdbcCoordinator
+				jdbcCoordinator,
+				multiRowInserts
 		);
 	}
 }
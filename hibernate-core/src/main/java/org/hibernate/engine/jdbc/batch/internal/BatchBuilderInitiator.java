@@ -50,7 +50,9 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 
 		if ( builder == null ) {
 			return new BatchBuilderImpl(
-					ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 )
+					ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 ),
+					ConfigurationHelper.getBoolean( AvailableSettings.BATCH_MULTI_ROW_INSERTS, configurationValues ),
+					ConfigurationHelper.getBoolean( AvailableSettings.BATCH_PIPELINING, configurationValues )
 			);
 		}
 
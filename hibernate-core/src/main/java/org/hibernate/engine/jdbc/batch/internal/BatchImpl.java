@@ -8,9 +8,12 @@ package org.hibernate.engine.jdbc.batch.internal;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
+import org.hibernate.StaleStateException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
@@ -22,7 +25,10 @@ import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.jdbc.Expectations;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+import org.hibernate.type.descriptor.WrapperOptions;
 
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_DEBUG_ENABLED;
@@ -48,6 +54,11 @@ public class BatchImpl implements Batch {
 
 	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
 
+	private final int multiRowInsertSize;
+	private final int parameterCountLimit;
+	private final WrapperOptions wrapperOptions;
+	private final Map<String, MultiRowInsert> multiRowInserts;
+
 	private int batchPosition;
 	private boolean batchExecuted;
 
@@ -56,6 +67,21 @@ public class BatchImpl implements Batch {
 			PreparedStatementGroup statementGroup,
 			int batchSizeToUse,
 			JdbcCoordinator jdbcCoordinator) {
+		this( key, statementGroup, batchSizeToUse, jdbcCoordinator, false );
+	}
+
+	/**
+	 * @param multiRowInserts Whether single-row inserts should be written using
+	 * multi-row {@code insert} statements, if the dialect supports it
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_MULTI_ROW_INSERTS
+	 */
+	public BatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			boolean multiRowInserts) {
 		if ( key == null ) {
 			throw new IllegalArgumentException( "Batch key cannot be null" );
 		}
@@ -73,6 +99,19 @@ public class BatchImpl implements Batch {
 
 		this.batchSizeToUse = batchSizeToUse;
 
+		final JdbcSessionOwner sessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		if ( multiRowInserts && sessionOwner instanceof WrapperOptions ) {
+			this.multiRowInsertSize = Math.min( batchSizeToUse, jdbcServices.getDialect().getMultiRowInsertLimit() );
+			this.parameterCountLimit = jdbcServices.getDialect().getParameterCountLimit();
+			this.wrapperOptions = (WrapperOptions) sessionOwner;
+		}
+		else {
+			this.multiRowInsertSize = 0;
+			this.parameterCountLimit = 0;
+			this.wrapperOptions = null;
+		}
+		this.multiRowInserts = multiRowInsertSize > 1 ? new HashMap<>() : null;
+
 		if ( BATCH_TRACE_ENABLED ) {
 			BATCH_LOGGER.tracef(
 					"Created Batch (%s) - `%s`",
@@ -120,6 +159,20 @@ public class BatchImpl implements Batch {
 					return;
 				}
 
+				final MultiRowInsert multiRowInsert = resolveMultiRowInsert( statementDetails );
+				if ( multiRowInsert != null ) {
+					// the row is written later, together with the other rows of the batch
+					try {
+						multiRowInsert.addRow( jdbcValueBindings.getBindingGroup(
+								statementDetails.getMutatingTableDetails().getTableName()
+						) );
+					}
+					finally {
+						jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+					}
+					return;
+				}
+
 				//noinspection resource
 				final PreparedStatement statement = statementDetails.resolveStatement();
 				sqlStatementLogger.logStatement( statementDetails.getSqlString() );
@@ -155,7 +208,37 @@ public class BatchImpl implements Batch {
 		}
 	}
 
+	private MultiRowInsert resolveMultiRowInsert(PreparedStatementDetails statementDetails) {
+		if ( multiRowInserts == null ) {
+			return null;
+		}
+		final String tableName = statementDetails.getMutatingTableDetails().getTableName();
+		if ( multiRowInserts.containsKey( tableName ) ) {
+			return multiRowInserts.get( tableName );
+		}
+		// null is cached too, for statements which are not multi-row candidates
+		final MultiRowInsert multiRowInsert = MultiRowInsert.from( statementDetails, multiRowInsertSize, parameterCountLimit );
+		if ( multiRowInsert != null && BATCH_DEBUG_ENABLED ) {
+			BATCH_LOGGER.debugf(
+					"Using multi-row inserts of up to %s rows for table `%s` - %s",
+					multiRowInsert.getRowsPerStatement(),
+					tableName,
+					getKey().toLoggableString()
+			);
+		}
+		multiRowInserts.put( tableName, multiRowInsert );
+		return multiRowInsert;
+	}
+
 	protected void releaseStatements() {
+		if ( multiRowInserts != null ) {
+			multiRowInserts.forEach( (tableName, multiRowInsert) -> {
+				if ( multiRowInsert != null ) {
+					multiRowInsert.clear();
+				}
+			} );
+		}
+
 		statementGroup.forEachStatement( (tableName, statementDetails) -> {
 			if ( statementDetails.getStatement() == null ) {
 				BATCH_LOGGER.debugf(
@@ -263,6 +346,12 @@ public class BatchImpl implements Batch {
 				final String sql = statementDetails.getSqlString();
 				final PreparedStatement statement = statementDetails.getStatement();
 
+				final MultiRowInsert multiRowInsert = resolveMultiRowInsert( statementDetails );
+				if ( multiRowInsert != null ) {
+					performMultiRowInsert( multiRowInsert, statementDetails );
+					return;
+				}
+
 				if ( statement == null ) {
 					return;
 				}
@@ -300,6 +389,45 @@ public class BatchImpl implements Batch {
 		}
 	}
 
+	private void performMultiRowInsert(MultiRowInsert multiRowInsert, PreparedStatementDetails statementDetails) {
+		final int rowCount = multiRowInsert.getRowCount();
+		int row = 0;
+		try {
+			while ( row < rowCount ) {
+				final int rowsInStatement = Math.min( rowCount - row, multiRowInsert.getRowsPerStatement() );
+				final String sql = multiRowInsert.getSql( rowsInStatement );
+				final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
+				try {
+					multiRowInsert.bindRows( statement, row, rowsInStatement, wrapperOptions );
+					final int insertedRows = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+					if ( statementDetails.getMutatingTableDetails().isIdentifierTable()
+							&& statementDetails.getExpectation() != Expectations.NONE
+							&& insertedRows != rowsInStatement ) {
+						throw new StaleStateException(
+								"Multi-row insert returned unexpected row count: " + insertedRows
+										+ "; expected: " + rowsInStatement + "; statement executed: " + sql
+						);
+					}
+				}
+				catch (SQLException e) {
+					throw sqlExceptionHelper.convert( e, "could not bind multi-row insert", sql );
+				}
+				finally {
+					jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+				}
+				row += rowsInStatement;
+			}
+		}
+		catch (RuntimeException re) {
+			abortBatch( re );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, statementDetails.getSqlString() );
+			throw re;
+		}
+		finally {
+			multiRowInsert.clear();
+		}
+	}
+
 	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails) throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
 		if ( batchPosition != 0 ) {
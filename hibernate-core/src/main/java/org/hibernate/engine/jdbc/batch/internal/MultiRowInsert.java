@@ -0,0 +1,194 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+/**
+ * Accumulates the rows added to a {@link BatchImpl} for a single-row
+ * {@code insert into ... values (...)} statement, so that they can be written
+ * using multi-row {@code insert into ... values (...), (...)} statements.
+ * <p>
+ * Only statements whose SQL ends with a single {@code values} tuple are
+ * handled; anything else (custom SQL, {@code returning} clauses, callable
+ * statements, ...) is left to the normal JDBC batching.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_MULTI_ROW_INSERTS
+ */
+class MultiRowInsert {
+	private static final String VALUES = " values ";
+
+	private final String prefix;
+	private final String rowTuple;
+	private final int parametersPerRow;
+	private final int rowsPerStatement;
+
+	private final List<List<Binding>> rows = new ArrayList<>();
+	private String fullSizeSql;
+
+	private MultiRowInsert(String prefix, String rowTuple, int parametersPerRow, int rowsPerStatement) {
+		this.prefix = prefix;
+		this.rowTuple = rowTuple;
+		this.parametersPerRow = parametersPerRow;
+		this.rowsPerStatement = rowsPerStatement;
+	}
+
+	/**
+	 * Creates the multi-row handling for the given statement, or returns
+	 * {@code null} if the statement is not a candidate.
+	 *
+	 * @param maxRows The maximum number of rows per statement
+	 * @param parameterCountLimit The maximum number of parameters per statement,
+	 * or a non-positive number if unlimited
+	 */
+	static MultiRowInsert from(PreparedStatementDetails statementDetails, int maxRows, int parameterCountLimit) {
+		if ( !statementDetails.getExpectation().canBeBatched() ) {
+			return null;
+		}
+
+		final String sql = statementDetails.getSqlString().trim();
+		if ( !sql.regionMatches( true, 0, "insert ", 0, 7 ) || !sql.endsWith( ")" ) ) {
+			return null;
+		}
+
+		final int valuesIndex = sql.toLowerCase( Locale.ROOT ).lastIndexOf( VALUES );
+		if ( valuesIndex < 0 ) {
+			return null;
+		}
+		final String prefix = sql.substring( 0, valuesIndex );
+		final String rowTuple = sql.substring( valuesIndex + VALUES.length() ).trim();
+		if ( prefix.indexOf( '?' ) >= 0 || !isSingleTuple( rowTuple ) ) {
+			return null;
+		}
+
+		final int parametersPerRow = countParameters( rowTuple );
+		if ( parametersPerRow == 0 ) {
+			return null;
+		}
+
+		int rowsPerStatement = maxRows;
+		if ( parameterCountLimit > 0 ) {
+			rowsPerStatement = Math.min( rowsPerStatement, parameterCountLimit / parametersPerRow );
+		}
+		if ( rowsPerStatement < 2 ) {
+			return null;
+		}
+
+		return new MultiRowInsert( prefix, rowTuple, parametersPerRow, rowsPerStatement );
+	}
+
+	/**
+	 * Whether the tuple is enclosed in a single pair of balanced parentheses,
+	 * i.e. {@code (?,?)} but not {@code (?,?) on conflict (id)}
+	 */
+	private static boolean isSingleTuple(String tuple) {
+		if ( tuple.isEmpty() || tuple.charAt( 0 ) != '(' ) {
+			return false;
+		}
+		int depth = 0;
+		boolean inLiteral = false;
+		for ( int i = 0; i < tuple.length(); i++ ) {
+			final char c = tuple.charAt( i );
+			if ( c == '\'' ) {
+				inLiteral = !inLiteral;
+			}
+			else if ( !inLiteral ) {
+				if ( c == '(' ) {
+					depth++;
+				}
+				else if ( c == ')' ) {
+					depth--;
+					if ( depth == 0 ) {
+						return i == tuple.length() - 1;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	private static int countParameters(String tuple) {
+		int count = 0;
+		boolean inLiteral = false;
+		for ( int i = 0; i < tuple.length(); i++ ) {
+			final char c = tuple.charAt( i );
+			if ( c == '\'' ) {
+				inLiteral = !inLiteral;
+			}
+			else if ( c == '?' && !inLiteral ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	int getRowsPerStatement() {
+		return rowsPerStatement;
+	}
+
+	int getRowCount() {
+		return rows.size();
+	}
+
+	/**
+	 * Adds a row, using the bindings accumulated for the table.  The bindings
+	 * themselves are immutable, so we only need to copy the collection.
+	 */
+	void addRow(BindingGroup bindingGroup) {
+		rows.add( bindingGroup == null
+				? Collections.emptyList()
+				: new ArrayList<>( bindingGroup.getBindings() ) );
+	}
+
+	void clear() {
+		rows.clear();
+	}
+
+	/**
+	 * The multi-row SQL writing {@code rowCount} rows
+	 */
+	String getSql(int rowCount) {
+		if ( rowCount == rowsPerStatement ) {
+			if ( fullSizeSql == null ) {
+				fullSizeSql = renderSql( rowCount );
+			}
+			return fullSizeSql;
+		}
+		return renderSql( rowCount );
+	}
+
+	private String renderSql(int rowCount) {
+		final StringBuilder sql = new StringBuilder( prefix.length() + VALUES.length() + rowCount * ( rowTuple.length() + 1 ) );
+		sql.append( prefix ).append( VALUES ).append( rowTuple );
+		for ( int i = 1; i < rowCount; i++ ) {
+			sql.append( ',' ).append( rowTuple );
+		}
+		return sql.toString();
+	}
+
+	/**
+	 * Binds the rows {@code [fromRow, fromRow + rowCount)} to the given statement
+	 */
+	void bindRows(PreparedStatement statement, int fromRow, int rowCount, WrapperOptions options) throws SQLException {
+		for ( int i = 0; i < rowCount; i++ ) {
+			final int offset = i * parametersPerRow;
+			for ( Binding binding : rows.get( fromRow + i ) ) {
+				binding.getValueBinder().bind( statement, binding.getValue(), offset + binding.getPosition(), options );
+			}
+		}
+	}
+}
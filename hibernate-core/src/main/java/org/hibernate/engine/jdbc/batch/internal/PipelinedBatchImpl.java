@@ -0,0 +1,412 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchObserver;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_TRACE_ENABLED;
+import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER;
+import static org.hibernate.sql.model.ModelMutationLogging.MODEL_MUTATION_LOGGER_TRACE_ENABLED;
+
+/**
+ * Batch implementation which executes full batches on a background thread.
+ * <p>
+ * Unlike {@link BatchImpl}, {@link #addToBatch} does not touch JDBC at all:
+ * the bindings of each row are collected in memory.  Once the batch is full,
+ * the collected rows are handed off to the executor, which binds them to the
+ * statements and executes them, while the session goes on to prepare the rows
+ * of the next batch.  At most one execution is in flight at any time, and
+ * {@link #awaitCompletion()} is called before the connection is used for
+ * anything else, so the connection is never used by two threads at once.
+ * <p>
+ * Failures of a background execution, including unexpected row counts, are
+ * reported by the next hand-off, {@link #awaitCompletion()} or {@link #execute()},
+ * hence at the latest at the end of the flush, before the transaction completes.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_PIPELINING
+ */
+public class PipelinedBatchImpl implements Batch {
+	private final BatchKey key;
+	private final int batchSizeToUse;
+	private final PreparedStatementGroup statementGroup;
+
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+	private final WrapperOptions wrapperOptions;
+	private final Executor executor;
+
+	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
+
+	// the bindings of the rows added since the last hand-off, by table name
+	private Map<String, List<List<Binding>>> pendingRows = new HashMap<>();
+	private int batchPosition;
+
+	private CompletableFuture<Void> inFlight;
+	private volatile Thread executingThread;
+
+	public PipelinedBatchImpl(
+			BatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			WrapperOptions wrapperOptions,
+			Executor executor) {
+		if ( key == null ) {
+			throw new IllegalArgumentException( "Batch key cannot be null" );
+		}
+		if ( jdbcCoordinator == null ) {
+			throw new IllegalArgumentException( "JDBC coordinator cannot be null" );
+		}
+
+		this.key = key;
+		this.jdbcCoordinator = jdbcCoordinator;
+		this.statementGroup = statementGroup;
+		this.wrapperOptions = wrapperOptions;
+		this.executor = executor;
+
+		final JdbcServices jdbcServices = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getJdbcServices();
+		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+
+		this.batchSizeToUse = batchSizeToUse;
+
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Created pipelined Batch (%s) - `%s`",
+					batchSizeToUse,
+					key.toLoggableString()
+			);
+		}
+	}
+
+	@Override
+	public final BatchKey getKey() {
+		return key;
+	}
+
+	@Override
+	public PreparedStatementGroup getStatementGroup() {
+		return statementGroup;
+	}
+
+	@Override
+	public void addObserver(BatchObserver observer) {
+		observers.add( observer );
+	}
+
+	@Override
+	public void addToBatch(JdbcValueBindings jdbcValueBindings, TableInclusionChecker inclusionChecker) {
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Adding to pipelined JDBC batch (%s) - `%s`",
+					batchPosition + 1,
+					getKey().toLoggableString()
+			);
+		}
+
+		try {
+			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+				final TableMapping tableDetails = statementDetails.getMutatingTableDetails();
+				if ( inclusionChecker != null && !inclusionChecker.include( tableDetails ) ) {
+					if ( MODEL_MUTATION_LOGGER_TRACE_ENABLED ) {
+						MODEL_MUTATION_LOGGER.tracef(
+								"Skipping addBatch for table : %s (batch-position=%s)",
+								tableDetails.getTableName(),
+								batchPosition+1
+						);
+					}
+					return;
+				}
+
+				try {
+					// the bindings themselves are immutable, we only need to copy the collection
+					final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableDetails.getTableName() );
+					pendingRows.computeIfAbsent( tableDetails.getTableName(), (name) -> new ArrayList<>( batchSizeToUse ) )
+							.add( bindingGroup == null ? Collections.emptyList() : new ArrayList<>( bindingGroup.getBindings() ) );
+				}
+				finally {
+					jdbcValueBindings.afterStatement( tableDetails );
+				}
+			} );
+		}
+		catch (RuntimeException e) {
+			abortBatch( e );
+			throw e;
+		}
+
+		batchPosition++;
+		if ( batchPosition == batchSizeToUse ) {
+			notifyObserversImplicitExecution();
+			handOff();
+		}
+	}
+
+	/**
+	 * Hands the pending rows off to the executor, after waiting for the
+	 * previous execution, if any, since both use the same statements
+	 */
+	private void handOff() {
+		awaitCompletion();
+
+		final Map<String, List<List<Binding>>> rows = pendingRows;
+		pendingRows = new HashMap<>();
+		batchPosition = 0;
+
+		if ( BATCH_TRACE_ENABLED ) {
+			BATCH_LOGGER.tracef(
+					"Handing off JDBC batch (%s) - `%s`",
+					batchSizeToUse,
+					getKey().toLoggableString()
+			);
+		}
+
+		inFlight = CompletableFuture.runAsync(
+				() -> {
+					executingThread = Thread.currentThread();
+					try {
+						performExecution( rows );
+					}
+					finally {
+						executingThread = null;
+					}
+				},
+				executor
+		);
+	}
+
+	@Override
+	public void awaitCompletion() {
+		final RuntimeException failure = awaitInFlight();
+		if ( failure != null ) {
+			abortBatch( failure );
+			throw failure;
+		}
+	}
+
+	/**
+	 * Wait for the in-flight execution, if any.
+	 *
+	 * @return The failure of the execution, or {@code null}
+	 */
+	private RuntimeException awaitInFlight() {
+		if ( Thread.currentThread() == executingThread ) {
+			// the execution itself is using the JDBC coordinator
+			return null;
+		}
+
+		final CompletableFuture<Void> execution = inFlight;
+		if ( execution == null ) {
+			return null;
+		}
+
+		inFlight = null;
+		try {
+			execution.join();
+			return null;
+		}
+		catch (CompletionException e) {
+			final Throwable cause = e.getCause();
+			return cause instanceof RuntimeException
+					? (RuntimeException) cause
+					: new HibernateException( "Could not execute batch", cause );
+		}
+		catch (RuntimeException e) {
+			return e;
+		}
+	}
+
+	@Override
+	public void execute() {
+		notifyObserversExplicitExecution();
+		if ( getStatementGroup().getNumberOfStatements() == 0 ) {
+			return;
+		}
+
+		try {
+			awaitCompletion();
+			if ( batchPosition > 0 ) {
+				final Map<String, List<List<Binding>>> rows = pendingRows;
+				pendingRows = new HashMap<>();
+				batchPosition = 0;
+				try {
+					performExecution( rows );
+				}
+				catch (RuntimeException e) {
+					abortBatch( e );
+					throw e;
+				}
+			}
+		}
+		finally {
+			releaseStatements();
+		}
+	}
+
+	/**
+	 * Binds and executes the given rows.  Called either on the session thread,
+	 * or on the executor with the session thread waiting for it before using
+	 * the connection.
+	 */
+	protected void performExecution(Map<String, List<List<Binding>>> rows) {
+		//noinspection deprecation
+		final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+		getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+			final List<List<Binding>> tableRows = rows.get( statementDetails.getMutatingTableDetails().getTableName() );
+			if ( tableRows == null || tableRows.isEmpty() ) {
+				return;
+			}
+
+			final String sql = statementDetails.getSqlString();
+			try {
+				final PreparedStatement statement = statementDetails.resolveStatement();
+				for ( List<Binding> row : tableRows ) {
+					sqlStatementLogger.logStatement( sql );
+					for ( Binding binding : row ) {
+						binding.getValueBinder().bind( statement, binding.getValue(), binding.getPosition(), wrapperOptions );
+					}
+					statement.addBatch();
+				}
+
+				if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					final int[] rowCounts;
+					try {
+						observer.jdbcExecuteBatchStart();
+						rowCounts = statement.executeBatch();
+					}
+					finally {
+						observer.jdbcExecuteBatchEnd();
+					}
+					checkRowCounts( rowCounts, tableRows.size(), statementDetails );
+				}
+				else {
+					statement.executeBatch();
+				}
+			}
+			catch (SQLException e) {
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+				throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+			}
+			catch (RuntimeException re) {
+				BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
+				throw re;
+			}
+		} );
+	}
+
+	private void checkRowCounts(int[] rowCounts, int expectedNumberOfCounts, PreparedStatementDetails statementDetails)
+			throws SQLException, HibernateException {
+		final int numberOfRowCounts = rowCounts.length;
+		if ( numberOfRowCounts != expectedNumberOfCounts ) {
+			JDBC_MESSAGE_LOGGER.unexpectedRowCounts(
+					statementDetails.getMutatingTableDetails().getTableName(),
+					numberOfRowCounts,
+					expectedNumberOfCounts
+			);
+		}
+
+		for ( int i = 0; i < numberOfRowCounts; i++ ) {
+			statementDetails.getExpectation().verifyOutcome( rowCounts[i], statementDetails.getStatement(), i, statementDetails.getSqlString() );
+		}
+	}
+
+	protected void releaseStatements() {
+		pendingRows.clear();
+		batchPosition = 0;
+
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final PreparedStatement statement = statementDetails.getStatement();
+			if ( statement == null ) {
+				return;
+			}
+
+			try {
+				if ( !statement.isClosed() ) {
+					statement.clearBatch();
+				}
+			}
+			catch ( SQLException e ) {
+				BATCH_MESSAGE_LOGGER.unableToReleaseBatchStatement();
+			}
+		} );
+
+		statementGroup.release();
+		jdbcCoordinator.afterStatementExecution();
+	}
+
+	protected final void notifyObserversExplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchExplicitlyExecuted();
+		}
+	}
+
+	protected final void notifyObserversImplicitExecution() {
+		for ( BatchObserver observer : observers ) {
+			observer.batchImplicitlyExecuted();
+		}
+	}
+
+	protected void abortBatch(Exception cause) {
+		try {
+			jdbcCoordinator.abortBatch();
+		}
+		catch (RuntimeException e) {
+			cause.addSuppressed( e );
+		}
+	}
+
+	@Override
+	public void release() {
+		// the statements cannot be released while they are being executed
+		final RuntimeException failure = awaitInFlight();
+		if ( failure != null ) {
+			BATCH_LOGGER.debug( "Pipelined batch execution failed before release", failure );
+		}
+
+		if ( BATCH_MESSAGE_LOGGER.isInfoEnabled() && batchPosition > 0 ) {
+			BATCH_MESSAGE_LOGGER.batchContainedStatementsOnRelease();
+		}
+		releaseStatements();
+		observers.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "PipelinedBatchImpl(" + getKey().toLoggableString() + ")";
+	}
+}
@@ -56,6 +56,18 @@ public interface Batch {
 	 */
 	void execute();
 
+	/**
+	 * Wait for any execution of this batch which is running in the background
+	 * to complete, propagating its failure, if any.  Called before the JDBC
+	 * connection is used for anything other than adding to this batch.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_PIPELINING
+	 *
+	 * @since 6.3
+	 */
+	default void awaitCompletion() {
+	}
+
 	/**
 	 * Used to indicate that the batch instance is no longer needed and that, therefore,
 	 * it can release its resources.
@@ -212,10 +212,23 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 	}
 
+	/**
+	 * The current batch may be executing on a background thread (see
+	 * {@link org.hibernate.cfg.AvailableSettings#BATCH_PIPELINING}), in
+	 * which case that execution must complete before the connection is
+	 * used for anything else.
+	 */
+	private void awaitBatchCompletion() {
+		if ( currentBatch != null ) {
+			currentBatch.awaitCompletion();
+		}
+	}
+
 	private transient StatementPreparer statementPreparer;
 
 	@Override
 	public StatementPreparer getStatementPreparer() {
+		awaitBatchCompletion();
 		if ( statementPreparer == null ) {
 			statementPreparer = new StatementPreparerImpl( this, jdbcServices );
 		}
@@ -226,6 +239,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public MutationStatementPreparer getMutationStatementPreparer() {
+		awaitBatchCompletion();
 		if ( mutationStatementPreparer == null ) {
 			mutationStatementPreparer = new MutationStatementPreparerImpl( this, jdbcServices );
 		}
@@ -236,6 +250,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public ResultSetReturn getResultSetReturn() {
+		awaitBatchCompletion();
 		if ( resultSetExtractor == null ) {
 			resultSetExtractor = new ResultSetReturnImpl( this, jdbcServices );
 		}
@@ -298,6 +313,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public <T> T coordinateWork(WorkExecutorVisitable<T> work) {
+		awaitBatchCompletion();
 		final Connection connection = getLogicalConnection().getPhysicalConnection();
 		try {
 			final T result = work.accept( new WorkExecutor<>(), connection );
@@ -436,6 +452,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public void beforeTransactionCompletion() {
+		awaitBatchCompletion();
 		owner.beforeTransactionCompletion();
 		logicalConnection.beforeTransactionCompletion();
 	}
@@ -17,6 +17,7 @@ import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * @author Steve Ebersole
@@ -79,8 +80,10 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 
 	private abstract class StatementPreparationTemplate {
 		protected final String sql;
+		private final String incomingSql;
 
 		protected StatementPreparationTemplate(String incomingSql) {
+			this.incomingSql = incomingSql;
 			final String inspectedSql = jdbcCoordinator.getJdbcSessionOwner()
 					.getJdbcSessionContext()
 					.getStatementInspector()
@@ -95,6 +98,8 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner()
 						.getJdbcSessionContext()
 						.getObserver();
+				final StatisticsImplementor statistics = settings().getSessionFactory().getStatistics();
+				final long prepareStartNanos = statistics.isStatementStatisticsEnabled() ? System.nanoTime() : 0;
 				try {
 					observer.jdbcPrepareStatementStart();
 					preparedStatement = doPrepare();
@@ -102,6 +107,9 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 				}
 				finally {
 					observer.jdbcPrepareStatementEnd();
+					if ( prepareStartNanos != 0 ) {
+						statistics.statementPrepared( incomingSql, System.nanoTime() - prepareStartNanos );
+					}
 				}
 				postProcess( preparedStatement );
 				return preparedStatement;
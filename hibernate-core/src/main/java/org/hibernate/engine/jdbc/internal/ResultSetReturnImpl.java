@@ -18,6 +18,7 @@ import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Standard implementation of the ResultSetReturn contract
@@ -71,10 +72,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet extract(PreparedStatement statement, String sql) {
 		// IMPL NOTE : SQL logged by caller
-		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
-			executeStartNanos = System.nanoTime();
-		}
+		final long executeStartNanos = executeStartNanos();
 		try {
 			final ResultSet rs;
 			try {
@@ -84,6 +82,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+				statementExecuted( sql, executeStartNanos );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -93,6 +92,25 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		}
 	}
 
+	private long executeStartNanos() {
+		return sqlStatementLogger.getLogSlowQuery() > 0 || statistics().isStatementStatisticsEnabled()
+				? System.nanoTime()
+				: 0;
+	}
+
+	private void statementExecuted(String sql, long executeStartNanos) {
+		if ( executeStartNanos != 0 ) {
+			final StatisticsImplementor statistics = statistics();
+			if ( statistics.isStatementStatisticsEnabled() ) {
+				statistics.statementExecuted( sql, System.nanoTime() - executeStartNanos );
+			}
+		}
+	}
+
+	private StatisticsImplementor statistics() {
+		return jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getSessionFactory().getStatistics();
+	}
+
 	private void jdbcExecuteStatementEnd() {
 		jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteStatementEnd();
 	}
@@ -129,10 +147,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet extract(Statement statement, String sql) {
 		sqlStatementLogger.logStatement( sql );
-		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
-			executeStartNanos = System.nanoTime();
-		}
+		final long executeStartNanos = executeStartNanos();
 		try {
 			final ResultSet rs;
 			try {
@@ -142,6 +157,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+				statementExecuted( sql, executeStartNanos );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -184,10 +200,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet execute(PreparedStatement statement, String sql) {
 		// sql logged by StatementPreparerImpl
-		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
-			executeStartNanos = System.nanoTime();
-		}
+		final long executeStartNanos = executeStartNanos();
 		try {
 			final ResultSet rs;
 			try {
@@ -202,6 +215,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+				statementExecuted( sql, executeStartNanos );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -214,10 +228,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	@Override
 	public ResultSet execute(Statement statement, String sql) {
 		sqlStatementLogger.logStatement( sql );
-		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
-			executeStartNanos = System.nanoTime();
-		}
+		final long executeStartNanos = executeStartNanos();
 		try {
 			final ResultSet rs;
 			try {
@@ -232,6 +243,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			finally {
 				jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+				statementExecuted( sql, executeStartNanos );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -266,10 +278,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 	public int executeUpdate(PreparedStatement statement, String sql) {
 		assert statement != null;
 
-		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
-			executeStartNanos = System.nanoTime();
-		}
+		final long executeStartNanos = executeStartNanos();
 		try {
 			jdbcExecuteStatementStart();
 			return statement.executeUpdate();
@@ -280,16 +289,14 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		finally {
 			jdbcExecuteStatementEnd();
 			sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+			statementExecuted( sql, executeStartNanos );
 		}
 	}
 
 	@Override
 	public int executeUpdate(Statement statement, String sql) {
 		sqlStatementLogger.logStatement( sql );
-		long executeStartNanos = 0;
-		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
-			executeStartNanos = System.nanoTime();
-		}
+		final long executeStartNanos = executeStartNanos();
 		try {
 			jdbcExecuteStatementStart();
 			return statement.executeUpdate( sql );
@@ -300,6 +307,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		finally {
 			jdbcExecuteStatementEnd();
 			sqlStatementLogger.logSlowQuery( sql, executeStartNanos );
+			statementExecuted( sql, executeStartNanos );
 		}
 	}
 
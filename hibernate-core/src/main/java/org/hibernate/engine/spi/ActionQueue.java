@@ -12,6 +12,7 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
@@ -42,6 +43,7 @@ import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
@@ -396,7 +398,10 @@ public class ActionQueue {
 			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
 		}
 		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
-			invalidateSpaces( convertTimestampSpaces( executable.getPropertySpaces() ) );
+			invalidateSpaces(
+					executable.getPropertySpacesPartition(),
+					convertTimestampSpaces( executable.getPropertySpaces() )
+			);
 		}
 		if ( executable.getAfterTransactionCompletionProcess() != null ) {
 			if ( afterTransactionProcesses == null ) {
@@ -626,8 +631,13 @@ public class ActionQueue {
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
 				// unexpected.
-				Set propertySpaces = list.getQuerySpaces();
-				invalidateSpaces( convertTimestampSpaces( propertySpaces ) );
+				if ( session.getFactory().getSessionFactoryOptions().isQueryCacheTenantPartitioningEnabled() ) {
+					invalidatePartitionedSpaces( list );
+				}
+				else {
+					Set propertySpaces = list.getQuerySpaces();
+					invalidateSpaces( null, convertTimestampSpaces( propertySpaces ) );
+				}
 			}
 		}
 
@@ -656,16 +666,44 @@ public class ActionQueue {
 	 *
 	 * @param spaces The spaces to invalidate
 	 */
-	private void invalidateSpaces(String... spaces) {
+	private void invalidateSpaces(String partition, String... spaces) {
 		if ( spaces != null && spaces.length > 0 ) {
 			for ( String space : spaces ) {
 				if ( afterTransactionProcesses == null ) {
 					afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
 				}
-				afterTransactionProcesses.addSpaceToInvalidate( space );
+				afterTransactionProcesses.addSpaceToInvalidate( partition, space );
 			}
 			// Performance win: If we are processing an ExecutableList, this will only be called once
-			session.getFactory().getCache().getTimestampsCache().preInvalidate( spaces, session );
+			session.getFactory().getCache().getTimestampsCache().preInvalidate( spaces, partition, session );
+		}
+	}
+
+	/**
+	 * Invalidate the spaces affected by the actions of the given list, grouping
+	 * them by the partition the actions are restricted to, if any.
+	 */
+	private void invalidatePartitionedSpaces(ExecutableList<?> list) {
+		final Set<String> unpartitionedSpaces = new HashSet<>();
+		final Map<String, Set<String>> partitionedSpaces = new HashMap<>();
+		for ( ComparableExecutable executable : list ) {
+			final Serializable[] propertySpaces = executable.getPropertySpaces();
+			if ( propertySpaces != null && propertySpaces.length > 0 ) {
+				final String partition = executable.getPropertySpacesPartition();
+				final Set<String> spaces = partition == null
+						? unpartitionedSpaces
+						: partitionedSpaces.computeIfAbsent( partition, (key) -> new HashSet<>() );
+				for ( Serializable propertySpace : propertySpaces ) {
+					spaces.add( (String) propertySpace );
+				}
+			}
+		}
+
+		invalidateSpaces( null, convertTimestampSpaces( unpartitionedSpaces ) );
+		for ( Map.Entry<String, Set<String>> entry : partitionedSpaces.entrySet() ) {
+			// the spaces invalidated for every partition need no further invalidation
+			entry.getValue().removeAll( unpartitionedSpaces );
+			invalidateSpaces( entry.getKey(), convertTimestampSpaces( entry.getValue() ) );
 		}
 	}
 
@@ -998,13 +1036,19 @@ public class ActionQueue {
 	private static class AfterTransactionCompletionProcessQueue
 			extends AbstractTransactionCompletionProcessQueue<AfterTransactionCompletionProcess> {
 		private final Set<String> querySpacesToInvalidate = new HashSet<>();
+		private final Map<String, Set<String>> partitionedQuerySpacesToInvalidate = new HashMap<>();
 
 		private AfterTransactionCompletionProcessQueue(SessionImplementor session) {
 			super( session );
 		}
 
-		public void addSpaceToInvalidate(String space) {
-			querySpacesToInvalidate.add( space );
+		public void addSpaceToInvalidate(String partition, String space) {
+			if ( partition == null ) {
+				querySpacesToInvalidate.add( space );
+			}
+			else {
+				partitionedQuerySpacesToInvalidate.computeIfAbsent( partition, (key) -> new HashSet<>() ).add( space );
+			}
 		}
 
 		public void afterTransactionCompletion(boolean success) {
@@ -1022,12 +1066,21 @@ public class ActionQueue {
 			}
 
 			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
-				session.getFactory().getCache().getTimestampsCache().invalidate(
+				final TimestampsCache timestampsCache = session.getFactory().getCache().getTimestampsCache();
+				timestampsCache.invalidate(
 						querySpacesToInvalidate.toArray(StringHelper.EMPTY_STRINGS),
 						session
 				);
+				for ( Map.Entry<String, Set<String>> entry : partitionedQuerySpacesToInvalidate.entrySet() ) {
+					final Set<String> spaces = entry.getValue();
+					spaces.removeAll( querySpacesToInvalidate );
+					if ( !spaces.isEmpty() ) {
+						timestampsCache.invalidate( spaces.toArray( StringHelper.EMPTY_STRINGS ), entry.getKey(), session );
+					}
+				}
 			}
 			querySpacesToInvalidate.clear();
+			partitionedQuerySpacesToInvalidate.clear();
 		}
 	}
 
@@ -6,10 +6,14 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -212,6 +216,7 @@ public class BatchFetchQueue {
 		}
 
 		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		final CachedEntityKeys cachedKeys = new CachedEntityKeys( set, entityDescriptor.getEntityPersister(), domainBatchSize );
 
 		int batchPosition = 1;
 		int end = -1;
@@ -227,7 +232,7 @@ public class BatchFetchQueue {
 				end = batchPosition;
 			}
 			else {
-				if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+				if ( !cachedKeys.isCached( key ) ) {
 					//noinspection unchecked
 					collector.accept( batchPosition++, (T) key.getIdentifier() );
 				}
@@ -270,6 +275,7 @@ public class BatchFetchQueue {
 		final LinkedHashSet<EntityKey> set =
 				batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
 		if ( set != null ) {
+			final CachedEntityKeys cachedKeys = new CachedEntityKeys( set, entityDescriptor.getEntityPersister(), maxBatchSize );
 			for ( EntityKey key : set ) {
 				if ( checkForEnd && i == end ) {
 					// the first id found after the given id
@@ -281,7 +287,7 @@ public class BatchFetchQueue {
 					end = i;
 				}
 				else {
-					if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+					if ( !cachedKeys.isCached( key ) ) {
 						ids[i++] = key.getIdentifier();
 					}
 				}
@@ -299,19 +305,72 @@ public class BatchFetchQueue {
 		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
-		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+	/**
+	 * Determines which of the batch loadable keys of an entity are cached in the
+	 * second-level cache.  The keys are looked up a chunk at a time, following the
+	 * iteration order of the set of batch loadable keys, so that cache providers
+	 * able to read several entries at once need one round trip per chunk instead
+	 * of one per key.
+	 */
+	private class CachedEntityKeys {
+		private final EntityPersister persister;
+		private final Iterator<EntityKey> lookahead;
+		private final int chunkSize;
+		private final boolean enabled;
+
+		private final Set<EntityKey> checkedKeys = new HashSet<>();
+		private final Set<EntityKey> cachedKeys = new HashSet<>();
+
+		private CachedEntityKeys(LinkedHashSet<EntityKey> keys, EntityPersister persister, int chunkSize) {
+			this.persister = persister;
+			this.lookahead = keys.iterator();
+			this.chunkSize = Math.max( chunkSize, 1 );
+			this.enabled = context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache();
+		}
+
+		private boolean isCached(EntityKey entityKey) {
+			if ( !enabled ) {
+				return false;
+			}
+			if ( !checkedKeys.contains( entityKey ) ) {
+				lookupChunk( entityKey );
+			}
+			return cachedKeys.contains( entityKey );
+		}
+
+		private void lookupChunk(EntityKey entityKey) {
+			checkedKeys.clear();
+			cachedKeys.clear();
+
+			final SharedSessionContractImplementor session = context.getSession();
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
+			final Map<Object, EntityKey> entityKeysByCacheKey = new HashMap<>();
+			checkedKeys.add( entityKey );
+			entityKeysByCacheKey.put( generateCacheKey( entityKey, cache, session ), entityKey );
+			while ( checkedKeys.size() < chunkSize && lookahead.hasNext() ) {
+				final EntityKey next = lookahead.next();
+				if ( checkedKeys.add( next ) ) {
+					entityKeysByCacheKey.put( generateCacheKey( next, cache, session ), next );
+				}
+			}
+
+			final Map<Object, Object> cachedEntries =
+					CacheHelper.fromSharedCache( session, entityKeysByCacheKey.keySet(), cache );
+			for ( Entry<Object, EntityKey> entry : entityKeysByCacheKey.entrySet() ) {
+				if ( cachedEntries.get( entry.getKey() ) != null ) {
+					cachedKeys.add( entry.getValue() );
+				}
+			}
+		}
+
+		private Object generateCacheKey(EntityKey entityKey, EntityDataAccess cache, SharedSessionContractImplementor session) {
+			return cache.generateCacheKey(
 					entityKey.getIdentifier(),
 					persister,
 					session.getFactory(),
 					session.getTenantIdentifier()
 			);
-			return CacheHelper.fromSharedCache( session, key, cache ) != null;
 		}
-		return false;
 	}
 
 
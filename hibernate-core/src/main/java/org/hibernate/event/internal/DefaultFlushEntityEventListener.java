@@ -492,7 +492,9 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			final Object entity = event.getEntity();
 			if ( loadedState != null ) {
 				// dirty check against the usual snapshot of the entity
-				dirtyProperties = persister.findDirty( values, loadedState, entity, session );
+				dirtyProperties = isPrecomputedDirtyCheckValid( event, values )
+						? event.getPrecomputedDirtyProperties()
+						: persister.findDirty( values, loadedState, entity, session );
 				dirtyCheckPossible = true;
 			}
 			else if ( entry.getStatus() == Status.DELETED && !entry.isModifiableEntity() ) {
@@ -537,6 +539,26 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 		return dirtyProperties;
 	}
 
+	/**
+	 * A dirty check performed ahead of the event may be reused as long as
+	 * the entity still holds the same property values.  Since boxed values
+	 * are not always the same instances, values which are not identical
+	 * are compared using their type.
+	 */
+	private static boolean isPrecomputedDirtyCheckValid(FlushEntityEvent event, Object[] values) {
+		final Object[] precomputedValues = event.getPrecomputedPropertyValues();
+		if ( precomputedValues == null || precomputedValues.length != values.length ) {
+			return false;
+		}
+		final Type[] types = event.getEntityEntry().getPersister().getPropertyTypes();
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( precomputedValues[i] != values[i] && !types[i].isSame( precomputedValues[i], values[i] ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Attempt to get the dirty properties from either the Interceptor,
 	 * the bytecode enhancement, or a custom dirtiness strategy.
@@ -0,0 +1,209 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.RecursiveAction;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
+import static org.hibernate.engine.internal.ManagedTypeHelper.isSelfDirtinessTracker;
+
+/**
+ * Compares the current state of the entities of a persistence context with
+ * their loaded state on the threads of a pool dedicated to the session
+ * factory, ahead of the {@link FlushEntityEvent}s, which are still fired one
+ * entity at a time on the thread of the session.  The threads of the pool
+ * use the thread context class loader of the thread flushing the session,
+ * since comparing the values of custom types may need it.
+ * <p>
+ * Only the entities whose state may be read and compared without involving
+ * the session are checked: non-enhanced, managed, modifiable entities whose
+ * attributes are all of basic or embeddable type.  The result of the check
+ * is only used by {@link DefaultFlushEntityEventListener} if the entity still
+ * holds the same property values when its event is fired.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD
+ */
+final class ParallelDirtyCheck {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ParallelDirtyCheck.class );
+
+	/**
+	 * The number of entities below which a task is not split any further
+	 */
+	private static final int BATCH_SIZE = 256;
+
+	private final Map.Entry<Object, EntityEntry>[] entityEntries;
+	private final boolean[] candidates;
+	private final Object[][] propertyValues;
+	private final Object[][] loadedStates;
+	private final int[][] dirtyProperties;
+	private final EventSource session;
+	private final ClassLoader contextClassLoader;
+
+	private ParallelDirtyCheck(
+			Map.Entry<Object, EntityEntry>[] entityEntries,
+			boolean[] candidates,
+			EventSource session) {
+		this.entityEntries = entityEntries;
+		this.candidates = candidates;
+		this.propertyValues = new Object[entityEntries.length][];
+		this.loadedStates = new Object[entityEntries.length][];
+		this.dirtyProperties = new int[entityEntries.length][];
+		this.session = session;
+		this.contextClassLoader = Thread.currentThread().getContextClassLoader();
+	}
+
+	/**
+	 * Check the given entities in parallel, if enabled and worthwhile.
+	 *
+	 * @return the results of the check, or {@code null} if it was not performed
+	 */
+	static ParallelDirtyCheck perform(
+			Map.Entry<Object, EntityEntry>[] entityEntries,
+			EventListenerGroup<FlushEntityEventListener> flushListeners,
+			EventSource session) {
+		final int threshold = session.getFactory().getSessionFactoryOptions().getParallelDirtyCheckingThreshold();
+		if ( threshold <= 0 || entityEntries.length < threshold || !hasDefaultListener( flushListeners ) ) {
+			return null;
+		}
+
+		final Map<EntityPersister, Boolean> checkablePersisters = new IdentityHashMap<>();
+		final boolean[] candidates = new boolean[entityEntries.length];
+		int count = 0;
+		for ( int i = 0; i < entityEntries.length; i++ ) {
+			if ( isCandidate( entityEntries[i].getKey(), entityEntries[i].getValue(), checkablePersisters ) ) {
+				candidates[i] = true;
+				count++;
+			}
+		}
+		if ( count < threshold ) {
+			return null;
+		}
+
+		LOG.tracef( "Dirty checking %s entities in parallel", count );
+		final ParallelDirtyCheck dirtyCheck = new ParallelDirtyCheck( entityEntries, candidates, session );
+		session.getFactory()
+				.getFastSessionServices()
+				.getDirtyCheckingPool()
+				.invoke( dirtyCheck.new DirtyCheckTask( 0, entityEntries.length ) );
+		return dirtyCheck;
+	}
+
+	/**
+	 * Make the result of the check of the entity at the given position
+	 * available to the event fired for it.
+	 */
+	void applyTo(FlushEntityEvent event, int position) {
+		if ( propertyValues[position] != null
+				&& loadedStates[position] == event.getEntityEntry().getLoadedState() ) {
+			event.setPrecomputedDirtyCheck( propertyValues[position], dirtyProperties[position] );
+		}
+	}
+
+	private void check(int position) {
+		if ( candidates[position] ) {
+			final Object entity = entityEntries[position].getKey();
+			final EntityEntry entry = entityEntries[position].getValue();
+			final EntityPersister persister = entry.getPersister();
+			try {
+				final Object[] loadedState = entry.getLoadedState();
+				final Object[] values = persister.getValues( entity );
+				dirtyProperties[position] = persister.findDirty( values, loadedState, entity, session );
+				loadedStates[position] = loadedState;
+				propertyValues[position] = values;
+			}
+			catch (RuntimeException e) {
+				// leave it to the thread of the session to
+				// check the entity again and report the failure
+				LOG.tracef( e, "Unable to dirty check entity in parallel" );
+			}
+		}
+	}
+
+	private static boolean hasDefaultListener(EventListenerGroup<FlushEntityEventListener> flushListeners) {
+		for ( FlushEntityEventListener listener : flushListeners.listeners() ) {
+			if ( listener instanceof DefaultFlushEntityEventListener ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isCandidate(
+			Object entity,
+			EntityEntry entry,
+			Map<EntityPersister, Boolean> checkablePersisters) {
+		return entry.getStatus() == Status.MANAGED
+			&& entry.isModifiableEntity()
+			&& entry.getLoadedState() != null
+			&& !isPersistentAttributeInterceptable( entity )
+			&& !isSelfDirtinessTracker( entity )
+			&& checkablePersisters.computeIfAbsent(
+					entry.getPersister(),
+					persister -> isCheckable( persister.getPropertyTypes() )
+			);
+	}
+
+	/**
+	 * Associations and collections may only be dirty checked by the session
+	 */
+	private static boolean isCheckable(Type[] types) {
+		for ( Type type : types ) {
+			if ( type.isAssociationType() ) {
+				return false;
+			}
+			else if ( type.isComponentType() && !isCheckable( ( (CompositeType) type ).getSubtypes() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private class DirtyCheckTask extends RecursiveAction {
+		private final int start;
+		private final int end;
+
+		private DirtyCheckTask(int start, int end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+			if ( end - start <= BATCH_SIZE ) {
+				final Thread thread = Thread.currentThread();
+				final ClassLoader originalClassLoader = thread.getContextClassLoader();
+				thread.setContextClassLoader( contextClassLoader );
+				try {
+					for ( int i = start; i < end; i++ ) {
+						check( i );
+					}
+				}
+				finally {
+					thread.setContextClassLoader( originalClassLoader );
+				}
+			}
+			else {
+				final int middle = ( start + end ) >>> 1;
+				invokeAll( new DirtyCheckTask( start, middle ), new DirtyCheckTask( middle, end ) );
+			}
+		}
+	}
+}
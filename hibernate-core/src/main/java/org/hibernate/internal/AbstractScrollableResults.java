@@ -7,7 +7,14 @@
 package org.hibernate.internal;
 
 import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.internal.EvictVisitor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
@@ -28,6 +35,7 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 	private final RowProcessingStateStandardImpl rowProcessingState;
 	private final RowReader<R> rowReader;
 	private final SharedSessionContractImplementor persistenceContext;
+	private final boolean detachLoadedEntities;
 
 	private boolean closed;
 
@@ -44,6 +52,11 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 		this.rowProcessingState = rowProcessingState;
 		this.rowReader = rowReader;
 		this.persistenceContext = persistenceContext;
+		this.detachLoadedEntities = persistenceContext.isEventSource()
+				&& jdbcValuesSourceProcessingState.getQueryOptions().isDetachScrolledEntities();
+		if ( detachLoadedEntities ) {
+			jdbcValuesSourceProcessingState.trackLoadedEntities();
+		}
 	}
 
 
@@ -85,6 +98,44 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 		getPersistenceContext().afterScrollOperation();
 	}
 
+	/**
+	 * Detaches the entities loaded for the previous result, when
+	 * {@linkplain org.hibernate.query.spi.QueryOptions#isDetachScrolledEntities() requested},
+	 * so that the persistence context does not grow with the number of results.
+	 * <p>
+	 * Only the instances created by this query are detached: unlike
+	 * {@link org.hibernate.Session#evict(Object)}, the detachment is not
+	 * cascaded to associated entities, which might have been managed before
+	 * the query was executed.
+	 */
+	protected void detachLoadedEntities() {
+		if ( detachLoadedEntities ) {
+			final EventSource session = persistenceContext.asEventSource();
+			final PersistenceContext context = session.getPersistenceContextInternal();
+			for ( Object entity : jdbcValuesSourceProcessingState.drainLoadedEntities() ) {
+				final EntityEntry entry = context.getEntry( entity );
+				// leave alone the entities removed while processing the result
+				if ( entry != null && ( entry.getStatus() == Status.MANAGED || entry.getStatus() == Status.READ_ONLY ) ) {
+					detach( entity, entry, session );
+				}
+			}
+		}
+	}
+
+	private static void detach(Object entity, EntityEntry entry, EventSource session) {
+		final PersistenceContext context = session.getPersistenceContextInternal();
+		final EntityPersister persister = entry.getPersister();
+		final EntityKey key = entry.getEntityKey();
+		if ( persister.hasNaturalIdentifier() ) {
+			context.getNaturalIdResolutions().handleEviction( key.getIdentifier(), entity, persister );
+		}
+		if ( persister.hasCollections() ) {
+			new EvictVisitor( session, entity ).process( entity, persister );
+		}
+		context.removeEntity( key );
+		context.removeEntry( entity );
+	}
+
 	@Override
 	public void setFetchSize(int fetchSize) {
 		getJdbcValues().setFetchSize(fetchSize);
@@ -97,6 +148,7 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 			return;
 		}
 
+		detachLoadedEntities();
 		rowReader.finishUp( jdbcValuesSourceProcessingState );
 		jdbcValues.finishUp( persistenceContext );
 
@@ -1864,4 +1864,8 @@ public interface CoreMessageLogger extends BasicLogger {
 			id = 515)
 	HibernateException nullIdentitySelectString();
 
+	@LogMessage(level = INFO)
+	@Message(value = "Query plan cache evictions: %s", id = 516)
+	void queryPlanCacheEvictions(long queryPlanCacheEvictionCount);
+
 }
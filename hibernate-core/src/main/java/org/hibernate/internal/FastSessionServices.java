@@ -9,6 +9,8 @@ package org.hibernate.internal;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -183,6 +185,8 @@ public final class FastSessionServices {
 	private final FormatMapper xmlFormatMapper;
 	private final MutationExecutorService mutationExecutorService;
 
+	private volatile ForkJoinPool dirtyCheckingPool;
+
 	FastSessionServices(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
 		final ServiceRegistryImplementor serviceRegistry = sessionFactory.getServiceRegistry();
@@ -407,4 +411,42 @@ public final class FastSessionServices {
 		return mutationExecutorService;
 	}
 
+	/**
+	 * The pool used to compare the state of entities with their loaded state in
+	 * parallel, when {@value org.hibernate.cfg.AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD}
+	 * is enabled.  It is only created the first time it is needed.
+	 */
+	public ForkJoinPool getDirtyCheckingPool() {
+		ForkJoinPool pool = dirtyCheckingPool;
+		if ( pool == null ) {
+			synchronized ( this ) {
+				pool = dirtyCheckingPool;
+				if ( pool == null ) {
+					pool = new ForkJoinPool(
+							Runtime.getRuntime().availableProcessors(),
+							forkJoinPool -> {
+								final ForkJoinWorkerThread thread =
+										ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( forkJoinPool );
+								thread.setDaemon( true );
+								thread.setName( "Hibernate Dirty Checking Thread " + thread.getPoolIndex() );
+								return thread;
+							},
+							null,
+							false
+					);
+					dirtyCheckingPool = pool;
+				}
+			}
+		}
+		return pool;
+	}
+
+	void close() {
+		final ForkJoinPool pool = dirtyCheckingPool;
+		if ( pool != null ) {
+			pool.shutdown();
+			dirtyCheckingPool = null;
+		}
+	}
+
 }
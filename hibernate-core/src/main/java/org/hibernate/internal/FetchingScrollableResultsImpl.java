@@ -299,6 +299,8 @@ public class FetchingScrollableResultsImpl<R> extends AbstractScrollableResults<
 	}
 
 	private boolean prepareCurrentRow() {
+		detachLoadedEntities();
+
 		if ( getRowProcessingState().isBeforeFirst() ) {
 			getRowProcessingState().next();
 		}
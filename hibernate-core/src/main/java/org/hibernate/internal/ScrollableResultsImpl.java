@@ -118,6 +118,8 @@ public class ScrollableResultsImpl<R> extends AbstractScrollableResults<R> {
 	}
 
 	private void prepareCurrentRow(boolean underlyingScrollSuccessful) {
+		detachLoadedEntities();
+
 		if ( !underlyingScrollSuccessful ) {
 			currentRow = null;
 			return;
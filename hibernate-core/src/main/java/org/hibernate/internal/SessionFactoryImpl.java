@@ -894,6 +894,10 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 			if ( queryEngine != null ) {
 				queryEngine.close();
 			}
+
+			if ( fastSessionServices != null ) {
+				fastSessionServices.close();
+			}
 		}
 		finally {
 			status = Status.CLOSED;
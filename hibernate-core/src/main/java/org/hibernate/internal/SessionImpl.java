@@ -2693,6 +2693,9 @@ public class SessionImpl
 			case HINT_FLUSH_MODE:
 				setHibernateFlushMode( ConfigurationHelper.getFlushMode( value, FlushMode.AUTO ) );
 				break;
+			case HINT_READ_ONLY:
+				setDefaultReadOnly( Boolean.parseBoolean( value.toString() ) );
+				break;
 			case JPA_LOCK_SCOPE:
 			case JAKARTA_LOCK_SCOPE:
 				properties.put( JPA_LOCK_SCOPE, value);
@@ -6,7 +6,9 @@
  */
 package org.hibernate.internal;
 
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
@@ -62,6 +64,12 @@ import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 public class StatelessSessionImpl extends AbstractSharedSessionContract implements StatelessSession {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( StatelessSessionImpl.class );
 
+	/**
+	 * The size of the JDBC batches used by the batched operations, when
+	 * no batch size is configured
+	 */
+	private static final int DEFAULT_MULTIPLE_BATCH_SIZE = 32;
+
 	private static final LoadQueryInfluencers NO_INFLUENCERS = new LoadQueryInfluencers() {
 		@Override @Deprecated
 		public String getInternalFetchProfile() {
@@ -165,6 +173,60 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	}
 
 
+	// batched operations ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void insertMultiple(List<?> entities) {
+		checkOpen();
+		executeBatched( entities, (entity) -> insert( null, entity ) );
+	}
+
+	@Override
+	public void updateMultiple(List<?> entities) {
+		checkOpen();
+		executeBatched( entities, (entity) -> update( null, entity ) );
+	}
+
+	@Override
+	public void deleteMultiple(List<?> entities) {
+		checkOpen();
+		executeBatched( entities, (entity) -> delete( null, entity ) );
+	}
+
+	/**
+	 * Performs the operation for each entity, accumulating the statements in
+	 * JDBC batches, and executes the last batch before returning.  Any batch
+	 * pending when this method is called is executed first, so that a failure
+	 * only aborts the statements of the given entities.
+	 */
+	private void executeBatched(List<?> entities, Consumer<Object> operation) {
+		if ( entities.isEmpty() ) {
+			return;
+		}
+		getJdbcCoordinator().executeBatch();
+		final Integer jdbcBatchSize = getJdbcBatchSize();
+		final int configuredJdbcBatchSize = getConfiguredJdbcBatchSize();
+		// always set on the session, since the mutation executors
+		// otherwise only see the batch size of the service registry
+		setJdbcBatchSize( configuredJdbcBatchSize > 1
+				? configuredJdbcBatchSize
+				: Math.min( entities.size(), DEFAULT_MULTIPLE_BATCH_SIZE ) );
+		try {
+			for ( Object entity : entities ) {
+				operation.accept( entity );
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+		catch (RuntimeException e) {
+			getJdbcCoordinator().abortBatch();
+			throw e;
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
+
 	// loading ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override @SuppressWarnings("unchecked")
@@ -0,0 +1,117 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.cache;
+
+import static org.hibernate.internal.util.MathHelper.ceilingPowerOfTwo;
+
+/**
+ * A count-min sketch estimating the access frequencies with 4-bit counters,
+ * which are halved periodically so that the old accesses fade away.  Each
+ * {@code long} of the table holds 16 counters, and each hash is mapped to
+ * 4 counters taken from the same group of 4 in 4 different longs.
+ * <p>
+ * Not thread-safe, callers are expected to synchronize the accesses.
+ *
+ * @since 6.3
+ */
+public final class FrequencySketch {
+	/**
+	 * The maximum frequency a 4-bit counter can hold
+	 */
+	public static final int MAX_FREQUENCY = 15;
+
+	private static final long[] SEEDS = {
+			0xc3a5c85c97cb3127L,
+			0xb492b66fbe98f273L,
+			0x9ae16a3b2f90404fL,
+			0xcbf29ce484222325L
+	};
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final long ONE_MASK = 0x1111111111111111L;
+
+	private final long[] table;
+	private final int tableMask;
+	private final int sampleSize;
+	private int additions;
+
+	/**
+	 * @param maxSize the number of distinct items expected to be tracked
+	 */
+	public FrequencySketch(int maxSize) {
+		this( maxSize, 10 * boundedCapacity( maxSize ) );
+	}
+
+	/**
+	 * @param maxSize the number of distinct items expected to be tracked
+	 * @param sampleSize the number of increments after which all frequencies are halved
+	 */
+	public FrequencySketch(int maxSize, int sampleSize) {
+		final int length = ceilingPowerOfTwo( boundedCapacity( maxSize ) );
+		this.table = new long[length];
+		this.tableMask = length - 1;
+		this.sampleSize = Math.max( sampleSize, 1 );
+	}
+
+	private static int boundedCapacity(int maxSize) {
+		return Math.min( Math.max( maxSize, 16 ), 1 << 24 );
+	}
+
+	public int frequency(int hashCode) {
+		final int hash = spread( hashCode );
+		final int start = ( hash & 3 ) << 2;
+		int frequency = Integer.MAX_VALUE;
+		for ( int i = 0; i < 4; i++ ) {
+			final int index = indexOf( hash, i );
+			final int count = (int) ( ( table[index] >>> ( ( start + i ) << 2 ) ) & 0xfL );
+			frequency = Math.min( frequency, count );
+		}
+		return frequency;
+	}
+
+	public void increment(int hashCode) {
+		final int hash = spread( hashCode );
+		final int start = ( hash & 3 ) << 2;
+		boolean added = false;
+		for ( int i = 0; i < 4; i++ ) {
+			added |= incrementAt( indexOf( hash, i ), start + i );
+		}
+		if ( added && ++additions >= sampleSize ) {
+			reset();
+		}
+	}
+
+	private boolean incrementAt(int index, int counter) {
+		final int offset = counter << 2;
+		final long mask = 0xfL << offset;
+		if ( ( table[index] & mask ) != mask ) {
+			table[index] += 1L << offset;
+			return true;
+		}
+		return false;
+	}
+
+	private void reset() {
+		int odd = 0;
+		for ( int i = 0; i < table.length; i++ ) {
+			odd += Long.bitCount( table[i] & ONE_MASK );
+			table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+		}
+		additions = ( additions >>> 1 ) - ( odd >>> 2 );
+	}
+
+	private int indexOf(int hash, int i) {
+		long index = ( hash + SEEDS[i] ) * SEEDS[i];
+		index += index >>> 32;
+		return ( (int) index ) & tableMask;
+	}
+
+	private static int spread(int hashCode) {
+		int hash = ( ( hashCode >>> 16 ) ^ hashCode ) * 0x45d9f3b;
+		hash = ( ( hash >>> 16 ) ^ hash ) * 0x45d9f3b;
+		return ( hash >>> 16 ) ^ hash;
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.function.Function;
+
+/**
+ * A bounded, thread-safe cache used internally by Hibernate, for example to
+ * hold the {@linkplain org.hibernate.query.spi.QueryInterpretationCache
+ * query plans and interpretations}.
+ * <p>
+ * Implementations are free to evict entries at any time, as long as the
+ * number of held entries stays about the maximum size they were created with.
+ *
+ * @see InternalCacheFactory
+ *
+ * @since 6.3
+ */
+public interface InternalCache<K, V> {
+
+	/**
+	 * The number of entries held by the cache, which might be approximate
+	 * when the cache is being concurrently modified.
+	 */
+	int heldElementsEstimate();
+
+	/**
+	 * The value cached for the given key, or {@code null}.
+	 */
+	V get(K key);
+
+	/**
+	 * Cache the given value, replacing any value previously cached for the key.
+	 */
+	void put(K key, V value);
+
+	/**
+	 * The value cached for the given key, or the value produced by the given
+	 * function, which is then cached.  The function might be called more than
+	 * once for the same key by concurrent callers.
+	 */
+	V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction);
+
+	/**
+	 * Remove all the entries.
+	 */
+	void clear();
+}
@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.function.Consumer;
+
+import org.hibernate.Incubating;
+import org.hibernate.service.Service;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Service producing the {@link InternalCache} instances backing the
+ * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query plan cache}.
+ * <p>
+ * The implementation is selected using
+ * {@value org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_FACTORY}, or
+ * by contributing the service.  By default, {@link TinyLfuInternalCacheFactory}
+ * is used.
+ *
+ * @since 6.3
+ */
+@Incubating
+public interface InternalCacheFactory extends Service {
+
+	/**
+	 * Create a new cache.
+	 *
+	 * @param maxSize The maximum number of entries
+	 * @param evictionListener Notified of the keys evicted to keep the size under
+	 * the maximum, if not {@code null}.  Implementations not able to track the
+	 * evictions may ignore it.
+	 */
+	<K, V> InternalCache<K, V> createInternalCache(int maxSize, @Nullable Consumer<? super K> evictionListener);
+}
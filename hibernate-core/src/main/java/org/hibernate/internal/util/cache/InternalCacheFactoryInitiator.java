@@ -0,0 +1,71 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.Map;
+
+import org.hibernate.boot.registry.StandardServiceInitiator;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.service.spi.ServiceException;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+
+/**
+ * Initiator for the {@link InternalCacheFactory} service
+ *
+ * @see AvailableSettings#QUERY_PLAN_CACHE_FACTORY
+ *
+ * @since 6.3
+ */
+public class InternalCacheFactoryInitiator implements StandardServiceInitiator<InternalCacheFactory> {
+	/**
+	 * Singleton access
+	 */
+	public static final InternalCacheFactoryInitiator INSTANCE = new InternalCacheFactoryInitiator();
+
+	@Override
+	public Class<InternalCacheFactory> getServiceInitiated() {
+		return InternalCacheFactory.class;
+	}
+
+	@Override
+	public InternalCacheFactory initiateService(
+			Map<String, Object> configurationValues,
+			ServiceRegistryImplementor registry) {
+		final Object factory = configurationValues.get( AvailableSettings.QUERY_PLAN_CACHE_FACTORY );
+
+		if ( factory == null ) {
+			return new TinyLfuInternalCacheFactory();
+		}
+
+		if ( factory instanceof InternalCacheFactory ) {
+			return (InternalCacheFactory) factory;
+		}
+
+		final Class<?> factoryClass;
+		if ( factory instanceof Class ) {
+			factoryClass = (Class<?>) factory;
+		}
+		else {
+			final String factoryName = factory.toString().trim();
+			if ( TinyLfuInternalCacheFactory.SHORT_NAME.equalsIgnoreCase( factoryName ) ) {
+				return new TinyLfuInternalCacheFactory();
+			}
+			if ( LegacyInternalCacheFactory.SHORT_NAME.equalsIgnoreCase( factoryName ) ) {
+				return new LegacyInternalCacheFactory();
+			}
+			factoryClass = registry.getService( ClassLoaderService.class ).classForName( factoryName );
+		}
+
+		try {
+			return (InternalCacheFactory) factoryClass.getConstructor().newInstance();
+		}
+		catch (Exception e) {
+			throw new ServiceException( "Could not build explicit InternalCacheFactory [" + factoryClass.getName() + "]", e );
+		}
+	}
+}
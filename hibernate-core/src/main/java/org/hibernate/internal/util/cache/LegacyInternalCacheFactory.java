@@ -0,0 +1,68 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * {@link InternalCacheFactory} producing segmented {@link BoundedConcurrentHashMap}s
+ * with {@linkplain BoundedConcurrentHashMap.Eviction#LIRS LIRS} eviction, as used
+ * by previous versions.  Evictions are not reported to the listener.
+ *
+ * @since 6.3
+ */
+public class LegacyInternalCacheFactory implements InternalCacheFactory {
+	/**
+	 * The short name selecting this factory
+	 */
+	public static final String SHORT_NAME = "lirs";
+
+	private static final int CONCURRENCY_LEVEL = 20;
+
+	@Override
+	public <K, V> InternalCache<K, V> createInternalCache(int maxSize, @Nullable Consumer<? super K> evictionListener) {
+		return new LegacyInternalCache<>( maxSize );
+	}
+
+	private static final class LegacyInternalCache<K, V> implements InternalCache<K, V> {
+		private final BoundedConcurrentHashMap<K, V> map;
+
+		private LegacyInternalCache(int maxSize) {
+			map = new BoundedConcurrentHashMap<>( maxSize, CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
+		}
+
+		@Override
+		public int heldElementsEstimate() {
+			return map.size();
+		}
+
+		@Override
+		public V get(K key) {
+			return map.get( key );
+		}
+
+		@Override
+		public void put(K key, V value) {
+			map.put( key, value );
+		}
+
+		@Override
+		public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+			return map.computeIfAbsent( key, mappingFunction );
+		}
+
+		@Override
+		public void clear() {
+			map.clear();
+		}
+	}
+}
@@ -0,0 +1,373 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static org.hibernate.internal.util.MathHelper.ceilingPowerOfTwo;
+
+/**
+ * A size-bounded {@link InternalCache} using the W-TinyLFU eviction policy.
+ * <p>
+ * New entries enter a small LRU <em>window</em>.  The entries leaving the window
+ * are admitted to the <em>main</em> segmented LRU (made of a <em>probation</em>
+ * and a <em>protected</em> segment) only if they have been used more frequently
+ * than the entry they would replace, according to a count-min sketch of the
+ * access frequencies.  Unlike LRU or LIRS, this keeps the hit rate stable when
+ * the working set is slightly larger than the maximum size.
+ * <p>
+ * Reads never block: the entries are held in a {@link ConcurrentHashMap}, and
+ * the accesses are recorded in striped, lossy buffers which are replayed against
+ * the policy by whichever thread manages to acquire the eviction lock.  Writes,
+ * which only happen on cache misses, apply the policy under the lock.
+ *
+ * @since 6.3
+ */
+public final class TinyLfuInternalCache<K, V> implements InternalCache<K, V> {
+	private static final byte NEW = 0;
+	private static final byte WINDOW = 1;
+	private static final byte PROBATION = 2;
+	private static final byte PROTECTED = 3;
+	private static final byte DEAD = 4;
+
+	private static final int READ_BUFFER_SIZE = 16;
+	private static final int MAX_READ_BUFFERS = 64;
+
+	private final ConcurrentHashMap<K, Node<K, V>> map;
+	private final @Nullable Consumer<? super K> evictionListener;
+
+	private final ReadBuffer[] readBuffers;
+	private final int readBufferMask;
+
+	// the state below is guarded by the eviction lock
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final FrequencySketch sketch;
+	private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> protectedSegment = new AccessOrderDeque<>();
+	private final int maxSize;
+	private final int maxWindowSize;
+	private final int maxProtectedSize;
+
+	public TinyLfuInternalCache(int maxSize, @Nullable Consumer<? super K> evictionListener) {
+		if ( maxSize < 1 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive: " + maxSize );
+		}
+		this.maxSize = maxSize;
+		this.maxWindowSize = Math.max( 1, maxSize / 100 );
+		this.maxProtectedSize = ( maxSize - maxWindowSize ) * 4 / 5;
+		this.evictionListener = evictionListener;
+		this.map = new ConcurrentHashMap<>( Math.min( maxSize, 1024 ) );
+		this.sketch = new FrequencySketch( maxSize );
+
+		final int readBufferCount =
+				ceilingPowerOfTwo( Math.min( Runtime.getRuntime().availableProcessors(), MAX_READ_BUFFERS ) );
+		this.readBuffers = new ReadBuffer[readBufferCount];
+		for ( int i = 0; i < readBufferCount; i++ ) {
+			readBuffers[i] = new ReadBuffer();
+		}
+		this.readBufferMask = readBufferCount - 1;
+	}
+
+	@Override
+	public int heldElementsEstimate() {
+		return map.size();
+	}
+
+	@Override
+	public V get(K key) {
+		final Node<K, V> node = map.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		afterRead( node );
+		return node.value;
+	}
+
+	@Override
+	public void put(K key, V value) {
+		final Node<K, V> node = new Node<>( key, value );
+		afterWrite( node, map.put( key, node ) );
+	}
+
+	@Override
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final Node<K, V> existing = map.get( key );
+		if ( existing != null ) {
+			afterRead( existing );
+			return existing.value;
+		}
+		final V value = mappingFunction.apply( key );
+		if ( value == null ) {
+			return null;
+		}
+		final Node<K, V> node = new Node<>( key, value );
+		final Node<K, V> concurrent = map.putIfAbsent( key, node );
+		if ( concurrent != null ) {
+			afterRead( concurrent );
+			return concurrent.value;
+		}
+		afterWrite( node, null );
+		return value;
+	}
+
+	@Override
+	public void clear() {
+		evictionLock.lock();
+		try {
+			for ( ReadBuffer readBuffer : readBuffers ) {
+				readBuffer.clear();
+			}
+			window.clear();
+			probation.clear();
+			protectedSegment.clear();
+			map.clear();
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void afterRead(Node<K, V> node) {
+		final ReadBuffer readBuffer = readBuffers[Thread.currentThread().hashCode() & readBufferMask];
+		if ( !readBuffer.offer( node ) && evictionLock.tryLock() ) {
+			// the buffer is full, replay it unless someone else is already doing it
+			try {
+				drainReadBuffers();
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void afterWrite(Node<K, V> node, @Nullable Node<K, V> replaced) {
+		evictionLock.lock();
+		try {
+			drainReadBuffers();
+			if ( replaced != null ) {
+				unlink( replaced );
+			}
+			// the node might have been replaced or cleared before we got the lock
+			if ( node.queue == NEW && map.get( node.key ) == node ) {
+				sketch.increment( node.hash );
+				node.queue = WINDOW;
+				window.addLast( node );
+				evictEntries();
+			}
+			else {
+				node.queue = DEAD;
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void drainReadBuffers() {
+		for ( ReadBuffer readBuffer : readBuffers ) {
+			final int count = Math.min( readBuffer.writes.get(), READ_BUFFER_SIZE );
+			for ( int i = 0; i < count; i++ ) {
+				final Node<K, V> node = (Node<K, V>) readBuffer.slots.getAndSet( i, null );
+				if ( node != null ) {
+					onAccess( node );
+				}
+			}
+			readBuffer.writes.set( 0 );
+		}
+	}
+
+	private void onAccess(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW:
+				sketch.increment( node.hash );
+				window.moveToLast( node );
+				break;
+			case PROBATION:
+				sketch.increment( node.hash );
+				probation.remove( node );
+				node.queue = PROTECTED;
+				protectedSegment.addLast( node );
+				while ( protectedSegment.size > maxProtectedSize ) {
+					final Node<K, V> demoted = protectedSegment.pollFirst();
+					demoted.queue = PROBATION;
+					probation.addLast( demoted );
+				}
+				break;
+			case PROTECTED:
+				sketch.increment( node.hash );
+				protectedSegment.moveToLast( node );
+				break;
+			default:
+				// not linked yet, or already evicted
+		}
+	}
+
+	private void evictEntries() {
+		while ( window.size > maxWindowSize ) {
+			final Node<K, V> candidate = window.pollFirst();
+			if ( window.size + probation.size + protectedSegment.size < maxSize ) {
+				// still room in the main segment
+				candidate.queue = PROBATION;
+				probation.addLast( candidate );
+				continue;
+			}
+			final AccessOrderDeque<K, V> victimSegment = probation.first != null ? probation : protectedSegment;
+			final Node<K, V> victim = victimSegment.first;
+			if ( victim != null && sketch.frequency( candidate.hash ) > sketch.frequency( victim.hash ) ) {
+				victimSegment.remove( victim );
+				evicted( victim );
+				candidate.queue = PROBATION;
+				probation.addLast( candidate );
+			}
+			else {
+				evicted( candidate );
+			}
+		}
+	}
+
+	private void unlink(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW:
+				window.remove( node );
+				break;
+			case PROBATION:
+				probation.remove( node );
+				break;
+			case PROTECTED:
+				protectedSegment.remove( node );
+				break;
+			default:
+		}
+		node.queue = DEAD;
+	}
+
+	private void evicted(Node<K, V> node) {
+		node.queue = DEAD;
+		if ( map.remove( node.key, node ) && evictionListener != null ) {
+			evictionListener.accept( node.key );
+		}
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private final V value;
+		private final int hash;
+
+		// guarded by the eviction lock
+		private byte queue = NEW;
+		private Node<K, V> previous;
+		private Node<K, V> next;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+			this.hash = key.hashCode();
+		}
+	}
+
+	/**
+	 * A doubly-linked list of nodes, from the least to the most recently used
+	 */
+	private static final class AccessOrderDeque<K, V> {
+		private Node<K, V> first;
+		private Node<K, V> last;
+		private int size;
+
+		void addLast(Node<K, V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+			size++;
+		}
+
+		void remove(Node<K, V> node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+			size--;
+		}
+
+		void moveToLast(Node<K, V> node) {
+			if ( node != last ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+
+		Node<K, V> pollFirst() {
+			final Node<K, V> node = first;
+			if ( node != null ) {
+				remove( node );
+			}
+			return node;
+		}
+
+		void clear() {
+			for ( Node<K, V> node = first; node != null; node = node.next ) {
+				node.queue = DEAD;
+			}
+			first = null;
+			last = null;
+			size = 0;
+		}
+	}
+
+	/**
+	 * A bounded buffer of recent reads, dropping the reads once full
+	 */
+	private static final class ReadBuffer {
+		private final AtomicReferenceArray<Object> slots = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+		private final AtomicInteger writes = new AtomicInteger();
+
+		/**
+		 * @return {@code false} if the buffer is full
+		 */
+		boolean offer(Object node) {
+			if ( writes.get() < READ_BUFFER_SIZE ) {
+				final int index = writes.getAndIncrement();
+				if ( index < READ_BUFFER_SIZE ) {
+					slots.lazySet( index, node );
+					return true;
+				}
+			}
+			return false;
+		}
+
+		void clear() {
+			for ( int i = 0; i < READ_BUFFER_SIZE; i++ ) {
+				slots.lazySet( i, null );
+			}
+			writes.set( 0 );
+		}
+	}
+}
@@ -0,0 +1,28 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.cache;
+
+import java.util.function.Consumer;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The default {@link InternalCacheFactory}, producing {@link TinyLfuInternalCache}s.
+ *
+ * @since 6.3
+ */
+public class TinyLfuInternalCacheFactory implements InternalCacheFactory {
+	/**
+	 * The short name selecting this factory
+	 */
+	public static final String SHORT_NAME = "tinylfu";
+
+	@Override
+	public <K, V> InternalCache<K, V> createInternalCache(int maxSize, @Nullable Consumer<? super K> evictionListener) {
+		return new TinyLfuInternalCache<>( maxSize, evictionListener );
+	}
+}
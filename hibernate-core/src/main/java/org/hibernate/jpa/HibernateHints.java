@@ -48,6 +48,13 @@ public interface HibernateHints {
 	 * persistence context in
 	 * {@linkplain org.hibernate.query.SelectionQuery#setReadOnly
 	 * read-only mode}.
+	 * <p>
+	 * When set as a property of the session, for example, when passed to
+	 * {@link jakarta.persistence.EntityManagerFactory#createEntityManager(java.util.Map)},
+	 * specifies that every entity loaded by the session is read-only
+	 * {@linkplain org.hibernate.Session#setDefaultReadOnly by default}.
+	 * No snapshot of the state of a read-only entity is kept by the
+	 * persistence context.
 	 *
 	 * @see org.hibernate.query.SelectionQuery#setReadOnly
 	 * @see org.hibernate.Session#setDefaultReadOnly
@@ -63,6 +70,31 @@ public interface HibernateHints {
 	 */
 	String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
 
+	/**
+	 * Hint for specifying that the entities loaded while
+	 * {@linkplain org.hibernate.query.SelectionQuery#scroll scrolling}
+	 * or {@linkplain org.hibernate.query.SelectionQuery#stream streaming}
+	 * the results of a query should be evicted from the persistence
+	 * context as soon as the cursor moves to the next result, so that
+	 * the memory used by the session does not grow with the number of
+	 * results.
+	 * <p>
+	 * The entities returned for a result are detached when moving to
+	 * the next result, and changes made to them are therefore not
+	 * flushed. An entity referenced by several results may be loaded
+	 * several times. Only the entities loaded by the query are detached,
+	 * and the detachment is not cascaded, so that entities which were
+	 * already managed stay managed. Unless a fetch size is specified, a
+	 * default fetch size is applied to the statement, so that the JDBC
+	 * driver does not buffer the whole result set either.
+	 *
+	 * @see org.hibernate.query.SelectionQuery#scroll
+	 * @see org.hibernate.query.SelectionQuery#stream
+	 *
+	 * @since 6.3
+	 */
+	String HINT_DETACH_SCROLLED_ENTITIES = "org.hibernate.detachScrolledEntities";
+
 	/**
 	 * Hint for specifying whether results from a query should be 
 	 * stored in the query cache.
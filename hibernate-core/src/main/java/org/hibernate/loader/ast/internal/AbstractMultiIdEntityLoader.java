@@ -6,6 +6,9 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.loader.ast.spi.MultiIdEntityLoader;
@@ -13,7 +16,9 @@ import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Base support for {@link MultiIdEntityLoader} implementations.
@@ -59,6 +64,46 @@ public abstract class AbstractMultiIdEntityLoader<T> implements MultiIdEntityLoa
 		}
 	}
 
+	/**
+	 * Fetch the second-level cache entries for the given ids at once, leaving out
+	 * the ids of entities already associated with the session when the session is
+	 * to be checked first.
+	 *
+	 * @return the cache entries keyed by entity key, or {@code null} if the
+	 * second-level cache is not to be checked
+	 *
+	 * @see CacheEntityLoaderHelper#loadFromSecondLevelCache(org.hibernate.event.spi.LoadEvent, org.hibernate.persister.entity.EntityPersister, EntityKey, Map)
+	 */
+	protected <K> Map<EntityKey, Object> prefetchFromSecondLevelCache(
+			K[] ids,
+			MultiIdLoadOptions loadOptions,
+			LockOptions lockOptions,
+			EventSource session) {
+		if ( !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			return null;
+		}
+
+		final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final List<EntityKey> keysToCheck = new ArrayList<>( ids.length );
+		for ( K key : ids ) {
+			final Object id = coerce
+					? getLoadable().getIdentifierMapping().getJavaType().coerce( key, session )
+					: key;
+			final EntityKey entityKey = session.generateEntityKey( id, getLoadable().getEntityPersister() );
+			if ( !loadOptions.isSessionCheckingEnabled() || persistenceContext.getEntity( entityKey ) == null ) {
+				keysToCheck.add( entityKey );
+			}
+		}
+
+		return CacheEntityLoaderHelper.INSTANCE.getFromSecondLevelCache(
+				session,
+				lockOptions.getLockMode(),
+				getLoadable().getEntityPersister(),
+				keysToCheck
+		);
+	}
+
 	protected abstract <K> List<T> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session);
 
 	protected abstract <K> List<T> performUnorderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session);
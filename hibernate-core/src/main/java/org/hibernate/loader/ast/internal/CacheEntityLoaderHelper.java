@@ -6,6 +6,12 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
@@ -206,7 +212,43 @@ public class CacheEntityLoaderHelper {
 				persister,
 				entityKey
 		);
+		firePostLoadEvent( event, persister, entity );
+		return entity;
+	}
+
+	/**
+	 * Attempts to load the entity from second-level cache entries previously
+	 * fetched using {@link #getFromSecondLevelCache}.
+	 *
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param cacheEntries The prefetched cache entries, or {@code null} if they were not fetched
+	 *
+	 * @return The entity from the second-level cache, or null.
+	 */
+	@Incubating
+	public Object loadFromSecondLevelCache(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final Map<EntityKey, Object> cacheEntries) {
+		if ( cacheEntries == null ) {
+			return loadFromSecondLevelCache( event, persister, entityKey );
+		}
+
+		final Object ce = cacheEntries.get( entityKey );
+		if ( ce == null ) {
+			// nothing was found in cache
+			return null;
+		}
+
+		final Object entity = processCachedEntry( event.getInstanceToLoad(), persister, ce, event.getSession(), entityKey );
+		firePostLoadEvent( event, persister, entity );
+		return entity;
+	}
 
+	private static void firePostLoadEvent(LoadEvent event, EntityPersister persister, Object entity) {
 		if ( entity != null ) {
 			//PostLoad is needed for EJB3
 			final PostLoadEvent postLoadEvent = event.getPostLoadEvent()
@@ -218,7 +260,6 @@ public class CacheEntityLoaderHelper {
 					.getFastSessionServices()
 					.firePostLoadEvent( postLoadEvent );
 		}
-		return entity;
 	}
 
 	/**
@@ -259,6 +300,74 @@ public class CacheEntityLoaderHelper {
 	}
 
 
+	/**
+	 * Attempts to fetch the second-level cache entries of several entities at once,
+	 * so that cache providers able to read several entries at once may do so in a
+	 * single round trip.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The keys of the entities
+	 *
+	 * @return The (disassembled) cache entries keyed by entity key, or null if
+	 * the second-level cache may not be used
+	 */
+	@Incubating
+	public Map<EntityKey, Object> getFromSecondLevelCache(
+			final EventSource source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final Collection<EntityKey> entityKeys) {
+		final boolean useCache = persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& lockMode.lessThan( LockMode.READ );
+
+		if ( !useCache ) {
+			// we can't use cache here
+			return null;
+		}
+		if ( entityKeys.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Map<Object, EntityKey> entityKeysByCacheKey = new LinkedHashMap<>( entityKeys.size() );
+		for ( EntityKey entityKey : entityKeys ) {
+			entityKeysByCacheKey.put(
+					cache.generateCacheKey( entityKey.getIdentifier(), persister, factory, source.getTenantIdentifier() ),
+					entityKey
+			);
+		}
+
+		final Map<Object, Object> cachedEntries = CacheHelper.fromSharedCache( source, entityKeysByCacheKey.keySet(), cache );
+		final Map<EntityKey, Object> entriesByEntityKey = new HashMap<>( cachedEntries.size() );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		final boolean statisticsEnabled = statistics.isStatisticsEnabled();
+		for ( Map.Entry<Object, EntityKey> entry : entityKeysByCacheKey.entrySet() ) {
+			final Object ce = cachedEntries.get( entry.getKey() );
+			if ( ce != null ) {
+				entriesByEntityKey.put( entry.getValue(), ce );
+			}
+			if ( statisticsEnabled ) {
+				if ( ce == null ) {
+					statistics.entityCacheMiss(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+				else {
+					statistics.entityCacheHit(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+			}
+		}
+		return entriesByEntityKey;
+	}
+
 	private Object getFromSharedCache(
 			final Object entityId,
 			final EntityPersister persister,
@@ -299,7 +408,11 @@ public class CacheEntityLoaderHelper {
 			final EntityKey entityKey) {
 
 		CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure().destructure( ce, source.getFactory() );
-		if ( entry.isReferenceEntry() ) {
+		if ( entry == null ) {
+			// the cached data was written for a different version of the mapping
+			return null;
+		}
+		else if ( entry.isReferenceEntry() ) {
 			if ( instanceToLoad != null ) {
 				throw new HibernateException(
 						"Attempt to load entity from cache using provided object instance, but cache " +
@@ -429,6 +542,16 @@ public class CacheEntityLoaderHelper {
 		final Object version;
 		final boolean isReadOnly;
 
+		final Object proxy = persistenceContext.getProxy( entityKey );
+		if ( proxy != null ) {
+			// there is already a proxy for this impl
+			// only set the status to read-only if the proxy is read-only
+			isReadOnly = HibernateProxy.extractLazyInitializer( proxy ).isReadOnly();
+		}
+		else {
+			isReadOnly = source.isDefaultReadOnly();
+		}
+
 		final Type[] types = subclassPersister.getPropertyTypes();
 		// initializes the entity by (desired) side-effect
 		values = ( (StandardCacheEntryImpl) entry ).assemble(
@@ -438,7 +561,9 @@ public class CacheEntityLoaderHelper {
 				source.getInterceptor(),
 				source
 		);
-		if ( ( (StandardCacheEntryImpl) entry ).isDeepCopyNeeded() ) {
+		// the loaded state of a read-only entity is not retained,
+		// so there is no need for a snapshot of its mutable values
+		if ( !isReadOnly && ( (StandardCacheEntryImpl) entry ).isDeepCopyNeeded() ) {
 			TypeHelper.deepCopy(
 					values,
 					types,
@@ -450,16 +575,6 @@ public class CacheEntityLoaderHelper {
 		version = getVersion( values, subclassPersister );
 		LOG.tracef( "Cached Version : %s", version );
 
-		final Object proxy = persistenceContext.getProxy( entityKey );
-		if ( proxy != null ) {
-			// there is already a proxy for this impl
-			// only set the status to read-only if the proxy is read-only
-			isReadOnly = HibernateProxy.extractLazyInitializer( proxy ).isReadOnly();
-		}
-		else {
-			isReadOnly = source.isDefaultReadOnly();
-		}
-
 		persistenceContext.addEntry(
 				entity,
 				( isReadOnly ? Status.READ_ONLY : Status.MANAGED ),
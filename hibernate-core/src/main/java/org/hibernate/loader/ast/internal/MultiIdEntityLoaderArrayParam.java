@@ -10,6 +10,7 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -87,6 +88,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 		final List<Object> result = CollectionHelper.arrayList( ids.length );
 		List<Object> idsToLoadFromDatabase = null;
 		List<Integer> idsToLoadFromDatabaseResultIndexes = null;
+		final Map<EntityKey, Object> cacheEntries = prefetchFromSecondLevelCache( ids, loadOptions, lockOptions, session );
 
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
@@ -133,7 +135,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 							loadEvent,
 							getLoadable().getEntityPersister(),
-							entityKey
+							entityKey,
+							cacheEntries
 					);
 				}
 
@@ -317,6 +320,7 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 
 		boolean foundAnyResolvedEntities = false;
 		List<K> nonResolvedIds = null;
+		final Map<EntityKey, Object> cacheEntries = prefetchFromSecondLevelCache( ids, loadOptions, lockOptions, session );
 
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Object id;
@@ -361,7 +365,8 @@ public class MultiIdEntityLoaderArrayParam<E> extends AbstractMultiIdEntityLoade
 				resolvedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
 						loadEvent,
 						getLoadable().getEntityPersister(),
-						entityKey
+						entityKey,
+						cacheEntries
 				);
 			}
 
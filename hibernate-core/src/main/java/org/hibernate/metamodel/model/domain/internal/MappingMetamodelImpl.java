@@ -15,8 +15,12 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.hibernate.EntityNameResolver;
@@ -39,8 +43,11 @@ import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.mapping.Collection;
 import org.hibernate.mapping.Component;
+import org.hibernate.mapping.IdentifierCollection;
+import org.hibernate.mapping.IndexedCollection;
 import org.hibernate.mapping.MappedSuperclass;
 import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.mapping.EmbeddableValuedModelPart;
 import org.hibernate.metamodel.mapping.EntityMappingType;
@@ -80,7 +87,9 @@ import jakarta.persistence.metamodel.EmbeddableType;
 import jakarta.persistence.metamodel.EntityType;
 import jakarta.persistence.metamodel.ManagedType;
 
+import static org.hibernate.cfg.AvailableSettings.BOOTSTRAP_PARALLELISM;
 import static org.hibernate.internal.util.collections.ArrayHelper.EMPTY_STRING_ARRAY;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.metamodel.internal.JpaMetaModelPopulationSetting.determineJpaMetaModelPopulationSetting;
 import static org.hibernate.metamodel.internal.JpaStaticMetaModelPopulationSetting.determineJpaStaticMetaModelPopulationSetting;
 
@@ -182,18 +191,32 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 
 		final PersisterFactory persisterFactory = serviceRegistry.getService( PersisterFactory.class );
 		final CacheImplementor cache = context.getCache();
-		processBootEntities(
-				bootModel.getEntityBindings(),
-				cache,
-				persisterFactory,
-				context
-		);
-		processBootCollections(
-				bootModel.getCollectionBindings(),
-				cache,
-				persisterFactory,
-				context
-		);
+		final int parallelism = getInt( BOOTSTRAP_PARALLELISM, context.getSettings(), 1 );
+		final ForkJoinPool pool = parallelism > 1 ? createBootstrapPool( parallelism ) : null;
+		try {
+			if ( pool != null ) {
+				resolveBootTypes( bootModel );
+			}
+			processBootEntities(
+					bootModel.getEntityBindings(),
+					cache,
+					persisterFactory,
+					context,
+					pool
+			);
+			processBootCollections(
+					bootModel.getCollectionBindings(),
+					cache,
+					persisterFactory,
+					context,
+					pool
+			);
+		}
+		finally {
+			if ( pool != null ) {
+				pool.shutdown();
+			}
+		}
 
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// after *all* persisters and named queries are registered
@@ -237,19 +260,29 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 			java.util.Collection<PersistentClass> entityBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
-		for ( final PersistentClass model : entityBindings ) {
-			final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
-			final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
-			final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
-					.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
-
-			final EntityPersister cp = persisterFactory.createEntityPersister(
-					model,
-					accessStrategy,
-					naturalIdAccessStrategy,
-					modelCreationContext
-			);
+			RuntimeModelCreationContext modelCreationContext,
+			ForkJoinPool pool) {
+		final List<PersistentClass> models = new ArrayList<>( entityBindings );
+		final List<EntityPersister> persisters = createPersisters(
+				models,
+				model -> {
+					final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
+					final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
+					final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
+							.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
+
+					return persisterFactory.createEntityPersister(
+							model,
+							accessStrategy,
+							naturalIdAccessStrategy,
+							modelCreationContext
+					);
+				},
+				pool
+		);
+		for ( int i = 0; i < models.size(); i++ ) {
+			final PersistentClass model = models.get( i );
+			final EntityPersister cp = persisters.get( i );
 			entityPersisterMap.put( model.getEntityName(), cp );
 			// Also register the persister under the class name if available,
 			// otherwise the getEntityDescriptor(Class) won't work for entities with custom entity names
@@ -300,19 +333,27 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 			java.util.Collection<Collection> collectionBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
-		for ( final Collection model : collectionBindings ) {
-			final NavigableRole navigableRole = new NavigableRole( model.getRole() );
-
-			final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
-					navigableRole );
-
-			final CollectionPersister persister = persisterFactory.createCollectionPersister(
-					model,
-					accessStrategy,
-					modelCreationContext
-			);
-			collectionPersisterMap.put( model.getRole(), persister );
+			RuntimeModelCreationContext modelCreationContext,
+			ForkJoinPool pool) {
+		final List<Collection> models = new ArrayList<>( collectionBindings );
+		final List<CollectionPersister> persisters = createPersisters(
+				models,
+				model -> {
+					final NavigableRole navigableRole = new NavigableRole( model.getRole() );
+
+					final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
+							navigableRole );
+
+					return persisterFactory.createCollectionPersister(
+							model,
+							accessStrategy,
+							modelCreationContext
+					);
+				},
+				pool
+		);
+		for ( final CollectionPersister persister : persisters ) {
+			collectionPersisterMap.put( persister.getRole(), persister );
 			Type indexType = persister.getIndexType();
 			if ( indexType != null && indexType.isEntityType() && !indexType.isAnyType() ) {
 				String entityName = ( (org.hibernate.type.EntityType) indexType ).getAssociatedEntityName();
@@ -338,6 +379,87 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 		}
 	}
 
+	/**
+	 * Instantiate the persisters for the given boot models, concurrently if a pool
+	 * is given.  The persisters are returned in the order of the boot models, so
+	 * that they are registered in the same order as when created sequentially.
+	 */
+	private static <M, P> List<P> createPersisters(List<M> models, Function<M, P> creator, ForkJoinPool pool) {
+		if ( pool == null || models.size() < 2 ) {
+			final List<P> persisters = new ArrayList<>( models.size() );
+			for ( M model : models ) {
+				persisters.add( creator.apply( model ) );
+			}
+			return persisters;
+		}
+		try {
+			return pool.submit( () -> models.parallelStream().map( creator ).collect( Collectors.toList() ) ).get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while creating persisters", e );
+		}
+		catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			throw new HibernateException( "Unable to create persisters", cause );
+		}
+	}
+
+	private static ForkJoinPool createBootstrapPool(int parallelism) {
+		// the persisters might need to load classes through the thread context class loader
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return new ForkJoinPool(
+				parallelism,
+				forkJoinPool -> {
+					final ForkJoinWorkerThread thread =
+							ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( forkJoinPool );
+					thread.setName( "hibernate-bootstrap-" + thread.getPoolIndex() );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				},
+				null,
+				false
+		);
+	}
+
+	/**
+	 * The boot model lazily resolves the types of its values, make sure that
+	 * this happens before the persisters are created concurrently.
+	 */
+	private static void resolveBootTypes(MetadataImplementor bootModel) {
+		for ( PersistentClass persistentClass : bootModel.getEntityBindings() ) {
+			if ( persistentClass.getIdentifier() != null ) {
+				persistentClass.getIdentifier().getType();
+			}
+			if ( persistentClass.getIdentifierMapper() != null ) {
+				persistentClass.getIdentifierMapper().getType();
+			}
+			if ( persistentClass.getDiscriminator() != null ) {
+				persistentClass.getDiscriminator().getType();
+			}
+			for ( Property property : persistentClass.getPropertyClosure() ) {
+				property.getType();
+			}
+		}
+		for ( Collection collection : bootModel.getCollectionBindings() ) {
+			collection.getType();
+			collection.getKey().getType();
+			collection.getElement().getType();
+			if ( collection instanceof IndexedCollection ) {
+				( (IndexedCollection) collection ).getIndex().getType();
+			}
+			if ( collection instanceof IdentifierCollection ) {
+				( (IdentifierCollection) collection ).getIdentifier().getType();
+			}
+		}
+	}
+
 	private static void registerEntityNameResolvers(
 			EntityPersister persister,
 			Set<EntityNameResolver> entityNameResolvers) {
@@ -7,6 +7,7 @@
 package org.hibernate.persister.entity.mutation;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
@@ -33,6 +34,7 @@ import org.hibernate.generator.Generator;
 import org.hibernate.generator.OnExecutionGenerator;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
@@ -84,6 +86,9 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 	private final MutationOperationGroup versionUpdateGroup;
 	private final BatchKey versionUpdateBatchkey;
 
+	// dynamic update groups, keyed by the shape of the update they were generated for
+	private final BoundedConcurrentHashMap<BitSet, MutationOperationGroup> dynamicUpdateGroups;
+
 	public UpdateCoordinatorStandard(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
 
@@ -91,6 +96,10 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 		// there are cases where we need the full static updates.
 		this.staticUpdateGroup = buildStaticUpdateGroup();
 		this.versionUpdateGroup = buildVersionUpdateGroup();
+		final int dynamicUpdateCacheMaxSize = factory.getSessionFactoryOptions().getDynamicUpdateCacheMaxSize();
+		this.dynamicUpdateGroups = entityPersister.getEntityMetamodel().isDynamicUpdate() && dynamicUpdateCacheMaxSize > 0
+				? new BoundedConcurrentHashMap<>( dynamicUpdateCacheMaxSize, 4, BoundedConcurrentHashMap.Eviction.LRU )
+				: null;
 		if ( entityPersister.hasUpdateGeneratedProperties() ) {
 			// disable batching in case of update generated properties
 			this.batchKey = null;
@@ -918,7 +927,7 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 			UpdateValuesAnalysisImpl valuesAnalysis,
 			SharedSessionContractImplementor session) {
 		// Create the JDBC operation descriptors
-		final MutationOperationGroup dynamicUpdateGroup = generateDynamicUpdateGroup(
+		final MutationOperationGroup dynamicUpdateGroup = resolveDynamicUpdateGroup(
 				id,
 				rowId,
 				oldValues,
@@ -1001,6 +1010,76 @@ public class UpdateCoordinatorStandard extends AbstractMutationCoordinator imple
 		return versionUpdateBatchkey;
 	}
 
+	/**
+	 * Get the dynamic update group for the given update from the cache of
+	 * previously generated groups, or generate it.
+	 */
+	private MutationOperationGroup resolveDynamicUpdateGroup(
+			Object id,
+			Object rowId,
+			Object[] oldValues,
+			UpdateValuesAnalysisImpl valuesAnalysis,
+			SharedSessionContractImplementor session) {
+		if ( dynamicUpdateGroups != null ) {
+			final BitSet key = dynamicUpdateGroupKey( rowId, oldValues, valuesAnalysis );
+			if ( key != null ) {
+				final MutationOperationGroup cachedGroup = dynamicUpdateGroups.get( key );
+				if ( cachedGroup != null ) {
+					return cachedGroup;
+				}
+				final MutationOperationGroup group =
+						generateDynamicUpdateGroup( id, rowId, oldValues, valuesAnalysis, session );
+				dynamicUpdateGroups.put( key, group );
+				return group;
+			}
+		}
+		return generateDynamicUpdateGroup( id, rowId, oldValues, valuesAnalysis, session );
+	}
+
+	/**
+	 * Describes everything {@link #generateDynamicUpdateGroup} depends on, that is,
+	 * whether the row id and the loaded state are used, then for each attribute
+	 * whether it is dirty, set, and used for locking, and finally which tables
+	 * are updated.
+	 *
+	 * @return the key, or {@code null} if the update cannot be cached because it
+	 * locks on a null value, which requires a restriction of its own
+	 */
+	private BitSet dynamicUpdateGroupKey(Object rowId, Object[] oldValues, UpdateValuesAnalysisImpl valuesAnalysis) {
+		final List<AttributeAnalysis> attributeAnalyses = valuesAnalysis.getAttributeAnalyses();
+		final int attributeCount = attributeAnalyses.size();
+		final BitSet key = new BitSet( 2 + attributeCount * 3 );
+		key.set( 0, rowId != null && entityPersister().getRowIdMapping() != null );
+		key.set( 1, oldValues == null );
+		for ( int i = 0; i < attributeCount; i++ ) {
+			final AttributeAnalysis attributeAnalysis = attributeAnalyses.get( i );
+			final int position = 2 + i * 3;
+			key.set( position, attributeAnalysis.getDirtynessStatus().isDirty() );
+			key.set( position + 1, attributeAnalysis.includeInSet() );
+			if ( attributeAnalysis.includeInLocking() ) {
+				if ( ( oldValues != null && oldValues[i] == null )
+						|| hasNullLockValue( (IncludedAttributeAnalysis) attributeAnalysis ) ) {
+					return null;
+				}
+				key.set( position + 2 );
+			}
+		}
+		final int tablesPosition = 2 + attributeCount * 3;
+		for ( EntityTableMapping tableMapping : valuesAnalysis.tablesNeedingUpdate ) {
+			key.set( tablesPosition + tableMapping.getRelativePosition() );
+		}
+		return key;
+	}
+
+	private static boolean hasNullLockValue(IncludedAttributeAnalysis attributeAnalysis) {
+		for ( ColumnLockingAnalysis columnLockingAnalysis : attributeAnalysis.columnLockingAnalyses ) {
+			if ( columnLockingAnalysis.getLockValue() == null ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	protected MutationOperationGroup generateDynamicUpdateGroup(
 			Object id,
 			Object rowId,
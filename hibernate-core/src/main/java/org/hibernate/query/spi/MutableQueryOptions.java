@@ -74,6 +74,11 @@ public interface MutableQueryOptions extends QueryOptions {
 	 */
 	void setReadOnly(boolean readOnly);
 
+	/**
+	 * Corollary to {@link #isDetachScrolledEntities()}
+	 */
+	void setDetachScrolledEntities(boolean detachScrolledEntities);
+
 	/**
 	 * Corollary to {@link #getComment()}
 	 */
@@ -45,6 +45,17 @@ public interface QueryOptions {
 	 */
 	Boolean isReadOnly();
 
+	/**
+	 * Should the entities loaded while {@linkplain org.hibernate.query.SelectionQuery#scroll scrolling}
+	 * or {@linkplain org.hibernate.query.SelectionQuery#stream streaming} the results be removed from
+	 * the persistence context as the cursor advances?
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_DETACH_SCROLLED_ENTITIES
+	 */
+	default boolean isDetachScrolledEntities() {
+		return false;
+	}
+
 	/**
 	 * JPA {@link jakarta.persistence.EntityGraph} explicitly applied to the
 	 * query.
@@ -43,6 +43,7 @@ import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcSelectExecutor;
 import org.hibernate.sql.results.graph.DomainResult;
 import org.hibernate.sql.results.internal.ResultsHelper;
+import org.hibernate.sql.results.internal.ResultsProfileImpl;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
 import org.hibernate.sql.results.internal.RowTransformerTupleTransformerAdapter;
@@ -58,6 +59,7 @@ import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.ResultsConsumer;
+import org.hibernate.sql.results.spi.ResultsProfiler;
 import org.hibernate.sql.results.spi.RowReader;
 import org.hibernate.sql.results.spi.RowTransformer;
 import org.hibernate.sql.results.spi.ScrollableResultsConsumer;
@@ -81,6 +83,14 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 	 */
 	public static final JdbcSelectExecutorStandardImpl INSTANCE = new JdbcSelectExecutorStandardImpl();
 
+	/**
+	 * The fetch size used when the scrolled entities are detached and no fetch size was
+	 * specified, to avoid drivers buffering the whole result set in memory
+	 *
+	 * @see QueryOptions#isDetachScrolledEntities()
+	 */
+	private static final int DETACHED_SCROLL_FETCH_SIZE = 256;
+
 	@Override
 	public <R> List<R> list(
 			JdbcOperationQuerySelect jdbcSelect,
@@ -226,7 +236,10 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		final LockOptions lockOptions = queryOptions.getLockOptions();
 		final String comment = queryOptions.getComment();
 		final List<String> databaseHints = queryOptions.getDatabaseHints();
-		final Integer fetchSize = queryOptions.getFetchSize();
+		final boolean detachScrolledEntities = queryOptions.isDetachScrolledEntities();
+		final Integer fetchSize = queryOptions.getFetchSize() == null && detachScrolledEntities
+				? Integer.valueOf( DETACHED_SCROLL_FETCH_SIZE )
+				: queryOptions.getFetchSize();
 		final Limit limit = queryOptions.getLimit();
 
 		return new JdbcSelectExecutionContext(
@@ -244,6 +257,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				comment,
 				databaseHints,
 				fetchSize,
+				detachScrolledEntities,
 				limit,
 				context
 		);
@@ -337,6 +351,18 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				processingOptions
 		);
 
+		// scrollable results are processed after the query returns, so they are not profiled
+		final ResultsProfiler resultsProfiler = session.getFactory().getSessionFactoryOptions().getResultsProfiler();
+		final ResultsProfileImpl resultsProfile;
+		if ( resultsProfiler != null && jdbcValues instanceof JdbcValuesResultSetImpl
+				&& !( resultsConsumer instanceof ScrollableResultsConsumer ) ) {
+			resultsProfile = new ResultsProfileImpl( deferredResultSetAccess.getFinalSql() );
+			( (JdbcValuesResultSetImpl) jdbcValues ).profile( resultsProfile );
+		}
+		else {
+			resultsProfile = null;
+		}
+
 		final RowReader<R> rowReader = ResultsHelper.createRowReader(
 				executionContext,
 				// If follow-on locking is used, we must omit the lock options here,
@@ -348,7 +374,8 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 						: executionContext.getQueryOptions().getLockOptions(),
 				rowTransformer,
 				domainResultType,
-				jdbcValues
+				jdbcValues.getValuesMapping(),
+				resultsProfile
 		);
 
 		final RowProcessingStateStandardImpl rowProcessingState = new RowProcessingStateStandardImpl(
@@ -367,6 +394,22 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				rowReader
 		);
 
+		// the results of a scrollable query are only fetched after it is returned
+		final long executeEndNanos = deferredResultSetAccess.getExecuteEndNanos();
+		if ( executeEndNanos != 0 && statistics.isStatementStatisticsEnabled()
+				&& !( resultsConsumer instanceof ScrollableResultsConsumer ) ) {
+			statistics.statementResultsFetched(
+					deferredResultSetAccess.getNormalizedSql(),
+					System.nanoTime() - executeEndNanos
+			);
+		}
+
+		if ( resultsProfile != null ) {
+			resultsProfile.addExecutionTime( deferredResultSetAccess.getExecutionNanos() );
+			resultsProfile.addEntities( valuesProcessingState.getLoadingEntityCount() );
+			resultsProfiler.resultsProcessed( jdbcSelect, resultsProfile );
+		}
+
 		if ( stats ) {
 			final long endTime = System.nanoTime();
 			final long milliseconds = TimeUnit.MILLISECONDS.convert( endTime - startTime, TimeUnit.NANOSECONDS );
@@ -502,7 +545,9 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			else {
 				jdbcValuesMapping = mappingProducer.resolve( (JdbcValuesMetadata) cachedResults.get( 0 ), session.getLoadQueryInfluencers(), factory );
 			}
-			return new JdbcValuesCacheHit( cachedResults, jdbcValuesMapping );
+			final JdbcValuesCacheHit jdbcValues = new JdbcValuesCacheHit( cachedResults, jdbcValuesMapping );
+			jdbcValues.loadShallowEntities( session, executionContext.getQueryOptions() );
+			return jdbcValues;
 		}
 	}
 
@@ -659,6 +704,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		private final String comment;
 		private final List<String> databaseHints;
 		private final Integer fetchSize;
+		private final boolean detachScrolledEntities;
 		private final Limit limit;
 		private final ExecutionContext context;
 
@@ -677,6 +723,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 				String comment,
 				List<String> databaseHints,
 				Integer fetchSize,
+				boolean detachScrolledEntities,
 				Limit limit,
 				ExecutionContext context) {
 			super( context.getSession() );
@@ -694,6 +741,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			this.comment = comment;
 			this.databaseHints = databaseHints;
 			this.fetchSize = fetchSize;
+			this.detachScrolledEntities = detachScrolledEntities;
 			this.limit = limit;
 			this.context = context;
 		}
@@ -778,6 +826,11 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 			return fetchSize;
 		}
 
+		@Override
+		public boolean isDetachScrolledEntities() {
+			return detachScrolledEntities;
+		}
+
 		@Override
 		public Limit getLimit() {
 			return limit;
@@ -20,6 +20,7 @@ import org.hibernate.sql.exec.spi.JdbcMutationExecutor;
 import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * @author Steve Ebersole
@@ -57,9 +58,14 @@ public class StandardJdbcMutationExecutor implements JdbcMutationExecutor {
 					executionContext.getSession().getFactory().getSessionFactoryOptions().isCommentsEnabled()
 			);
 		}
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 		try {
 			// prepare the query
+			final long prepareStartNanos = statistics.isStatementStatisticsEnabled() ? System.nanoTime() : 0;
 			final PreparedStatement preparedStatement = statementCreator.apply( finalSql );
+			if ( prepareStartNanos != 0 ) {
+				statistics.statementPrepared( jdbcMutation.getSqlString(), System.nanoTime() - prepareStartNanos );
+			}
 
 			try {
 				if ( executionContext.getQueryOptions().getTimeout() != null ) {
@@ -78,6 +84,7 @@ public class StandardJdbcMutationExecutor implements JdbcMutationExecutor {
 					);
 				}
 
+				final long executeStartNanos = statistics.isStatementStatisticsEnabled() ? System.nanoTime() : 0;
 				session.getEventListenerManager().jdbcExecuteStatementStart();
 				try {
 					int rows = preparedStatement.executeUpdate();
@@ -86,6 +93,9 @@ public class StandardJdbcMutationExecutor implements JdbcMutationExecutor {
 				}
 				finally {
 					session.getEventListenerManager().jdbcExecuteStatementEnd();
+					if ( executeStartNanos != 0 ) {
+						statistics.statementExecuted( jdbcMutation.getSqlString(), System.nanoTime() - executeStartNanos );
+					}
 				}
 			}
 			finally {
@@ -0,0 +1,178 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.caching.internal;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The JDBC values of query results stored column by column, as cached with the
+ * {@linkplain org.hibernate.cache.spi.QueryCacheLayout#SHALLOW shallow} query
+ * cache layout.
+ * <p>
+ * Columns of {@code Long}, {@code Integer}, {@code Double} or {@code Boolean}
+ * values are stored as primitive arrays, columns without any non-null value are
+ * not stored at all.  When the results are {@linkplain #isShallow() shallow},
+ * only the identifier, discriminator and version columns of the entity results
+ * were kept.
+ *
+ * @since 6.3
+ */
+public final class ColumnarQueryResults implements Serializable {
+	private final int rowCount;
+	private final int rowSize;
+	private final boolean shallow;
+	private final Object[] columns;
+	private final BitSet[] nulls;
+
+	private ColumnarQueryResults(int rowCount, int rowSize, boolean shallow, Object[] columns, BitSet[] nulls) {
+		this.rowCount = rowCount;
+		this.rowSize = rowSize;
+		this.shallow = shallow;
+		this.columns = columns;
+		this.nulls = nulls;
+	}
+
+	/**
+	 * @param rows the JDBC values, one {@code Object[]} per row
+	 * @param rowSize the number of JDBC values per row
+	 * @param keptPositions the positions of the values to keep, or {@code null} to keep all of them
+	 */
+	public static ColumnarQueryResults from(List<?> rows, int rowSize, BitSet keptPositions) {
+		final int rowCount = rows.size();
+		final Object[] columns = new Object[rowSize];
+		final BitSet[] nulls = new BitSet[rowSize];
+		for ( int position = 0; position < rowSize; position++ ) {
+			if ( keptPositions == null || keptPositions.get( position ) ) {
+				final Object[] values = new Object[rowCount];
+				for ( int i = 0; i < rowCount; i++ ) {
+					values[i] = ( (Object[]) rows.get( i ) )[position];
+				}
+				columns[position] = toColumn( values );
+				nulls[position] = toNulls( values, columns[position] );
+			}
+		}
+		return new ColumnarQueryResults( rowCount, rowSize, keptPositions != null, columns, nulls );
+	}
+
+	private static Object toColumn(Object[] values) {
+		Class<?> valueType = null;
+		for ( Object value : values ) {
+			if ( value != null ) {
+				if ( valueType == null ) {
+					valueType = value.getClass();
+				}
+				else if ( valueType != value.getClass() ) {
+					return values;
+				}
+			}
+		}
+
+		if ( valueType == null ) {
+			return null;
+		}
+		else if ( valueType == Long.class ) {
+			final long[] column = new long[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				column[i] = values[i] == null ? 0L : (Long) values[i];
+			}
+			return column;
+		}
+		else if ( valueType == Integer.class ) {
+			final int[] column = new int[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				column[i] = values[i] == null ? 0 : (Integer) values[i];
+			}
+			return column;
+		}
+		else if ( valueType == Double.class ) {
+			final double[] column = new double[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				column[i] = values[i] == null ? 0D : (Double) values[i];
+			}
+			return column;
+		}
+		else if ( valueType == Boolean.class ) {
+			final boolean[] column = new boolean[values.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				column[i] = values[i] != null && (Boolean) values[i];
+			}
+			return column;
+		}
+		else {
+			return values;
+		}
+	}
+
+	private static BitSet toNulls(Object[] values, Object column) {
+		if ( column == null || column instanceof Object[] ) {
+			// nulls are either implicit or stored as such
+			return null;
+		}
+		BitSet nulls = null;
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( values[i] == null ) {
+				if ( nulls == null ) {
+					nulls = new BitSet( values.length );
+				}
+				nulls.set( i );
+			}
+		}
+		return nulls;
+	}
+
+	/**
+	 * Whether only the identifier, discriminator and version of the entity
+	 * results were kept
+	 */
+	public boolean isShallow() {
+		return shallow;
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * Rebuild the JDBC values, one {@code Object[]} per row
+	 */
+	public Object[][] toRows() {
+		final Object[][] rows = new Object[rowCount][rowSize];
+		for ( int position = 0; position < rowSize; position++ ) {
+			final Object column = columns[position];
+			if ( column == null ) {
+				continue;
+			}
+			final BitSet columnNulls = nulls[position];
+			for ( int i = 0; i < rowCount; i++ ) {
+				if ( columnNulls == null || !columnNulls.get( i ) ) {
+					rows[i][position] = valueAt( column, i );
+				}
+			}
+		}
+		return rows;
+	}
+
+	private static Object valueAt(Object column, int index) {
+		if ( column instanceof long[] ) {
+			return ( (long[]) column )[index];
+		}
+		else if ( column instanceof int[] ) {
+			return ( (int[]) column )[index];
+		}
+		else if ( column instanceof double[] ) {
+			return ( (double[]) column )[index];
+		}
+		else if ( column instanceof boolean[] ) {
+			return ( (boolean[]) column )[index];
+		}
+		else {
+			return ( (Object[]) column )[index];
+		}
+	}
+}
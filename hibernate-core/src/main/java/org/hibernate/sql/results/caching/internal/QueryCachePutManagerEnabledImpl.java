@@ -8,12 +8,23 @@ package org.hibernate.sql.results.caching.internal;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
+import org.hibernate.cache.spi.QueryCacheLayout;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.EntityVersionMapping;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.Fetch;
+import org.hibernate.sql.results.graph.basic.BasicFetch;
+import org.hibernate.sql.results.graph.basic.BasicResult;
+import org.hibernate.sql.results.graph.entity.AbstractEntityResultGraphNode;
+import org.hibernate.sql.results.graph.entity.EntityResult;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -28,6 +39,9 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	private final StatisticsImplementor statistics;
 	private final QueryKey queryKey;
 	private final String queryIdentifier;
+	private final JdbcValuesMetadata metadataForCache;
+	private final QueryCacheLayout layout;
+	private final JdbcValuesMapping valuesMapping;
 	private final List<Object> dataToCache = new ArrayList<>();
 
 	public QueryCachePutManagerEnabledImpl(
@@ -36,10 +50,24 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 			QueryKey queryKey,
 			String queryIdentifier,
 			JdbcValuesMetadata metadataForCache) {
+		this( queryCache, statistics, queryKey, queryIdentifier, metadataForCache, QueryCacheLayout.FULL, null );
+	}
+
+	public QueryCachePutManagerEnabledImpl(
+			QueryResultsCache queryCache,
+			StatisticsImplementor statistics,
+			QueryKey queryKey,
+			String queryIdentifier,
+			JdbcValuesMetadata metadataForCache,
+			QueryCacheLayout layout,
+			JdbcValuesMapping valuesMapping) {
 		this.queryCache = queryCache;
 		this.statistics = statistics;
 		this.queryKey = queryKey;
 		this.queryIdentifier = queryIdentifier;
+		this.metadataForCache = metadataForCache;
+		this.layout = valuesMapping == null ? QueryCacheLayout.FULL : layout;
+		this.valuesMapping = valuesMapping;
 		if ( metadataForCache != null ) {
 			dataToCache.add( metadataForCache );
 		}
@@ -60,7 +88,7 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 		if ( queryKey != null ) {
 			final boolean put = queryCache.put(
 					queryKey,
-					dataToCache,
+					layout == QueryCacheLayout.SHALLOW ? toColumnarData() : dataToCache,
 					session
 			);
 			if ( put && statistics.isStatisticsEnabled() ) {
@@ -68,4 +96,91 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 			}
 		}
 	}
+
+	private List<Object> toColumnarData() {
+		final List<Object> columnarData = new ArrayList<>( 2 );
+		final int firstRow;
+		if ( metadataForCache != null ) {
+			columnarData.add( metadataForCache );
+			firstRow = 1;
+		}
+		else {
+			firstRow = 0;
+		}
+		columnarData.add(
+				ColumnarQueryResults.from(
+						dataToCache.subList( firstRow, dataToCache.size() ),
+						valuesMapping.getRowSize(),
+						resolveShallowPositions( valuesMapping )
+				)
+		);
+		return columnarData;
+	}
+
+	/**
+	 * Determine the positions of the JDBC values needed to resolve the results
+	 * when only the identifier of the entities is kept, or {@code null} if the
+	 * results can't be resolved that way.  This is only the case when every
+	 * result is either a basic value or an entity which may be read from the
+	 * second-level cache, and which has no join fetches.
+	 */
+	private static BitSet resolveShallowPositions(JdbcValuesMapping valuesMapping) {
+		final BitSet positions = new BitSet( valuesMapping.getRowSize() );
+		boolean hasEntityResult = false;
+		for ( DomainResult<?> domainResult : valuesMapping.getDomainResults() ) {
+			if ( domainResult instanceof BasicResult<?> ) {
+				if ( !addPosition( ( (BasicResult<?>) domainResult ).getValuesArrayPosition(), positions ) ) {
+					return null;
+				}
+			}
+			else if ( domainResult instanceof EntityResult
+					&& domainResult instanceof AbstractEntityResultGraphNode ) {
+				if ( !addShallowEntityPositions( (AbstractEntityResultGraphNode) domainResult, positions ) ) {
+					return null;
+				}
+				hasEntityResult = true;
+			}
+			else {
+				return null;
+			}
+		}
+		return hasEntityResult ? positions : null;
+	}
+
+	private static boolean addShallowEntityPositions(AbstractEntityResultGraphNode entityResult, BitSet positions) {
+		final EntityPersister persister = entityResult.getEntityValuedModelPart()
+				.getEntityMappingType()
+				.getEntityPersister();
+		if ( !persister.canReadFromCache()
+				|| entityResult.hasJoinFetches()
+				|| entityResult.getRowIdResult() != null
+				|| !( entityResult.getIdentifierFetch() instanceof BasicFetch<?> ) ) {
+			return false;
+		}
+
+		if ( !addPosition( ( (BasicFetch<?>) entityResult.getIdentifierFetch() ).getValuesArrayPosition(), positions ) ) {
+			return false;
+		}
+
+		final BasicFetch<?> discriminatorFetch = entityResult.getDiscriminatorFetch();
+		if ( discriminatorFetch != null && !addPosition( discriminatorFetch.getValuesArrayPosition(), positions ) ) {
+			return false;
+		}
+
+		final EntityVersionMapping versionMapping = persister.getVersionMapping();
+		if ( versionMapping != null ) {
+			final Fetch versionFetch = entityResult.findFetch( versionMapping );
+			return versionFetch instanceof BasicFetch<?>
+					&& addPosition( ( (BasicFetch<?>) versionFetch ).getValuesArrayPosition(), positions );
+		}
+		return true;
+	}
+
+	private static boolean addPosition(int position, BitSet positions) {
+		if ( position < 0 ) {
+			return false;
+		}
+		positions.set( position );
+		return true;
+	}
 }
@@ -154,6 +154,16 @@ public class BasicFetch<T> implements Fetch, BasicResultGraphNode<T> {
 		}
 	}
 
+	/**
+	 * The position of the value in the "JDBC values array", or {@code -1}
+	 * if the value is not fetched
+	 */
+	public int getValuesArrayPosition() {
+		return assembler instanceof BasicResultAssembler
+				? ( (BasicResultAssembler<T>) assembler ).getValuesArrayPosition()
+				: -1;
+	}
+
 	@Override
 	public FetchTiming getTiming() {
 		return fetchTiming;
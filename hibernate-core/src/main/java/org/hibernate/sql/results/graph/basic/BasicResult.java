@@ -138,6 +138,13 @@ public class BasicResult<T> implements DomainResult<T>, BasicResultGraphNode<T>
 		return navigablePath;
 	}
 
+	/**
+	 * The position of the value in the "JDBC values array"
+	 */
+	public int getValuesArrayPosition() {
+		return ( (BasicResultAssembler<T>) assembler ).getValuesArrayPosition();
+	}
+
 	/**
 	 * For testing purposes only
 	 */
@@ -94,6 +94,13 @@ public class BasicResultAssembler<J> implements DomainResultAssembler<J> {
 		return assembledJavaType;
 	}
 
+	/**
+	 * The position of the value in the "JDBC values array"
+	 */
+	public int getValuesArrayPosition() {
+		return valuesArrayPosition;
+	}
+
 	/**
 	 * Exposed for testing purposes
 	 */
@@ -74,6 +74,11 @@ public class NestedRowProcessingState extends BaseExecutionContext implements Ro
 		return processingState.isQueryCacheHit();
 	}
 
+	@Override
+	public boolean isShallowQueryCacheHit() {
+		return processingState.isShallowQueryCacheHit();
+	}
+
 	@Override
 	public void finishRowProcessing() {
 		processingState.finishRowProcessing();
@@ -9,6 +9,7 @@ package org.hibernate.sql.results.graph.entity;
 import java.util.Collection;
 import java.util.function.Consumer;
 
+import org.hibernate.CacheMode;
 import org.hibernate.Hibernate;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -656,6 +657,15 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 			registerLoadingEntity( rowProcessingState, resolved );
 			return resolved;
 		}
+		else if ( isEntityReturn() && rowProcessingState.isShallowQueryCacheHit() ) {
+			// EARLY EXIT!!!
+			// only the identifier of the entity was kept by the query cache, so the entity
+			// is resolved from the second level cache or, when not cached, from the database
+			final Object loaded = loadShallowCachedEntity( entityIdentifier, rowProcessingState );
+			isInitialized = true;
+			registerReloadedEntity( rowProcessingState, loaded );
+			return loaded;
+		}
 		else {
 			// We have to query the second level cache if reference cache entries are used
 			if ( entityDescriptor.canUseReferenceCacheEntries() ) {
@@ -674,6 +684,31 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 		}
 	}
 
+	/**
+	 * Loads an entity of which the query cache only kept the identifier, with the
+	 * cache mode and read-only setting of the query, as its other entities are loaded
+	 */
+	private Object loadShallowCachedEntity(Object entityIdentifier, RowProcessingState rowProcessingState) {
+		final SharedSessionContractImplementor session = rowProcessingState.getSession();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final CacheMode cacheModeOrig = session.getCacheMode();
+		final CacheMode cacheMode = rowProcessingState.getQueryOptions().getCacheMode();
+		final boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
+		if ( cacheMode != null ) {
+			session.setCacheMode( cacheMode );
+		}
+		persistenceContext.setDefaultReadOnly( isReadOnly( rowProcessingState, session ) );
+		try {
+			return session.internalLoad( concreteDescriptor.getEntityName(), entityIdentifier, true, false );
+		}
+		finally {
+			persistenceContext.setDefaultReadOnly( defaultReadOnlyOrig );
+			if ( cacheMode != null ) {
+				session.setCacheMode( cacheModeOrig );
+			}
+		}
+	}
+
 	protected Object instantiateEntity(Object entityIdentifier, SharedSessionContractImplementor session) {
 		final Object instance = session.instantiate( concreteDescriptor, entityKey.getIdentifier() );
 		if ( EntityLoadingLogging.DEBUG_ENABLED ) {
@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.graph.Initializer;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+/**
+ * Base class for the row readers generated by a
+ * {@link org.hibernate.sql.results.spi.RowReaderCompiler}.
+ * <p>
+ * The generated subclasses implement the per-row steps as straight sequences of
+ * calls to the individual assemblers and initializers, rather than iterating over
+ * them.  Since a class is generated per {@linkplain #shapeOf shape}, each of these
+ * call sites only ever sees a single implementation, which the JIT can inline.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#COMPILED_ROW_READERS
+ */
+public abstract class CompiledRowReader<T> extends StandardRowReader<T> {
+
+	protected CompiledRowReader(
+			List<DomainResultAssembler<?>> resultAssemblers,
+			InitializersList initializers,
+			RowTransformer<T> rowTransformer,
+			Class<T> domainResultJavaType) {
+		super( resultAssemblers, initializers, rowTransformer, domainResultJavaType );
+	}
+
+	/**
+	 * The classes determining the generated code for the given assemblers and
+	 * initializers: the classes of the assemblers followed by a {@code null}
+	 * separator and the classes of the initializers.  Since the ordering of the
+	 * initializers only depends on their classes, this is enough to identify
+	 * the sequences of calls performed by the row reader.
+	 */
+	public static List<Class<?>> shapeOf(List<DomainResultAssembler<?>> resultAssemblers, InitializersList initializers) {
+		final List<Class<?>> shape = new ArrayList<>( resultAssemblers.size() + initializers.size() + 1 );
+		for ( DomainResultAssembler<?> assembler : resultAssemblers ) {
+			shape.add( assembler.getClass() );
+		}
+		shape.add( null );
+		for ( int i = 0; i < initializers.size(); i++ ) {
+			shape.add( initializers.getInitializer( i ).getClass() );
+		}
+		return shape;
+	}
+
+	/**
+	 * Calls {@link Initializer#resolveKey} on each {@link #keyResolutionInitializer initializer}
+	 */
+	@Override
+	protected abstract void resolveKeys(RowProcessingState rowProcessingState);
+
+	/**
+	 * Calls {@link Initializer#resolveInstance} on each {@link #instanceResolutionInitializer initializer}
+	 */
+	@Override
+	protected abstract void resolveInstances(RowProcessingState rowProcessingState);
+
+	/**
+	 * Calls {@link Initializer#initializeInstance} on each {@link #initializer initializer}
+	 */
+	@Override
+	protected abstract void initialize(RowProcessingState rowProcessingState);
+
+	/**
+	 * Calls {@link Initializer#finishUpRow} on each {@link #initializer initializer}
+	 */
+	@Override
+	protected abstract void finishUpRow(RowProcessingState rowProcessingState);
+
+	/**
+	 * {@linkplain #set Sets} the values produced by each {@link #assembler assembler}
+	 */
+	@Override
+	protected abstract void assemble(
+			Object[] resultRow,
+			RowProcessingState rowProcessingState,
+			JdbcValuesSourceProcessingOptions options);
+
+	protected final DomainResultAssembler<?> assembler(int index) {
+		return getResultAssemblers().get( index );
+	}
+
+	protected final Initializer initializer(int index) {
+		return getInitializersList().getInitializer( index );
+	}
+
+	protected final Initializer keyResolutionInitializer(int index) {
+		return getInitializersList().getKeyResolutionInitializer( index );
+	}
+
+	protected final Initializer instanceResolutionInitializer(int index) {
+		return getInitializersList().getInstanceResolutionInitializer( index );
+	}
+
+	protected static void set(Object[] resultRow, int index, Object value) {
+		resultRow[index] = value;
+	}
+}
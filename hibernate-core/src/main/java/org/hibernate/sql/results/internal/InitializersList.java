@@ -93,6 +93,22 @@ public final class InitializersList {
 		return this.hasCollectionInitializers;
 	}
 
+	public int size() {
+		return initializers.length;
+	}
+
+	Initializer getInitializer(final int index) {
+		return initializers[index];
+	}
+
+	Initializer getKeyResolutionInitializer(final int index) {
+		return sortedNonCollectionsFirst[index];
+	}
+
+	Initializer getInstanceResolutionInitializer(final int index) {
+		return sortedForResolveInstance[index];
+	}
+
 	static class Builder {
 		private ArrayList<Initializer> initializers = new ArrayList<>();
 		int nonCollectionInitializersNum = 0;
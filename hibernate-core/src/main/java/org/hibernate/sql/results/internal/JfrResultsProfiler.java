@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal;
+
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.results.spi.ResultsProfile;
+import org.hibernate.sql.results.spi.ResultsProfiler;
+
+/**
+ * A {@link ResultsProfiler} which commits a {@link ResultsProcessedEvent}
+ * to the Java Flight Recorder for each profiled execution of a query.
+ * <p>
+ * Selected by setting {@value org.hibernate.cfg.AvailableSettings#RESULTS_PROFILER}
+ * to {@value #SHORT_NAME}.  The events are only recorded while a recording
+ * with the event {@value ResultsProcessedEvent#NAME} enabled is running.
+ */
+public class JfrResultsProfiler implements ResultsProfiler {
+	public static final String SHORT_NAME = "jfr";
+
+	@Override
+	public void resultsProcessed(JdbcOperationQuerySelect jdbcSelect, ResultsProfile profile) {
+		final ResultsProcessedEvent event = new ResultsProcessedEvent();
+		if ( event.isEnabled() ) {
+			event.sql = profile.getSql();
+			event.executionTime = profile.getExecutionTime();
+			event.nextTime = profile.getNextTime();
+			event.extractionTime = profile.getExtractionTime();
+			event.resolutionTime = profile.getResolutionTime();
+			event.initializationTime = profile.getInitializationTime();
+			event.rowCount = profile.getRowCount();
+			event.entityCount = profile.getEntityCount();
+			event.commit();
+		}
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal;
+
+import java.util.List;
+
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+/**
+ * A {@link StandardRowReader} which records the time spent in each of the
+ * per-row steps in a {@link ResultsProfileImpl}.
+ * <p>
+ * The time spent {@linkplain #resolve resolving} the initializers counts as
+ * resolution time, and the remainder of the time spent reading the row, that
+ * is initializing, assembling and transforming it, as initialization time.
+ *
+ * @see org.hibernate.sql.results.spi.ResultsProfiler
+ */
+public class ProfilingRowReader<T> extends StandardRowReader<T> {
+	private final ResultsProfileImpl profile;
+
+	private long resolutionTime;
+
+	public ProfilingRowReader(
+			List<DomainResultAssembler<?>> resultAssemblers,
+			InitializersList initializers,
+			RowTransformer<T> rowTransformer,
+			Class<T> domainResultJavaType,
+			ResultsProfileImpl profile) {
+		super( resultAssemblers, initializers, rowTransformer, domainResultJavaType );
+		this.profile = profile;
+	}
+
+	@Override
+	public T readRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
+		final long start = System.nanoTime();
+		final T result = super.readRow( rowProcessingState, options );
+		profile.addInitializationTime( System.nanoTime() - start - resolutionTime );
+		return result;
+	}
+
+	@Override
+	protected void resolve(RowProcessingState rowProcessingState) {
+		final long start = System.nanoTime();
+		super.resolve( rowProcessingState );
+		resolutionTime = System.nanoTime() - start;
+		profile.addResolutionTime( resolutionTime );
+	}
+}
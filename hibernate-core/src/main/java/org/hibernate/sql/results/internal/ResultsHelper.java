@@ -14,6 +14,7 @@ import java.util.function.Supplier;
 import org.hibernate.CacheMode;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.entry.CollectionCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -43,9 +44,12 @@ import org.hibernate.sql.results.graph.instantiation.DynamicInstantiationResult;
 import org.hibernate.sql.results.jdbc.spi.JdbcValues;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.spi.RowReader;
+import org.hibernate.sql.results.spi.RowReaderCompiler;
 import org.hibernate.sql.results.spi.RowTransformer;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * @author Steve Ebersole
  */
@@ -68,6 +72,20 @@ public class ResultsHelper {
 			RowTransformer<R> rowTransformer,
 			Class<R> transformedResultJavaType,
 			JdbcValuesMapping jdbcValuesMapping) {
+		return createRowReader( executionContext, lockOptions, rowTransformer, transformedResultJavaType, jdbcValuesMapping, null );
+	}
+
+	/**
+	 * Create a row reader which records the time spent in each of the per-row
+	 * steps in the given {@link ResultsProfileImpl profile}, if any.
+	 */
+	public static <R> RowReader<R> createRowReader(
+			ExecutionContext executionContext,
+			LockOptions lockOptions,
+			RowTransformer<R> rowTransformer,
+			Class<R> transformedResultJavaType,
+			JdbcValuesMapping jdbcValuesMapping,
+			@Nullable ResultsProfileImpl resultsProfile) {
 		final SessionFactoryImplementor sessionFactory = executionContext.getSession().getFactory();
 
 		final Map<NavigablePath, Initializer> initializerMap = new LinkedHashMap<>();
@@ -142,6 +160,33 @@ public class ResultsHelper {
 
 		final InitializersList initializersList = initializersBuilder.build( initializerMap );
 
+		if ( resultsProfile != null ) {
+			return new ProfilingRowReader<>(
+					assemblers,
+					initializersList,
+					rowTransformer,
+					transformedResultJavaType,
+					resultsProfile
+			);
+		}
+
+		if ( sessionFactory.getSessionFactoryOptions().isCompiledRowReadersEnabled() ) {
+			final RowReaderCompiler rowReaderCompiler = sessionFactory.getServiceRegistry()
+					.getService( BytecodeProvider.class )
+					.getRowReaderCompiler();
+			if ( rowReaderCompiler != null ) {
+				final RowReader<R> rowReader = rowReaderCompiler.compile(
+						assemblers,
+						initializersList,
+						rowTransformer,
+						transformedResultJavaType
+				);
+				if ( rowReader != null ) {
+					return rowReader;
+				}
+			}
+		}
+
 		return new StandardRowReader<>( assemblers, initializersList, rowTransformer, transformedResultJavaType );
 	}
 
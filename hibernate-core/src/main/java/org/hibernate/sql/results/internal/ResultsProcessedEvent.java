@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The JFR event committed by the {@link JfrResultsProfiler} for each
+ * {@linkplain org.hibernate.sql.results.spi.ResultsProfile profiled}
+ * execution of a query.
+ */
+@Name( ResultsProcessedEvent.NAME )
+@Label( "Query Results Processed" )
+@Category( "Hibernate ORM" )
+@Description( "The time spent processing the results of a query, broken down into its phases" )
+@StackTrace( false )
+public class ResultsProcessedEvent extends Event {
+	public static final String NAME = "org.hibernate.orm.ResultsProcessed";
+
+	@Label( "SQL" )
+	public String sql;
+
+	@Label( "Execution Time" )
+	@Description( "The time taken by the JDBC driver to execute the query" )
+	@Timespan( Timespan.NANOSECONDS )
+	public long executionTime;
+
+	@Label( "Next Time" )
+	@Description( "The time spent in ResultSet.next()" )
+	@Timespan( Timespan.NANOSECONDS )
+	public long nextTime;
+
+	@Label( "Extraction Time" )
+	@Description( "The time spent extracting the values of the rows from the ResultSet" )
+	@Timespan( Timespan.NANOSECONDS )
+	public long extractionTime;
+
+	@Label( "Resolution Time" )
+	@Description( "The time spent resolving the keys and the instances of the rows" )
+	@Timespan( Timespan.NANOSECONDS )
+	public long resolutionTime;
+
+	@Label( "Initialization Time" )
+	@Description( "The time spent initializing the instances, and assembling the results" )
+	@Timespan( Timespan.NANOSECONDS )
+	public long initializationTime;
+
+	@Label( "Rows" )
+	public long rowCount;
+
+	@Label( "Entities" )
+	@Description( "The number of entity instances loaded from the rows" )
+	public long entityCount;
+}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.internal;
+
+import org.hibernate.sql.results.spi.ResultsProfile;
+
+/**
+ * The mutable {@link ResultsProfile} accumulated while the results of a
+ * query are processed.  Not thread-safe, since the results of a query
+ * are always processed by a single thread.
+ */
+public class ResultsProfileImpl implements ResultsProfile {
+	private final String sql;
+
+	private long executionTime;
+	private long nextTime;
+	private long extractionTime;
+	private long resolutionTime;
+	private long initializationTime;
+	private long rowCount;
+	private long entityCount;
+
+	public ResultsProfileImpl(String sql) {
+		this.sql = sql;
+	}
+
+	public void addExecutionTime(long nanoseconds) {
+		executionTime += nanoseconds;
+	}
+
+	public void addNextTime(long nanoseconds) {
+		nextTime += nanoseconds;
+	}
+
+	public void addRow(long extractionNanoseconds) {
+		extractionTime += extractionNanoseconds;
+		rowCount++;
+	}
+
+	public void addResolutionTime(long nanoseconds) {
+		resolutionTime += nanoseconds;
+	}
+
+	public void addInitializationTime(long nanoseconds) {
+		initializationTime += nanoseconds;
+	}
+
+	public void addEntities(long count) {
+		entityCount += count;
+	}
+
+	@Override
+	public String getSql() {
+		return sql;
+	}
+
+	@Override
+	public long getExecutionTime() {
+		return executionTime;
+	}
+
+	@Override
+	public long getNextTime() {
+		return nextTime;
+	}
+
+	@Override
+	public long getExtractionTime() {
+		return extractionTime;
+	}
+
+	@Override
+	public long getResolutionTime() {
+		return resolutionTime;
+	}
+
+	@Override
+	public long getInitializationTime() {
+		return initializationTime;
+	}
+
+	@Override
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	@Override
+	public long getEntityCount() {
+		return entityCount;
+	}
+
+	@Override
+	public String toString() {
+		return "ResultsProfile"
+				+ "[sql=" + sql
+				+ ",executionTime=" + executionTime
+				+ ",nextTime=" + nextTime
+				+ ",extractionTime=" + extractionTime
+				+ ",resolutionTime=" + resolutionTime
+				+ ",initializationTime=" + initializationTime
+				+ ",rowCount=" + rowCount
+				+ ",entityCount=" + entityCount
+				+ ']';
+	}
+}
@@ -128,6 +128,11 @@ public class RowProcessingStateStandardImpl extends BaseExecutionContext impleme
 		return jdbcValues instanceof JdbcValuesCacheHit;
 	}
 
+	@Override
+	public boolean isShallowQueryCacheHit() {
+		return jdbcValues instanceof JdbcValuesCacheHit && ( (JdbcValuesCacheHit) jdbcValues ).isShallow();
+	}
+
 	@Override
 	public void finishRowProcessing() {
 		jdbcValues.finishRowProcessing( this );
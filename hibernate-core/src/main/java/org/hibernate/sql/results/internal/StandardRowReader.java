@@ -84,30 +84,65 @@ public class StandardRowReader<T> implements RowReader<T> {
 	public T readRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
 		LoadingLogger.LOGGER.trace( "StandardRowReader#readRow" );
 
-		coordinateInitializers( rowProcessingState );
+		resolve( rowProcessingState );
+		initialize( rowProcessingState );
 
 		final Object[] resultRow = new Object[ assemblerCount ];
+		assemble( resultRow, rowProcessingState, options );
 
+		afterRow( rowProcessingState );
+
+		return rowTransformer.transformRow( resultRow );
+	}
+
+	/**
+	 * Resolves the keys, and then the instances, of the initializers
+	 */
+	protected void resolve(RowProcessingState rowProcessingState) {
+		resolveKeys( rowProcessingState );
+		resolveInstances( rowProcessingState );
+	}
+
+	protected void resolveKeys(RowProcessingState rowProcessingState) {
+		initializers.resolveKeys( rowProcessingState );
+	}
+
+	protected void resolveInstances(RowProcessingState rowProcessingState) {
+		initializers.resolveInstances( rowProcessingState );
+	}
+
+	/**
+	 * Initializes the instances resolved by the initializers
+	 */
+	protected void initialize(RowProcessingState rowProcessingState) {
+		initializers.initializeInstance( rowProcessingState );
+	}
+
+	/**
+	 * Sets the value produced by each top-level assembler in the result row
+	 */
+	protected void assemble(
+			Object[] resultRow,
+			RowProcessingState rowProcessingState,
+			JdbcValuesSourceProcessingOptions options) {
 		for ( int i = 0; i < assemblerCount; i++ ) {
 			final DomainResultAssembler assembler = resultAssemblers.get( i );
 			LoadingLogger.LOGGER.debugf( "Calling top-level assembler (%s / %s) : %s", i, assemblerCount, assembler );
 			resultRow[i] = assembler.assemble( rowProcessingState, options );
 		}
-
-		afterRow( rowProcessingState );
-
-		return rowTransformer.transformRow( resultRow );
 	}
 
-	private void afterRow(RowProcessingState rowProcessingState) {
+	protected void afterRow(RowProcessingState rowProcessingState) {
 		LoadingLogger.LOGGER.trace( "StandardRowReader#afterRow" );
+		finishUpRow( rowProcessingState );
+	}
+
+	protected void finishUpRow(RowProcessingState rowProcessingState) {
 		initializers.finishUpRow( rowProcessingState );
 	}
 
-	private void coordinateInitializers(RowProcessingState rowProcessingState) {
-		initializers.resolveKeys( rowProcessingState );
-		initializers.resolveInstances( rowProcessingState );
-		initializers.initializeInstance( rowProcessingState );
+	List<DomainResultAssembler<?>> getResultAssemblers() {
+		return resultAssemblers;
 	}
 
 	@Override
@@ -30,6 +30,7 @@ import org.hibernate.sql.exec.spi.JdbcLockStrategy;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * @author Steve Ebersole
@@ -44,6 +45,7 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 	private final ExecutionContext executionContext;
 	private final Function<String, PreparedStatement> statementCreator;
 	private final SqlStatementLogger sqlStatementLogger;
+	private final String normalizedSql;
 	private final String finalSql;
 	private final Limit limit;
 	private final LimitHandler limitHandler;
@@ -51,6 +53,8 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 
 	private PreparedStatement preparedStatement;
 	private ResultSet resultSet;
+	private long executeStartNanos;
+	private long executeEndNanos;
 
 	public DeferredResultSetAccess(
 			JdbcOperationQuerySelect jdbcSelect,
@@ -66,7 +70,8 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 
 		final QueryOptions queryOptions = executionContext.getQueryOptions();
 		if ( queryOptions == null ) {
-			finalSql = jdbcSelect.getSqlString();
+			normalizedSql = jdbcSelect.getSqlString();
+			finalSql = normalizedSql;
 			limit = null;
 			limitHandler = NoopLimitHandler.NO_LIMIT;
 			usesFollowOnLocking = false;
@@ -123,6 +128,7 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 			else {
 				usesFollowOnLocking = false;
 			}
+			normalizedSql = sql;
 			finalSql = dialect.addSqlHintOrComment(
 					sql,
 					queryOptions,
@@ -174,10 +180,39 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		return finalSql;
 	}
 
+	/**
+	 * The SQL executed, before any query hint or comment was added to it,
+	 * by which the {@linkplain org.hibernate.stat.StatementStatistics
+	 * statement statistics} are keyed.
+	 */
+	public String getNormalizedSql() {
+		return normalizedSql;
+	}
+
 	public boolean usesFollowOnLocking() {
 		return usesFollowOnLocking;
 	}
 
+	/**
+	 * The {@linkplain System#nanoTime() time} at which the execution of the
+	 * query completed, or {@code 0} if the query was not executed, or if
+	 * neither the collection of statement statistics nor the profiling of
+	 * results is enabled.
+	 */
+	public long getExecuteEndNanos() {
+		return executeEndNanos;
+	}
+
+	/**
+	 * The time taken to execute the query in nanoseconds, or {@code 0} if the
+	 * query was not executed, or if the execution was not timed.
+	 *
+	 * @see #getExecuteEndNanos()
+	 */
+	public long getExecutionNanos() {
+		return executeEndNanos == 0 ? 0 : executeEndNanos - executeStartNanos;
+	}
+
 	protected void bindParameters(PreparedStatement preparedStatement) throws SQLException {
 		final QueryOptions queryOptions = executionContext.getQueryOptions();
 
@@ -223,15 +258,21 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		try {
 			LOG.tracef( "Executing query to retrieve ResultSet : %s", finalSql );
 			// prepare the query
+			final StatisticsImplementor statistics = getFactory().getStatistics();
+			final long prepareStartNanos = statistics.isStatementStatisticsEnabled() ? System.nanoTime() : 0;
 			preparedStatement = statementCreator.apply( finalSql );
+			if ( prepareStartNanos != 0 ) {
+				statistics.statementPrepared( normalizedSql, System.nanoTime() - prepareStartNanos );
+			}
 
 			bindParameters( preparedStatement );
 
 			final SessionEventListenerManager eventListenerManager = executionContext.getSession()
 					.getEventListenerManager();
 
-			long executeStartNanos = 0;
-			if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
+			final boolean timed = statistics.isStatementStatisticsEnabled()
+					|| getFactory().getSessionFactoryOptions().getResultsProfiler() != null;
+			if ( this.sqlStatementLogger.getLogSlowQuery() > 0 || timed ) {
 				executeStartNanos = System.nanoTime();
 			}
 			try {
@@ -241,6 +282,12 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 			finally {
 				eventListenerManager.jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( preparedStatement, executeStartNanos );
+				if ( executeStartNanos != 0 && timed ) {
+					executeEndNanos = System.nanoTime();
+					if ( statistics.isStatementStatisticsEnabled() ) {
+						statistics.statementExecuted( normalizedSql, executeEndNanos - executeStartNanos );
+					}
+				}
 			}
 
 			skipRows( resultSet );
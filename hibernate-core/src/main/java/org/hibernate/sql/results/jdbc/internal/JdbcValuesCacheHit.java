@@ -6,11 +6,24 @@
  */
 package org.hibernate.sql.results.jdbc.internal;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.hibernate.CacheMode;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.results.ResultsLogger;
+import org.hibernate.sql.results.caching.internal.ColumnarQueryResults;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.basic.BasicFetch;
+import org.hibernate.sql.results.graph.entity.AbstractEntityResultGraphNode;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
@@ -26,16 +39,35 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	private Object[][] cachedData;
 	private final int numberOfRows;
 	private final JdbcValuesMapping resolvedMapping;
+	private final boolean shallow;
 	private int position = -1;
 
 	public JdbcValuesCacheHit(Object[][] cachedData, JdbcValuesMapping resolvedMapping) {
+		this( cachedData, resolvedMapping, false );
+	}
+
+	public JdbcValuesCacheHit(List<?> cachedResults, JdbcValuesMapping resolvedMapping) {
+		this( extractData( cachedResults ), resolvedMapping, isShallow( cachedResults ) );
+	}
+
+	private JdbcValuesCacheHit(Object[][] cachedData, JdbcValuesMapping resolvedMapping, boolean shallow) {
 		this.cachedData = cachedData;
 		this.numberOfRows = cachedData.length;
 		this.resolvedMapping = resolvedMapping;
+		this.shallow = shallow;
 	}
 
-	public JdbcValuesCacheHit(List<?> cachedResults, JdbcValuesMapping resolvedMapping) {
-		this( extractData( cachedResults ), resolvedMapping );
+	private static ColumnarQueryResults extractColumnarResults(List<?> cachedResults) {
+		if ( CollectionHelper.isEmpty( cachedResults ) ) {
+			return null;
+		}
+		final Object last = cachedResults.get( cachedResults.size() - 1 );
+		return last instanceof ColumnarQueryResults ? (ColumnarQueryResults) last : null;
+	}
+
+	private static boolean isShallow(List<?> cachedResults) {
+		final ColumnarQueryResults columnarResults = extractColumnarResults( cachedResults );
+		return columnarResults != null && columnarResults.isShallow();
 	}
 
 	private static Object[][] extractData(List<?> cachedResults) {
@@ -43,6 +75,11 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 			return NO_DATA;
 		}
 
+		final ColumnarQueryResults columnarResults = extractColumnarResults( cachedResults );
+		if ( columnarResults != null ) {
+			return columnarResults.toRows();
+		}
+
 		final Object[][] data;
 		if ( cachedResults.get( 0 ) instanceof JdbcValuesMetadata ) {
 			final int end = cachedResults.size() - 1;
@@ -63,6 +100,76 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		return data;
 	}
 
+	/**
+	 * Whether the cached results only kept the identifier of the entity results
+	 *
+	 * @see org.hibernate.cache.spi.QueryCacheLayout#SHALLOW
+	 */
+	public boolean isShallow() {
+		return shallow;
+	}
+
+	/**
+	 * Load the entities of which only the identifier was kept by {@linkplain #isShallow() shallow}
+	 * cached results all at once, through the second-level cache, so that each row does not need
+	 * to load its entity separately.  The entities are loaded with the cache mode and read-only
+	 * setting of the query.
+	 */
+	public void loadShallowEntities(SharedSessionContractImplementor session, QueryOptions queryOptions) {
+		if ( !shallow || numberOfRows == 0 || !session.isEventSource() ) {
+			return;
+		}
+		final CacheMode cacheMode = queryOptions.getCacheMode() == null
+				? session.getCacheMode()
+				: queryOptions.getCacheMode();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final boolean defaultReadOnlyOrig = persistenceContext.isDefaultReadOnly();
+		final Boolean readOnly = queryOptions.isReadOnly();
+		if ( readOnly != null ) {
+			persistenceContext.setDefaultReadOnly( readOnly );
+		}
+		try {
+			for ( DomainResult<?> domainResult : resolvedMapping.getDomainResults() ) {
+				if ( domainResult instanceof AbstractEntityResultGraphNode ) {
+					loadShallowEntities( (AbstractEntityResultGraphNode) domainResult, cacheMode, session );
+				}
+			}
+		}
+		finally {
+			if ( readOnly != null ) {
+				persistenceContext.setDefaultReadOnly( defaultReadOnlyOrig );
+			}
+		}
+	}
+
+	private void loadShallowEntities(
+			AbstractEntityResultGraphNode entityResult,
+			CacheMode cacheMode,
+			SharedSessionContractImplementor session) {
+		final EntityPersister persister = entityResult.getEntityValuedModelPart()
+				.getEntityMappingType()
+				.getEntityPersister();
+		final EntityIdentifierMapping identifierMapping = persister.getIdentifierMapping();
+		if ( identifierMapping instanceof BasicEntityIdentifierMapping
+				&& ( (BasicEntityIdentifierMapping) identifierMapping ).getJdbcMapping().getValueConverter() == null
+				&& entityResult.getIdentifierFetch() instanceof BasicFetch<?> ) {
+			final int position = ( (BasicFetch<?>) entityResult.getIdentifierFetch() ).getValuesArrayPosition();
+			final Set<Object> ids = new LinkedHashSet<>();
+			for ( Object[] row : cachedData ) {
+				if ( row[position] != null ) {
+					ids.add( row[position] );
+				}
+			}
+			if ( !ids.isEmpty() ) {
+				session.asEventSource()
+						.byMultipleIds( persister.getEntityName() )
+						.with( cacheMode )
+						.enableSessionCheck( true )
+						.multiLoad( new ArrayList<>( ids ) );
+			}
+		}
+	}
+
 	@Override
 	protected boolean processNext(RowProcessingState rowProcessingState) {
 		ResultsLogger.RESULTS_MESSAGE_LOGGER.tracef(
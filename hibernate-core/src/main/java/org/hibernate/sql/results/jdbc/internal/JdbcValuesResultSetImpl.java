@@ -22,10 +22,13 @@ import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.results.caching.QueryCachePutManager;
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerDisabledImpl;
 import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImpl;
+import org.hibernate.sql.results.internal.ResultsProfileImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * {@link AbstractJdbcValues} implementation for a JDBC {@link ResultSet} as the source
  *
@@ -43,6 +46,8 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final BitSet initializedIndexes;
 	private final Object[] currentRowJdbcValues;
 
+	private @Nullable ResultsProfileImpl resultsProfile;
+
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
 			QueryKey queryCacheKey,
@@ -56,6 +61,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 				queryOptions,
 				queryCacheKey,
 				queryIdentifier,
+				valuesMapping,
 				metadataForCache
 		);
 		this.resultSetAccess = resultSetAccess;
@@ -68,6 +74,15 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		this.currentRowJdbcValues = new Object[ valuesMapping.getRowSize() ];
 	}
 
+	/**
+	 * Record the time spent in {@link ResultSet#next()} and extracting the values
+	 * of each row read by {@link #next} in the given profile.  Rows read by other
+	 * means of positioning the {@code ResultSet} are not profiled.
+	 */
+	public void profile(ResultsProfileImpl resultsProfile) {
+		this.resultsProfile = resultsProfile;
+	}
+
 	/**
 	 * Determine the selections which are eager i.e. safe to always extract.
 	 * If a virtual selection exists, we must extract the value for that JDBC position lazily.
@@ -111,6 +126,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 			QueryOptions queryOptions,
 			QueryKey queryCacheKey,
 			String queryIdentifier,
+			JdbcValuesMapping valuesMapping,
 			JdbcValuesMetadata metadataForCache) {
 		if ( queryCacheKey != null ) {
 			final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
@@ -121,7 +137,9 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 					factory.getStatistics(),
 					queryCacheKey,
 					queryIdentifier,
-					metadataForCache
+					metadataForCache,
+					factory.getSessionFactoryOptions().getQueryCacheLayout(),
+					valuesMapping
 			);
 		}
 		else {
@@ -131,7 +149,26 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	protected final boolean processNext(RowProcessingState rowProcessingState) {
-		return advance( advanceNext() );
+		if ( resultsProfile == null ) {
+			return advance( advanceNext() );
+		}
+		else {
+			return profiledAdvanceNext( resultsProfile );
+		}
+	}
+
+	private boolean profiledAdvanceNext(ResultsProfileImpl resultsProfile) {
+		final long start = System.nanoTime();
+		final boolean hasResult = advanceNext();
+		final long advanced = System.nanoTime();
+		resultsProfile.addNextTime( advanced - start );
+		if ( !hasResult ) {
+			return false;
+		}
+
+		readCurrentRowValues();
+		resultsProfile.addRow( System.nanoTime() - advanced );
+		return true;
 	}
 
 	@Override
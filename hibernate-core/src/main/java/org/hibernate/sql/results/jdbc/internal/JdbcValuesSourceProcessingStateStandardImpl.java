@@ -7,6 +7,7 @@
 package org.hibernate.sql.results.jdbc.internal;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +46,12 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 	private Map<CollectionKey, LoadingCollectionEntry> loadingCollectionMap;
 	private List<CollectionInitializer> arrayInitializers;
 
+	private int loadingEntityCount;
+
+	// only tracked on request, see #trackLoadedEntities
+	private boolean trackLoadedEntities;
+	private List<Object> loadedEntities;
+
 	private final PreLoadEvent preLoadEvent;
 	private final PostLoadEvent postLoadEvent;
 
@@ -99,6 +106,15 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 		}
 		executionContext.registerLoadingEntityEntry( entityKey, loadingEntry );
 		loadingEntityMap.put( entityKey, loadingEntry );
+		loadingEntityCount++;
+	}
+
+	/**
+	 * The number of entity instances {@linkplain #registerLoadingEntity registered
+	 * as loading} while processing the results.
+	 */
+	public int getLoadingEntityCount() {
+		return loadingEntityCount;
 	}
 
 	@Override
@@ -157,6 +173,27 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 		return executionContext.getSession();
 	}
 
+	/**
+	 * Start keeping track of the entity instances loaded from now on, which are
+	 * then obtained through {@link #drainLoadedEntities()}
+	 */
+	public void trackLoadedEntities() {
+		trackLoadedEntities = true;
+	}
+
+	/**
+	 * The entity instances loaded since the last call to this method, if
+	 * {@linkplain #trackLoadedEntities() tracked}
+	 */
+	public List<Object> drainLoadedEntities() {
+		if ( loadedEntities == null || loadedEntities.isEmpty() ) {
+			return Collections.emptyList();
+		}
+		final List<Object> drained = loadedEntities;
+		loadedEntities = null;
+		return drained;
+	}
+
 	@Override
 	public void finishUp() {
 		// now we can finalize loading collections
@@ -175,6 +212,12 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 			loadingEntityMap.forEach(
 					(entityKey, loadingEntityEntry) -> {
 						if ( loadingEntityEntry.getEntityInstance() != null ) {
+							if ( trackLoadedEntities ) {
+								if ( loadedEntities == null ) {
+									loadedEntities = new ArrayList<>();
+								}
+								loadedEntities.add( loadingEntityEntry.getEntityInstance() );
+							}
 							if ( postLoadEvent != null ) {
 								postLoadEvent.reset();
 								postLoadEvent.setEntity( loadingEntityEntry.getEntityInstance() )
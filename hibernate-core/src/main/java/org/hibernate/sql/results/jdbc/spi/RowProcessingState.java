@@ -55,6 +55,17 @@ public interface RowProcessingState extends ExecutionContext {
 
 	boolean isQueryCacheHit();
 
+	/**
+	 * Whether the current row comes from cached query results which only kept
+	 * the identifier of the entity results, the entities being resolved from
+	 * the second-level cache or the database
+	 *
+	 * @see org.hibernate.cache.spi.QueryCacheLayout#SHALLOW
+	 */
+	default boolean isShallowQueryCacheHit() {
+		return false;
+	}
+
 	/**
 	 * Callback at the end of processing the current "row"
 	 */
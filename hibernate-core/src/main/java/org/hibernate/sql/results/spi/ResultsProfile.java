@@ -0,0 +1,68 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * The breakdown of the processing of the results of a single execution
+ * of a query, as reported to a {@link ResultsProfiler}.  All times are
+ * in nanoseconds.
+ *
+ * @since 6.3
+ */
+@Incubating
+public interface ResultsProfile {
+	/**
+	 * The SQL which was sent to the database.
+	 */
+	String getSql();
+
+	/**
+	 * The time taken by the JDBC driver to execute the query, up to the
+	 * point where the {@link java.sql.ResultSet} was available.
+	 */
+	long getExecutionTime();
+
+	/**
+	 * The time spent in {@link java.sql.ResultSet#next()}, that is, mostly
+	 * fetching rows from the database.
+	 */
+	long getNextTime();
+
+	/**
+	 * The time spent extracting the JDBC values of each row from the
+	 * {@link java.sql.ResultSet}.  Values which are extracted lazily, when
+	 * they are first needed, count towards the resolution or initialization
+	 * time instead.
+	 */
+	long getExtractionTime();
+
+	/**
+	 * The time spent by the {@link org.hibernate.sql.results.graph.Initializer}s
+	 * resolving the keys of the rows, and the instances identified by those keys,
+	 * either from the persistence context or by instantiating them.
+	 */
+	long getResolutionTime();
+
+	/**
+	 * The time spent initializing the state of the resolved instances, and
+	 * assembling and transforming the results of the rows.
+	 */
+	long getInitializationTime();
+
+	/**
+	 * The number of rows read from the {@link java.sql.ResultSet}.
+	 */
+	long getRowCount();
+
+	/**
+	 * The number of entity instances which were loaded from the rows,
+	 * not counting those already present in the persistence context.
+	 */
+	long getEntityCount();
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.spi;
+
+import org.hibernate.Incubating;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+
+/**
+ * Receives a {@link ResultsProfile} for each execution of a
+ * {@link JdbcOperationQuerySelect} whose results were read from a JDBC
+ * {@link java.sql.ResultSet}, breaking down the time spent processing
+ * the results into its phases.
+ * <p>
+ * Results read from the query cache, and the results of scrollable
+ * queries, are not profiled.
+ * <p>
+ * While a profiler is registered, the standard row reader is always used,
+ * even if {@linkplain org.hibernate.cfg.AvailableSettings#COMPILED_ROW_READERS
+ * compiled row readers} are enabled.  When no profiler is registered, the
+ * processing of results is not instrumented at all.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#RESULTS_PROFILER
+ *
+ * @since 6.3
+ */
+@Incubating
+public interface ResultsProfiler {
+	/**
+	 * Called after the results of the given operation have been processed,
+	 * on the thread which processed them.
+	 *
+	 * @param jdbcSelect The executed operation
+	 * @param profile The breakdown of the processing of its results
+	 */
+	void resultsProcessed(JdbcOperationQuerySelect jdbcSelect, ResultsProfile profile);
+}
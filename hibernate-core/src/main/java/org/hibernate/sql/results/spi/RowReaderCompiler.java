@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.spi;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.internal.InitializersList;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Creates {@link RowReader} instances whose class is generated specifically
+ * for the concrete types of the assemblers and initializers they drive.
+ *
+ * @see org.hibernate.bytecode.spi.BytecodeProvider#getRowReaderCompiler()
+ * @see org.hibernate.cfg.AvailableSettings#COMPILED_ROW_READERS
+ *
+ * @since 6.3
+ */
+@Incubating
+public interface RowReaderCompiler {
+	/**
+	 * Create a row reader for the given assemblers and initializers.
+	 *
+	 * @return The row reader, or {@code null} if no specialized row reader
+	 * could be created, in which case the standard one should be used
+	 */
+	<T> @Nullable RowReader<T> compile(
+			List<DomainResultAssembler<?>> resultAssemblers,
+			InitializersList initializers,
+			RowTransformer<T> rowTransformer,
+			Class<T> domainResultJavaType);
+}
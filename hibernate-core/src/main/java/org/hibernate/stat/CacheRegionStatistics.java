@@ -73,4 +73,36 @@ public interface CacheRegionStatistics extends Serializable {
 	 * is returned instead.
 	 */
 	long getSizeInMemory();
+
+	/**
+	 * The number of elements the cache provider evicted from the region to
+	 * make room for new elements, since the region was started.
+	 * <p>
+	 * This is an optional value contingent upon the underlying cache provider
+	 * providing extended stats support via
+	 * {@link org.hibernate.cache.spi.ExtendedStatisticsSupport}.  If the provider
+	 * does not support extended stats, {@link #NO_EXTENDED_STAT_SUPPORT_RETURN}
+	 * is returned instead.
+	 *
+	 * @since 6.3
+	 */
+	default long getEvictionCount() {
+		return NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	/**
+	 * The number of elements the cache provider dropped from the region
+	 * because they expired, since the region was started.
+	 * <p>
+	 * This is an optional value contingent upon the underlying cache provider
+	 * providing extended stats support via
+	 * {@link org.hibernate.cache.spi.ExtendedStatisticsSupport}.  If the provider
+	 * does not support extended stats, {@link #NO_EXTENDED_STAT_SUPPORT_RETURN}
+	 * is returned instead.
+	 *
+	 * @since 6.3
+	 */
+	default long getExpirationCount() {
+		return NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
 }
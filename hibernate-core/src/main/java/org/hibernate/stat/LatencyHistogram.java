@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+
+/**
+ * The distribution of the time taken by some recurring operation,
+ * recorded with a precision of a few percent, which allows the tail
+ * latency of the operation to be observed, and not just its average.
+ * <p>
+ * All times are in microseconds.
+ *
+ * @see StatementStatistics
+ *
+ * @since 6.3
+ */
+@Incubating
+public interface LatencyHistogram extends Serializable {
+	/**
+	 * The number of recorded operations.
+	 */
+	long getCount();
+
+	/**
+	 * The total time taken by all the recorded operations.
+	 */
+	long getTotalTime();
+
+	/**
+	 * The time taken by the slowest recorded operation.
+	 */
+	long getMaxTime();
+
+	/**
+	 * The time within which the given percentage of the recorded
+	 * operations completed, for example, {@code 99.0} for the 99th
+	 * percentile, or {@code 50.0} for the median.
+	 *
+	 * @param percentile a number between {@code 0.0} and {@code 100.0}
+	 *
+	 * @return the time, or {@code 0} if no operation was recorded
+	 */
+	long getTimeAtPercentile(double percentile);
+}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+
+/**
+ * Statistics relating to the executions of a particular SQL statement,
+ * or of all SQL statements, broken down by the phases of the execution
+ * of the statement.
+ * <p>
+ * Collection of statement statistics is enabled if the configuration
+ * property {@value org.hibernate.cfg.AvailableSettings#STATEMENT_STATISTICS_MAX_SIZE}
+ * is set to a positive number.
+ * <p>
+ * Statements are identified by the SQL generated by Hibernate, before
+ * any {@linkplain org.hibernate.query.CommonQueryContract#setComment
+ * comment} or query hint is added to it, so that the executions of a
+ * query with different comments or hints are recorded together.
+ *
+ * @see Statistics#getStatementStatistics(String)
+ * @see Statistics#getAggregateStatementStatistics()
+ *
+ * @since 6.3
+ */
+@Incubating
+public interface StatementStatistics extends Serializable {
+	/**
+	 * The time taken to obtain a {@link java.sql.PreparedStatement}
+	 * from the JDBC driver, for queries and for the mutations of
+	 * entities and collections.
+	 */
+	LatencyHistogram getPrepareTimeHistogram();
+
+	/**
+	 * The time taken by the JDBC driver to execute the statement,
+	 * up to the point where a {@link java.sql.ResultSet} or an
+	 * update count is available.
+	 */
+	LatencyHistogram getExecutionTimeHistogram();
+
+	/**
+	 * The time taken to read the rows of the {@link java.sql.ResultSet}
+	 * of a query, and to build the query results from them, including
+	 * the hydration of the entities it returns.
+	 */
+	LatencyHistogram getFetchTimeHistogram();
+}
@@ -80,6 +80,38 @@ public interface Statistics {
 	 */
 	QueryStatistics getQueryStatistics(String queryString);
 
+	/**
+	 * Obtain the statistics for the given SQL statement.
+	 *
+	 * @param sql the SQL statement, as generated by Hibernate, without
+	 *            any query hint or comment
+	 *
+	 * @return the statistics for the given statement, or {@code null}
+	 *         if the collection of statement statistics is not enabled
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_STATISTICS_MAX_SIZE
+	 *
+	 * @since 6.3
+	 */
+	default @Nullable StatementStatistics getStatementStatistics(String sql) {
+		return null;
+	}
+
+	/**
+	 * Obtain the statistics for all SQL statements executed, including
+	 * the statements which are no longer tracked individually.
+	 *
+	 * @return the statistics for all statements, or {@code null} if the
+	 *         collection of statement statistics is not enabled
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_STATISTICS_MAX_SIZE
+	 *
+	 * @since 6.3
+	 */
+	default @Nullable StatementStatistics getAggregateStatementStatistics() {
+		return null;
+	}
+
 	/**
 	 * Obtain the second-level cache statistics for the given cache
 	 * region.
@@ -329,6 +361,19 @@ public interface Statistics {
 	 */
 	String[] getQueries();
 
+	/**
+	 * All executed SQL statements for which statistics are tracked.
+	 * <p>
+	 * The maximum number of statements tracked by the Hibernate statistics
+	 * is determined by the configuration property
+	 * {@value org.hibernate.cfg.AvailableSettings#STATEMENT_STATISTICS_MAX_SIZE}.
+	 *
+	 * @since 6.3
+	 */
+	default String[] getStatements() {
+		return new String[0];
+	}
+
 	/**
 	 * The names of all entities.
 	 */
@@ -381,4 +426,18 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of query plans evicted from cache to keep its
+	 * size under {@value org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_MAX_SIZE}.
+	 * <p>
+	 * Only counted if the caches report their evictions, which the {@code lirs}
+	 * caches selected by {@value org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_FACTORY}
+	 * don't, in which case this is always {@code 0}.
+	 *
+	 * @since 6.3
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		return 0;
+	}
 }
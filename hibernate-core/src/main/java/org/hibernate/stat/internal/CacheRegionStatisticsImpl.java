@@ -73,6 +73,22 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Seriali
 		return NO_EXTENDED_STAT_SUPPORT_RETURN;
 	}
 
+	@Override
+	public long getEvictionCount() {
+		if ( region instanceof ExtendedStatisticsSupport ) {
+			return ( (ExtendedStatisticsSupport) region ).getEvictionCount();
+		}
+		return NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
+	@Override
+	public long getExpirationCount() {
+		if ( region instanceof ExtendedStatisticsSupport ) {
+			return ( (ExtendedStatisticsSupport) region ).getExpirationCount();
+		}
+		return NO_EXTENDED_STAT_SUPPORT_RETURN;
+	}
+
 	void incrementHitCount() {
 		hitCount.increment();
 	}
@@ -95,6 +111,8 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, Seriali
 				.append( ",elementCountInMemory=" ).append( this.getElementCountInMemory() )
 				.append( ",elementCountOnDisk=" ).append( this.getElementCountOnDisk() )
 				.append( ",sizeInMemory=" ).append( this.getSizeInMemory() )
+				.append( ",evictionCount=" ).append( this.getEvictionCount() )
+				.append( ",expirationCount=" ).append( this.getExpirationCount() )
 				.append( ']' );
 		return buf.toString();
 	}
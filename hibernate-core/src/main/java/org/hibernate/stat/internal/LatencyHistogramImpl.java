@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.LatencyHistogram;
+
+/**
+ * A lock-free {@link LatencyHistogram} with log-linear buckets, in the manner
+ * of an HDR histogram: each power of two is divided into sixteen
+ * buckets of equal width, so that the relative error of a reported time is
+ * at most one part in sixteen.
+ * <p>
+ * Times longer than 2<sup>36</sup> microseconds, that is, about nineteen
+ * hours, are recorded as that time.
+ */
+public class LatencyHistogramImpl implements LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_MAGNITUDE = 36;
+	private static final long MAX_TRACKABLE_TIME = ( 1L << MAX_MAGNITUDE ) - 1;
+	private static final int BUCKET_COUNT = ( MAX_MAGNITUDE - SUB_BUCKET_BITS + 1 ) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray( BUCKET_COUNT );
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalTime = new LongAdder();
+	private final AtomicLong maxTime = new AtomicLong();
+
+	/**
+	 * Record an operation which took the given time in microseconds
+	 */
+	void record(long time) {
+		final long value = Math.min( Math.max( time, 0L ), MAX_TRACKABLE_TIME );
+		counts.incrementAndGet( bucketIndex( value ) );
+		count.increment();
+		totalTime.add( value );
+		for ( long old = maxTime.get(); value > old && !maxTime.compareAndSet( old, value ); old = maxTime.get() ) {
+			// nothing to do here given the odd loop structure...
+		}
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public long getTotalTime() {
+		return totalTime.sum();
+	}
+
+	@Override
+	public long getMaxTime() {
+		return maxTime.get();
+	}
+
+	@Override
+	public long getTimeAtPercentile(double percentile) {
+		// take a snapshot, so that the counts we iterate add up to the total
+		final long[] snapshot = new long[BUCKET_COUNT];
+		long total = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			snapshot[i] = counts.get( i );
+			total += snapshot[i];
+		}
+		if ( total == 0 ) {
+			return 0;
+		}
+
+		final double fraction = Math.min( Math.max( percentile, 0.0 ), 100.0 ) / 100.0;
+		final long target = Math.max( 1L, (long) Math.ceil( fraction * total ) );
+		long cumulative = 0;
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			cumulative += snapshot[i];
+			if ( cumulative >= target ) {
+				return Math.min( highestValueInBucket( i ), maxTime.get() );
+			}
+		}
+		return maxTime.get();
+	}
+
+	private static int bucketIndex(long value) {
+		if ( value < SUB_BUCKET_COUNT ) {
+			return (int) value;
+		}
+		final int magnitude = 63 - Long.numberOfLeadingZeros( value );
+		final int shift = magnitude - SUB_BUCKET_BITS;
+		final int subBucket = (int) ( value >>> shift ) & ( SUB_BUCKET_COUNT - 1 );
+		return ( shift + 1 ) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	private static long lowestValueInBucket(int index) {
+		if ( index < SUB_BUCKET_COUNT ) {
+			return index;
+		}
+		final int shift = index / SUB_BUCKET_COUNT - 1;
+		final long subBucket = index % SUB_BUCKET_COUNT;
+		return ( SUB_BUCKET_COUNT + subBucket ) << shift;
+	}
+
+	private static long highestValueInBucket(int index) {
+		return index == BUCKET_COUNT - 1
+				? MAX_TRACKABLE_TIME
+				: lowestValueInBucket( index + 1 ) - 1;
+	}
+
+	@Override
+	public String toString() {
+		return "LatencyHistogram"
+				+ "[count=" + getCount()
+				+ ",totalTime=" + getTotalTime()
+				+ ",maxTime=" + getMaxTime()
+				+ ",p50=" + getTimeAtPercentile( 50.0 )
+				+ ",p99=" + getTimeAtPercentile( 99.0 )
+				+ ']';
+	}
+}
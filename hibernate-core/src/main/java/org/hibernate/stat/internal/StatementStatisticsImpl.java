@@ -0,0 +1,67 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.stat.StatementStatistics;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Statement statistics, keyed by the SQL as generated by Hibernate, that is,
+ * before it is processed by any {@link org.hibernate.resource.jdbc.spi.StatementInspector}.
+ * The statistics for all statements have no SQL.
+ */
+public class StatementStatisticsImpl implements StatementStatistics {
+	private final @Nullable String sql;
+
+	private final LatencyHistogramImpl prepareTimeHistogram = new LatencyHistogramImpl();
+	private final LatencyHistogramImpl executionTimeHistogram = new LatencyHistogramImpl();
+	private final LatencyHistogramImpl fetchTimeHistogram = new LatencyHistogramImpl();
+
+	public StatementStatisticsImpl(@Nullable String sql) {
+		this.sql = sql;
+	}
+
+	@Override
+	public LatencyHistogramImpl getPrepareTimeHistogram() {
+		return prepareTimeHistogram;
+	}
+
+	@Override
+	public LatencyHistogramImpl getExecutionTimeHistogram() {
+		return executionTimeHistogram;
+	}
+
+	@Override
+	public LatencyHistogramImpl getFetchTimeHistogram() {
+		return fetchTimeHistogram;
+	}
+
+	void prepared(long nanoseconds) {
+		prepareTimeHistogram.record( TimeUnit.NANOSECONDS.toMicros( nanoseconds ) );
+	}
+
+	void executed(long nanoseconds) {
+		executionTimeHistogram.record( TimeUnit.NANOSECONDS.toMicros( nanoseconds ) );
+	}
+
+	void fetched(long nanoseconds) {
+		fetchTimeHistogram.record( TimeUnit.NANOSECONDS.toMicros( nanoseconds ) );
+	}
+
+	@Override
+	public String toString() {
+		return "StatementStatistics"
+				+ "[sql=" + sql
+				+ ",prepareTime=" + prepareTimeHistogram
+				+ ",executionTime=" + executionTimeHistogram
+				+ ",fetchTime=" + fetchTimeHistogram
+				+ ']';
+	}
+}
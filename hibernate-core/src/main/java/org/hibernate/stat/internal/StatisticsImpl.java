@@ -96,6 +96,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -115,6 +116,12 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	 */
 	private final StatsNamedContainer<QueryStatisticsImpl> queryStatsMap;
 
+	/**
+	 * Keyed by SQL, or {@code null} if statement statistics are disabled
+	 */
+	private final @Nullable StatsNamedContainer<StatementStatisticsImpl> statementStatsMap;
+	private volatile @Nullable StatementStatisticsImpl aggregateStatementStats;
+
 	/**
 	 * Keyed by region name
 	 */
@@ -127,6 +134,15 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				sessionFactoryOptions.getQueryStatisticsMaxSize(),
 				20
 		);
+		final int statementStatisticsMaxSize = sessionFactoryOptions.getStatementStatisticsMaxSize();
+		if ( statementStatisticsMaxSize > 0 ) {
+			this.statementStatsMap = new StatsNamedContainer<>( statementStatisticsMaxSize, 20 );
+			this.aggregateStatementStats = new StatementStatisticsImpl( null );
+		}
+		else {
+			this.statementStatsMap = null;
+			this.aggregateStatementStats = null;
+		}
 		resetStart();
 		metamodel = sessionFactory.getRuntimeMetamodels().getMappingMetamodel();
 		cache = sessionFactory.getCache();
@@ -199,9 +215,14 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		naturalIdQueryStatsMap.clear();
 		l2CacheStatsMap.clear();
 		queryStatsMap.clear();
+		if ( statementStatsMap != null ) {
+			statementStatsMap.clear();
+			aggregateStatementStats = new StatementStatisticsImpl( null );
+		}
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
 
 		resetStart();
 	}
@@ -665,6 +686,56 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		);
 	}
 
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Statement statistics
+
+	@Override
+	public String[] getStatements() {
+		return statementStatsMap == null ? new String[0] : statementStatsMap.keysAsArray();
+	}
+
+	@Override
+	public @Nullable StatementStatisticsImpl getStatementStatistics(String sql) {
+		return statementStatsMap == null ? null : statementStatsMap.getOrCompute( sql, StatementStatisticsImpl::new );
+	}
+
+	@Override
+	public @Nullable StatementStatisticsImpl getAggregateStatementStatistics() {
+		return aggregateStatementStats;
+	}
+
+	@Override
+	public boolean isStatementStatisticsEnabled() {
+		return isStatisticsEnabled && statementStatsMap != null;
+	}
+
+	@Override
+	public void statementPrepared(String sql, long nanoseconds) {
+		final StatementStatisticsImpl aggregate = aggregateStatementStats;
+		if ( aggregate != null ) {
+			aggregate.prepared( nanoseconds );
+			NullnessUtil.castNonNull( getStatementStatistics( sql ) ).prepared( nanoseconds );
+		}
+	}
+
+	@Override
+	public void statementExecuted(String sql, long nanoseconds) {
+		final StatementStatisticsImpl aggregate = aggregateStatementStats;
+		if ( aggregate != null ) {
+			aggregate.executed( nanoseconds );
+			NullnessUtil.castNonNull( getStatementStatistics( sql ) ).executed( nanoseconds );
+		}
+	}
+
+	@Override
+	public void statementResultsFetched(String sql, long nanoseconds) {
+		final StatementStatisticsImpl aggregate = aggregateStatementStats;
+		if ( aggregate != null ) {
+			aggregate.fetched( nanoseconds );
+			NullnessUtil.castNonNull( getStatementStatistics( sql ) ).fetched( nanoseconds );
+		}
+	}
+
 	@Override
 	public long getQueryExecutionCount() {
 		return queryExecutionCount.sum();
@@ -766,6 +837,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -793,6 +869,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction() {
+		queryPlanCacheEvictionCount.increment();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return NullnessUtil.castNonNull(
 					l2CacheStatsMap.getOrCompute(
@@ -924,6 +1005,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		LOG.maxQueryTime( queryExecutionMaxTime.get() );
 		LOG.queryPlanCacheHits( queryPlanCacheHitCount.sum() );
 		LOG.queryPlanCacheMisses( queryPlanCacheMissCount.sum() );
+		LOG.queryPlanCacheEvictions( queryPlanCacheEvictionCount.sum() );
 	}
 
 	@Override
@@ -967,6 +1049,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",query plan cache evictions=" + queryPlanCacheEvictionCount +
 				']';
 	}
 
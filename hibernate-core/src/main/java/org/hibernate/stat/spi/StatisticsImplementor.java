@@ -265,6 +265,15 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating an entry was evicted from the query plan cache.
+	 *
+	 * @since 6.3
+	 */
+	default void queryPlanCacheEviction() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -274,4 +283,52 @@ public interface StatisticsImplementor extends Statistics, Service {
 	default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Is the collection of {@linkplain org.hibernate.stat.StatementStatistics
+	 * statement statistics} enabled?  The callbacks about the phases of the
+	 * execution of a statement are only called when it is.
+	 *
+	 * @since 6.3
+	 */
+	default boolean isStatementStatisticsEnabled() {
+		return false;
+	}
+
+	/**
+	 * Callback about a statement having been prepared
+	 *
+	 * @param sql The SQL statement
+	 * @param nanoseconds The time taken
+	 *
+	 * @since 6.3
+	 */
+	default void statementPrepared(String sql, long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about a statement having been executed
+	 *
+	 * @param sql The SQL statement
+	 * @param nanoseconds The time taken
+	 *
+	 * @since 6.3
+	 */
+	default void statementExecuted(String sql, long nanoseconds) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback about the results of a query statement having been fetched
+	 * and processed
+	 *
+	 * @param sql The SQL statement
+	 * @param nanoseconds The time taken
+	 *
+	 * @since 6.3
+	 */
+	default void statementResultsFetched(String sql, long nanoseconds) {
+		//For backward compatibility
+	}
 }
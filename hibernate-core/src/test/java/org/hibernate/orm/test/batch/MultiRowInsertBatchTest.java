@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.Table;
+
+import static jakarta.persistence.InheritanceType.JOINED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.BATCH_MULTI_ROW_INSERTS;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+
+/**
+ * Tests for {@link org.hibernate.cfg.AvailableSettings#BATCH_MULTI_ROW_INSERTS}
+ */
+@RequiresDialect( H2Dialect.class )
+@ServiceRegistry( settings = {
+		@Setting( name = STATEMENT_BATCH_SIZE, value = "10" ),
+		@Setting( name = BATCH_MULTI_ROW_INSERTS, value = "true" )
+} )
+@DomainModel( annotatedClasses = { MultiRowInsertBatchTest.Vehicle.class, MultiRowInsertBatchTest.Truck.class } )
+@SessionFactory( useCollectingStatementInspector = true )
+public class MultiRowInsertBatchTest {
+
+	@Test
+	public void testMultiRowInserts(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 25; i++ ) {
+				session.persist( new Vehicle( i, "vehicle " + i ) );
+			}
+		} );
+
+		// 2 full batches of 10 rows, and a last one with the remaining 5
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+		assertThat( countRows( statementInspector.getSqlQueries().get( 0 ) ) ).isEqualTo( 10 );
+		assertThat( countRows( statementInspector.getSqlQueries().get( 1 ) ) ).isEqualTo( 10 );
+		assertThat( countRows( statementInspector.getSqlQueries().get( 2 ) ) ).isEqualTo( 5 );
+
+		scope.inTransaction( (session) -> {
+			final List<Vehicle> vehicles = session.createSelectionQuery( "from Vehicle order by id", Vehicle.class )
+					.list();
+			assertThat( vehicles ).hasSize( 25 );
+			assertThat( vehicles.get( 24 ).getName() ).isEqualTo( "vehicle 25" );
+		} );
+	}
+
+	@Test
+	public void testMultiRowInsertsJoinedInheritance(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 4; i++ ) {
+				session.persist( new Truck( i, "truck " + i, i * 1000 ) );
+			}
+		} );
+
+		// one statement per table
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+		assertThat( countRows( statementInspector.getSqlQueries().get( 0 ) ) ).isEqualTo( 4 );
+		assertThat( countRows( statementInspector.getSqlQueries().get( 1 ) ) ).isEqualTo( 4 );
+
+		scope.inTransaction( (session) -> {
+			final Truck truck = session.find( Truck.class, 3 );
+			assertThat( truck.getName() ).isEqualTo( "truck 3" );
+			assertThat( truck.getPayload() ).isEqualTo( 3000 );
+		} );
+	}
+
+	private static int countRows(String sql) {
+		assertThat( sql ).startsWithIgnoringCase( "insert" );
+		return sql.split( "\\),\\(" ).length;
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Truck" ).executeUpdate();
+			session.createMutationQuery( "delete Vehicle" ).executeUpdate();
+		} );
+	}
+
+	@Entity( name = "Vehicle" )
+	@Table( name = "vehicles" )
+	@Inheritance( strategy = JOINED )
+	public static class Vehicle {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity( name = "Truck" )
+	@Table( name = "trucks" )
+	public static class Truck extends Vehicle {
+		private int payload;
+
+		public Truck() {
+		}
+
+		public Truck(Integer id, String name, int payload) {
+			super( id, name );
+			this.payload = payload;
+		}
+
+		public int getPayload() {
+			return payload;
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.StaleStateException;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.cfg.AvailableSettings.BATCH_PIPELINING;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+
+/**
+ * Tests for {@link org.hibernate.cfg.AvailableSettings#BATCH_PIPELINING}
+ */
+@ServiceRegistry( settings = {
+		@Setting( name = STATEMENT_BATCH_SIZE, value = "5" ),
+		@Setting( name = BATCH_PIPELINING, value = "true" )
+} )
+@DomainModel( annotatedClasses = PipelinedBatchTest.Item.class )
+@SessionFactory
+public class PipelinedBatchTest {
+
+	@Test
+	public void testInsertAndUpdate(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 23; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+
+		scope.inTransaction( (session) -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).list();
+			assertThat( items ).hasSize( 23 );
+			items.forEach( (item) -> item.setName( item.getName() + " (updated)" ) );
+		} );
+
+		scope.inTransaction( (session) -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).list();
+			assertThat( items ).allSatisfy( (item) -> assertThat( item.getName() ).endsWith( " (updated)" ) );
+			assertThat( items ).allSatisfy( (item) -> assertThat( item.getVersion() ).isEqualTo( 1 ) );
+		} );
+	}
+
+	@Test
+	public void testRowCountFailureIsReportedBeforeCommit(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 12; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+
+		assertThatThrownBy( () -> scope.inTransaction( (session) -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).list();
+			// the update of this row, in the first batch, will not match anything
+			session.createNativeMutationQuery( "update items set version = version + 1 where id = 2" )
+					.executeUpdate();
+			items.forEach( (item) -> item.setName( item.getName() + " (updated)" ) );
+		} ) ).satisfies( (e) -> assertThat( isOptimisticFailure( e ) ).isTrue() );
+
+		scope.inTransaction( (session) -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).list();
+			assertThat( items ).noneSatisfy( (item) -> assertThat( item.getName() ).endsWith( " (updated)" ) );
+		} );
+	}
+
+	private static boolean isOptimisticFailure(Throwable e) {
+		for ( Throwable t = e; t != null; t = t.getCause() ) {
+			if ( t instanceof StaleStateException || t instanceof OptimisticLockException ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Item" ).executeUpdate() );
+	}
+
+	@Entity( name = "Item" )
+	@Table( name = "items" )
+	public static class Item {
+		@Id
+		private Integer id;
+		@Version
+		private int version;
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public int getVersion() {
+			return version;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.metamodel.MappingMetamodel;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#BOOTSTRAP_PARALLELISM}
+ */
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.BOOTSTRAP_PARALLELISM, value = "4" ) )
+@DomainModel( annotatedClasses = {
+		ParallelBootstrapTest.Author.class,
+		ParallelBootstrapTest.Book.class,
+		ParallelBootstrapTest.Publication.class,
+		ParallelBootstrapTest.Magazine.class
+} )
+@SessionFactory
+public class ParallelBootstrapTest {
+
+	@Test
+	public void testPersistersCreatedConcurrently(SessionFactoryScope scope) {
+		final MappingMetamodel mappingMetamodel = scope.getSessionFactory().getMappingMetamodel();
+		assertThat( mappingMetamodel.getEntityDescriptor( Author.class ) ).isNotNull();
+		assertThat( mappingMetamodel.getEntityDescriptor( Magazine.class ).getSuperMappingType().getEntityName() )
+				.isEqualTo( Publication.class.getName() );
+		assertThat( mappingMetamodel.getCollectionDescriptor( Author.class.getName() + ".books" ) ).isNotNull();
+
+		scope.inTransaction( (session) -> {
+			final Author author = new Author( 1, "Gavin" );
+			final Book book = new Book( 1, "Hibernate in Action", author );
+			author.books.add( book );
+			session.persist( author );
+			session.persist( book );
+			session.persist( new Magazine( 2, "Hibernate Monthly" ) );
+		} );
+
+		scope.inTransaction( (session) -> {
+			final Author author = session.get( Author.class, 1 );
+			assertThat( author.books ).hasSize( 1 );
+			assertThat( session.createSelectionQuery( "from Publication", Publication.class ).getResultList() )
+					.hasSize( 1 );
+		} );
+	}
+
+	@Entity( name = "Author" )
+	public static class Author {
+		@Id
+		Integer id;
+		String name;
+		@OneToMany( mappedBy = "author" )
+		List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity( name = "Publication" )
+	@Inheritance( strategy = InheritanceType.JOINED )
+	public static class Publication {
+		@Id
+		Integer id;
+		String title;
+
+		public Publication() {
+		}
+
+		public Publication(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity( name = "Magazine" )
+	public static class Magazine extends Publication {
+		public Magazine() {
+		}
+
+		public Magazine(Integer id, String title) {
+			super( id, title );
+		}
+	}
+}
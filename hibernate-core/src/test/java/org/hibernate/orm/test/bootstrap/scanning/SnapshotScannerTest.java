@@ -0,0 +1,237 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.bootstrap.scanning;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.hibernate.boot.archive.scan.internal.ScanResultImpl;
+import org.hibernate.boot.archive.scan.internal.SnapshotScanner;
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
+import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
+import org.hibernate.boot.archive.scan.internal.StandardScanner;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.internal.ClassLoaderAccessImpl;
+import org.hibernate.boot.registry.classloading.internal.ClassLoaderServiceImpl;
+import org.hibernate.boot.spi.ClassLoaderAccess;
+import org.hibernate.jpa.boot.internal.ParsedPersistenceXmlDescriptor;
+import org.hibernate.jpa.boot.internal.StandardJpaScanEnvironmentImpl;
+import org.hibernate.jpa.boot.spi.PersistenceUnitDescriptor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SnapshotScanner}
+ */
+public class SnapshotScannerTest extends PackagingTestCase {
+
+	@Test
+	public void testSnapshotReused() throws Exception {
+		final File defaultPar = buildDefaultPar();
+		addPackageToClasspath( defaultPar );
+
+		final PersistenceUnitDescriptor descriptor = new ParsedPersistenceXmlDescriptor( defaultPar.toURL() );
+		final ScanEnvironment env = new StandardJpaScanEnvironmentImpl( descriptor );
+		final ScanOptions options = new StandardScanOptions( "hbm,class", descriptor.isExcludeUnlistedClasses() );
+		final Path snapshotFile = Files.createTempDirectory( "scan" ).resolve( "scan.snapshot" );
+
+		final AtomicInteger scans = new AtomicInteger();
+		final Scanner countingScanner = (environment, scanOptions, parameters) -> {
+			scans.incrementAndGet();
+			return new StandardScanner().scan( environment, scanOptions, parameters );
+		};
+		final AtomicInteger locatedResources = new AtomicInteger();
+		final ClassLoaderAccess classLoaderAccess = countingClassLoaderAccess( locatedResources );
+
+		final ScanResult scanResult = new SnapshotScanner( countingScanner, snapshotFile, classLoaderAccess )
+				.scan( env, options, StandardScanParameters.INSTANCE );
+		assertThat( scans.get() ).isEqualTo( 1 );
+		assertThat( snapshotFile ).exists();
+
+		final ScanResult snapshot = new SnapshotScanner( countingScanner, snapshotFile, classLoaderAccess )
+				.scan( env, options, StandardScanParameters.INSTANCE );
+		assertThat( scans.get() ).isEqualTo( 1 );
+		assertThat( classNames( snapshot ) ).isEqualTo( classNames( scanResult ) );
+		assertThat( snapshot.getLocatedMappingFiles() ).hasSameSizeAs( scanResult.getLocatedMappingFiles() );
+		for ( MappingFileDescriptor mappingFileDescriptor : snapshot.getLocatedMappingFiles() ) {
+			try ( InputStream stream = mappingFileDescriptor.getStreamAccess().accessInputStream() ) {
+				assertThat( stream.read() ).isNotEqualTo( -1 );
+			}
+		}
+		// the class files are located through the class loader access of the scan
+		for ( ClassDescriptor classDescriptor : snapshot.getLocatedClasses() ) {
+			try ( InputStream stream = classDescriptor.getStreamAccess().accessInputStream() ) {
+				assertThat( stream.read() ).isNotEqualTo( -1 );
+			}
+		}
+		assertThat( locatedResources.get() ).isEqualTo( snapshot.getLocatedClasses().size() );
+
+		// only the content of the archive matters, not its modification time
+		assertThat( defaultPar.setLastModified( defaultPar.lastModified() - 10_000 ) ).isTrue();
+		new SnapshotScanner( countingScanner, snapshotFile, classLoaderAccess )
+				.scan( env, options, StandardScanParameters.INSTANCE );
+		assertThat( scans.get() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testJarUrlFingerprinted() throws Exception {
+		final File defaultPar = buildDefaultPar();
+		final ScanEnvironment env = environment( new URL( "jar:" + defaultPar.toURI() + "!/" ) );
+		final Path snapshotFile = Files.createTempDirectory( "scan" ).resolve( "scan.snapshot" );
+
+		final AtomicInteger scans = new AtomicInteger();
+		final Scanner countingScanner = countingScanner( scans );
+		final ClassLoaderAccess classLoaderAccess = countingClassLoaderAccess( new AtomicInteger() );
+		final ScanOptions options = new StandardScanOptions();
+
+		new SnapshotScanner( countingScanner, snapshotFile, classLoaderAccess )
+				.scan( env, options, StandardScanParameters.INSTANCE );
+		assertThat( scans.get() ).isEqualTo( 1 );
+
+		// a copy of the archive, deployed elsewhere, matches the snapshot
+		final Path deployed = Files.createTempDirectory( "deployed" ).resolve( defaultPar.getName() );
+		Files.copy( defaultPar.toPath(), deployed );
+		assertThat( deployed.toFile().setLastModified( defaultPar.lastModified() + 10_000 ) ).isTrue();
+		final ScanEnvironment deployedEnv = environment( new URL( "jar:" + deployed.toUri() + "!/" ) );
+		new SnapshotScanner( countingScanner, snapshotFile, classLoaderAccess )
+				.scan( deployedEnv, options, StandardScanParameters.INSTANCE );
+		assertThat( scans.get() ).isEqualTo( 1 );
+
+		// the archive changed, so it is scanned again
+		try ( ZipOutputStream output = new ZipOutputStream( Files.newOutputStream( deployed ) ) ) {
+			output.putNextEntry( new ZipEntry( "META-INF/persistence.xml" ) );
+			output.write( "<persistence/>".getBytes( StandardCharsets.UTF_8 ) );
+			output.closeEntry();
+		}
+		new SnapshotScanner( countingScanner, snapshotFile, classLoaderAccess )
+				.scan( deployedEnv, options, StandardScanParameters.INSTANCE );
+		assertThat( scans.get() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testDirectoryFingerprintedByContent() throws Exception {
+		final Path built = Files.createTempDirectory( "classes" );
+		final Path classFile = Files.createDirectories( built.resolve( "org/example" ) ).resolve( "Entity.class" );
+		Files.write( classFile, new byte[] { 1, 2, 3, 4 } );
+		final Path snapshotFile = Files.createTempDirectory( "scan" ).resolve( "scan.snapshot" );
+
+		final AtomicInteger scans = new AtomicInteger();
+		final Scanner countingScanner = countingScanner( scans );
+		final ClassLoaderAccess classLoaderAccess = countingClassLoaderAccess( new AtomicInteger() );
+		final ScanOptions options = new StandardScanOptions();
+
+		new SnapshotScanner( countingScanner, snapshotFile, classLoaderAccess )
+				.scan( environment( built.toUri().toURL() ), options, StandardScanParameters.INSTANCE );
+		assertThat( scans.get() ).isEqualTo( 1 );
+
+		// a copy of the directory matches the snapshot
+		final Path deployed = Files.createTempDirectory( "deployed" );
+		final Path deployedClassFile = Files.createDirectories( deployed.resolve( "org/example" ) ).resolve( "Entity.class" );
+		Files.copy( classFile, deployedClassFile );
+		final ScanEnvironment deployedEnv = environment( deployed.toUri().toURL() );
+		new SnapshotScanner( countingScanner, snapshotFile, classLoaderAccess )
+				.scan( deployedEnv, options, StandardScanParameters.INSTANCE );
+		assertThat( scans.get() ).isEqualTo( 1 );
+
+		// a change keeping the size and the modification time is still detected
+		final long lastModified = deployedClassFile.toFile().lastModified();
+		Files.write( deployedClassFile, new byte[] { 4, 3, 2, 1 } );
+		assertThat( deployedClassFile.toFile().setLastModified( lastModified ) ).isTrue();
+		new SnapshotScanner( countingScanner, snapshotFile, classLoaderAccess )
+				.scan( deployedEnv, options, StandardScanParameters.INSTANCE );
+		assertThat( scans.get() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testSnapshotIgnoredForUnknownArchives() throws Exception {
+		final ScanEnvironment env = environment( new URL( "http://localhost/entities.jar" ) );
+		final Path snapshotFile = Files.createTempDirectory( "scan" ).resolve( "scan.snapshot" );
+
+		final AtomicInteger scans = new AtomicInteger();
+		final Scanner countingScanner = countingScanner( scans );
+		final ClassLoaderAccess classLoaderAccess = countingClassLoaderAccess( new AtomicInteger() );
+		final ScanOptions options = new StandardScanOptions();
+
+		new SnapshotScanner( countingScanner, snapshotFile, classLoaderAccess )
+				.scan( env, options, StandardScanParameters.INSTANCE );
+		assertThat( snapshotFile ).doesNotExist();
+		new SnapshotScanner( countingScanner, snapshotFile, classLoaderAccess )
+				.scan( env, options, StandardScanParameters.INSTANCE );
+		assertThat( scans.get() ).isEqualTo( 2 );
+	}
+
+	private static Scanner countingScanner(AtomicInteger scans) {
+		return (environment, scanOptions, parameters) -> {
+			scans.incrementAndGet();
+			return new ScanResultImpl( Collections.emptySet(), Collections.emptySet(), Collections.emptySet() );
+		};
+	}
+
+	private static ClassLoaderAccess countingClassLoaderAccess(AtomicInteger locatedResources) {
+		final ClassLoaderAccess delegate = new ClassLoaderAccessImpl( new ClassLoaderServiceImpl() );
+		return new ClassLoaderAccess() {
+			@Override
+			public <T> Class<T> classForName(String name) {
+				return delegate.classForName( name );
+			}
+
+			@Override
+			public URL locateResource(String resourceName) {
+				locatedResources.incrementAndGet();
+				return delegate.locateResource( resourceName );
+			}
+		};
+	}
+
+	private static ScanEnvironment environment(URL rootUrl) {
+		return new ScanEnvironment() {
+			@Override
+			public URL getRootUrl() {
+				return rootUrl;
+			}
+
+			@Override
+			public List<URL> getNonRootUrls() {
+				return Collections.emptyList();
+			}
+
+			@Override
+			public List<String> getExplicitlyListedClassNames() {
+				return Collections.emptyList();
+			}
+
+			@Override
+			public List<String> getExplicitlyListedMappingFiles() {
+				return Collections.emptyList();
+			}
+		};
+	}
+
+	private static Set<String> classNames(ScanResult scanResult) {
+		return scanResult.getLocatedClasses().stream()
+				.map( ClassDescriptor::getName )
+				.collect( Collectors.toSet() );
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.support.FrequencyAdmissionPolicy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#CACHE_ADMISSION_MIN_LOADS}
+ */
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.CACHE_ADMISSION_MIN_LOADS, value = "1" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@DomainModel( annotatedClasses = CacheAdmissionTest.Item.class )
+@SessionFactory
+public class CacheAdmissionTest {
+
+	@Test
+	public void testEntityCachedOnceLoadedTwice(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.persist( new Item( 1L, "first" ) ) );
+		scope.getSessionFactory().getCache().evictEntityData( Item.class );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inSession( (session) -> assertThat( session.find( Item.class, 1L ).name ).isEqualTo( "first" ) );
+		assertThat( statistics.getSecondLevelCachePutCount() ).isZero();
+
+		scope.inSession( (session) -> assertThat( session.find( Item.class, 1L ).name ).isEqualTo( "first" ) );
+		assertThat( statistics.getSecondLevelCachePutCount() ).isEqualTo( 1 );
+
+		scope.inSession( (session) -> assertThat( session.find( Item.class, 1L ).name ).isEqualTo( "first" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testAdmissionPolicy() {
+		final FrequencyAdmissionPolicy policy = new FrequencyAdmissionPolicy( 2, 1000 );
+		assertThat( policy.admit( "a" ) ).isFalse();
+		assertThat( policy.admit( "b" ) ).isFalse();
+		assertThat( policy.admit( "a" ) ).isFalse();
+		assertThat( policy.admit( "a" ) ).isTrue();
+		assertThat( policy.admit( "b" ) ).isFalse();
+	}
+
+	@Test
+	public void testOldLoadsFadeAway() {
+		final FrequencyAdmissionPolicy policy = new FrequencyAdmissionPolicy( 1, 20 );
+		assertThat( policy.admit( "a" ) ).isFalse();
+		for ( int i = 0; i < 100; i++ ) {
+			policy.admit( "other" + i );
+		}
+		assertThat( policy.admit( "a" ) ).isFalse();
+	}
+
+	@Entity( name = "Item" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Item {
+		@Id
+		Long id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the elements of a cached collection are resolved all at once
+ * when the collection is read from the cache.
+ */
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@DomainModel( annotatedClasses = {
+		CollectionCacheElementPreloadTest.Parent.class,
+		CollectionCacheElementPreloadTest.Child.class
+} )
+@SessionFactory
+public class CollectionCacheElementPreloadTest {
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Parent parent = new Parent( 1L );
+			session.persist( parent );
+			for ( long id = 1; id <= 4; id++ ) {
+				final Child child = new Child( id, parent );
+				parent.children.add( child );
+				session.persist( child );
+			}
+		} );
+		// put the collection into the cache
+		scope.inTransaction( (session) -> assertThat( session.find( Parent.class, 1L ).children ).hasSize( 4 ) );
+	}
+
+	@Test
+	public void testMissingElementsLoadedTogether(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictEntityData( Child.class );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( (session) -> assertThat( session.find( Parent.class, 1L ).children ).hasSize( 4 ) );
+		assertThat( statistics.getCollectionLoadCount() ).isZero();
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 4 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testCachedElementsReadTogether(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> assertThat( session.find( Parent.class, 1L ).children ).hasSize( 4 ) );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( (session) -> assertThat( session.find( Parent.class, 1L ).children ).hasSize( 4 ) );
+		assertThat( statistics.getEntityLoadCount() ).isZero();
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 6 );
+	}
+
+	@Test
+	public void testElementsReadOnlyInReadOnlySession(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictEntityData( Child.class );
+
+		scope.inTransaction( (session) -> {
+			session.setDefaultReadOnly( true );
+			final Set<Child> children = session.find( Parent.class, 1L ).children;
+			assertThat( children ).hasSize( 4 );
+			assertThat( children ).allMatch( session::isReadOnly );
+		} );
+	}
+
+	@Entity( name = "Parent" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Parent {
+		@Id
+		Long id;
+
+		@OneToMany( mappedBy = "parent" )
+		@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+		Set<Child> children = new HashSet<>();
+
+		public Parent() {
+		}
+
+		public Parent(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity( name = "Child" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Child {
+		@Id
+		Long id;
+
+		@ManyToOne
+		Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Long id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#USE_COMPACT_CACHE_ENTRIES}
+ */
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_COMPACT_CACHE_ENTRIES, value = "true" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@DomainModel( annotatedClasses = CompactCacheEntryTest.Product.class )
+@SessionFactory
+public class CompactCacheEntryTest {
+
+	@Test
+	public void testEntityIsReadFromCompactEntry(SessionFactoryScope scope) {
+		final UUID uuid = UUID.randomUUID();
+		scope.inTransaction( (session) -> {
+			final Product product = new Product();
+			product.id = 1L;
+			product.name = "Widget";
+			product.quantity = -42;
+			product.price = new BigDecimal( "19.99" );
+			product.available = true;
+			product.since = LocalDate.of( 2020, 2, 29 );
+			product.reference = uuid;
+			product.status = Status.ACTIVE;
+			product.dimensions = new Dimensions( 1.5, 2.5 );
+			session.persist( product );
+		} );
+
+		final EntityPersister persister = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Product.class );
+		scope.inSession( (session) -> {
+			final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+			final Object cacheKey = cacheAccess.generateCacheKey( 1L, persister, scope.getSessionFactory(), null );
+			assertThat( cacheAccess.get( session, cacheKey ) ).isInstanceOf( byte[].class );
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( (session) -> {
+			final Product product = session.get( Product.class, 1L );
+			assertThat( product.name ).isEqualTo( "Widget" );
+			assertThat( product.quantity ).isEqualTo( -42 );
+			assertThat( product.price ).isEqualTo( new BigDecimal( "19.99" ) );
+			assertThat( product.available ).isTrue();
+			assertThat( product.since ).isEqualTo( LocalDate.of( 2020, 2, 29 ) );
+			assertThat( product.reference ).isEqualTo( uuid );
+			assertThat( product.status ).isEqualTo( Status.ACTIVE );
+			assertThat( product.dimensions.width ).isEqualTo( 1.5 );
+			assertThat( product.dimensions.height ).isEqualTo( 2.5 );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityLoadCount() ).isZero();
+	}
+
+	@Test
+	public void testEntryOfRetypedMappingIgnored(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Product product = new Product();
+			product.id = 2L;
+			product.name = "Gadget";
+			product.quantity = 7;
+			product.dimensions = new Dimensions( 1.0, 1.0 );
+			session.persist( product );
+		} );
+
+		final EntityPersister persister = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Product.class );
+		final Object structured = scope.fromSession( (session) -> {
+			final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+			return cacheAccess.get( session, cacheAccess.generateCacheKey( 2L, persister, scope.getSessionFactory(), null ) );
+		} );
+		assertThat( persister.getCacheEntryStructure().destructure( structured, scope.getSessionFactory() ) )
+				.isNotNull();
+
+		// the same entity and attributes, but booleans are now mapped to CHAR
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, true )
+				.applySetting( AvailableSettings.USE_COMPACT_CACHE_ENTRIES, true )
+				.applySetting( AvailableSettings.PREFERRED_BOOLEAN_JDBC_TYPE, "CHAR" )
+				.build();
+		try ( SessionFactoryImplementor retypedFactory = (SessionFactoryImplementor) new MetadataSources( registry )
+				.addAnnotatedClass( Product.class )
+				.buildMetadata()
+				.buildSessionFactory() ) {
+			final EntityPersister retypedPersister = retypedFactory.getMappingMetamodel()
+					.getEntityDescriptor( Product.class );
+			assertThat( retypedPersister.getCacheEntryStructure().destructure( structured, retypedFactory ) )
+					.isNull();
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	public enum Status {
+		ACTIVE,
+		DISCONTINUED
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		double width;
+		double height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(double width, double height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+
+	@Entity( name = "Product" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Product {
+		@Id
+		Long id;
+		String name;
+		int quantity;
+		BigDecimal price;
+		boolean available;
+		LocalDate since;
+		UUID reference;
+		@Enumerated( EnumType.STRING )
+		Status status;
+		@Embedded
+		Dimensions dimensions;
+	}
+
+}
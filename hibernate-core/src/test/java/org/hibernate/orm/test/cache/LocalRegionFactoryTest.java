@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.LocalRegionFactory;
+import org.hibernate.cache.spi.support.LocalStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LocalRegionFactory}
+ */
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.CACHE_REGION_FACTORY, value = LocalRegionFactory.SHORT_NAME ),
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.CACHE_LOCAL_MAX_ENTRIES, value = "2" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@DomainModel( annotatedClasses = LocalRegionFactoryTest.Item.class )
+@SessionFactory
+public class LocalRegionFactoryTest {
+
+	@Test
+	public void testRegionBounded(SessionFactoryScope scope) {
+		assertThat( scope.getSessionFactory().getCache().getRegionFactory() ).isInstanceOf( LocalRegionFactory.class );
+
+		scope.inTransaction( (session) -> {
+			for ( long id = 1; id <= 5; id++ ) {
+				session.persist( new Item( id, "item" + id ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictEntityData( Item.class );
+
+		for ( long id = 1; id <= 5; id++ ) {
+			final long itemId = id;
+			scope.inSession( (session) -> assertThat( session.find( Item.class, itemId ).name ).isEqualTo( "item" + itemId ) );
+		}
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( Item.class.getName() );
+		assertThat( regionStatistics.getElementCountInMemory() ).isEqualTo( 2 );
+		assertThat( regionStatistics.getSizeInMemory() ).isPositive();
+		// both the inserts and the loads put five items into a region holding two
+		assertThat( regionStatistics.getEvictionCount() ).isEqualTo( 6 );
+		assertThat( regionStatistics.getExpirationCount() ).isZero();
+
+		statistics.clear();
+		scope.inSession( (session) -> session.find( Item.class, 5L ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		scope.inSession( (session) -> session.find( Item.class, 1L ) );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEvicted() {
+		final LocalStorageAccess storageAccess = new LocalStorageAccess( 4, 0 );
+		for ( int i = 0; i < 4; i++ ) {
+			storageAccess.putIntoCache( i, "value" + i, null );
+		}
+		assertThat( storageAccess.getFromCache( 0, null ) ).isEqualTo( "value0" );
+
+		storageAccess.putIntoCache( 4, "value4", null );
+		assertThat( storageAccess.getElementCountInMemory() ).isEqualTo( 4 );
+		assertThat( storageAccess.getEvictionCount() ).isEqualTo( 1 );
+		assertThat( storageAccess.contains( 0 ) ).isTrue();
+		assertThat( storageAccess.contains( 1 ) ).isFalse();
+
+		storageAccess.evictData();
+		assertThat( storageAccess.getElementCountInMemory() ).isZero();
+		assertThat( storageAccess.getSizeInMemory() ).isZero();
+	}
+
+	@Entity( name = "Item" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Item {
+		@Id
+		Long id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
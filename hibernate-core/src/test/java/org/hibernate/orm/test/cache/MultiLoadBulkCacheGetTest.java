@@ -0,0 +1,127 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.CacheMode;
+import org.hibernate.SessionEventListener;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that multi-load reads the second-level cache entries of all the ids at once
+ */
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@DomainModel( annotatedClasses = MultiLoadBulkCacheGetTest.Item.class )
+@SessionFactory
+public class MultiLoadBulkCacheGetTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 5; i++ ) {
+				session.persist( new Item( i, "item" + i ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testOrderedMultiLoad(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final AtomicInteger cacheGets = new AtomicInteger();
+		scope.inSession( (session) -> {
+			session.addEventListeners( new CacheGetCounter( cacheGets ) );
+			final List<Item> items = session.byMultipleIds( Item.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( 1, 2, 3, 4, 5 );
+			assertThat( items ).extracting( "id" ).containsExactly( 1, 2, 3, 4, 5 );
+		} );
+		assertThat( cacheGets.get() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 5 );
+		assertThat( statistics.getEntityLoadCount() ).isZero();
+	}
+
+	@Test
+	public void testUnorderedMultiLoadWithEvictedEntries(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictEntityData( Item.class, 2 );
+		scope.getSessionFactory().getCache().evictEntityData( Item.class, 4 );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inSession( (session) -> {
+			final List<Item> items = session.byMultipleIds( Item.class )
+					.with( CacheMode.NORMAL )
+					.enableOrderedReturn( false )
+					.multiLoad( 1, 2, 3, 4, 5 );
+			assertThat( items ).extracting( "id" ).containsExactlyInAnyOrder( 1, 2, 3, 4, 5 );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 3 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 2 );
+	}
+
+	private static class CacheGetCounter implements SessionEventListener {
+		private final AtomicInteger cacheGets;
+
+		private CacheGetCounter(AtomicInteger cacheGets) {
+			this.cacheGets = cacheGets;
+		}
+
+		@Override
+		public void cacheGetStart() {
+			cacheGets.incrementAndGet();
+		}
+	}
+
+	@Entity( name = "Item" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+	}
+}
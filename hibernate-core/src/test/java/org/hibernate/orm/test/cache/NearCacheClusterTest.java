@@ -0,0 +1,225 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataRegionTemplate;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.NearCacheDomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.tool.schema.Action;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@value AvailableSettings#CACHE_NEAR_CACHE_MAX_ENTRIES} with two session
+ * factories, standing for two nodes, sharing the same second-level cache.
+ */
+public class NearCacheClusterTest {
+	private static final Map<String, ConcurrentMap<Object, Object>> CLUSTER = new ConcurrentHashMap<>();
+
+	private StandardServiceRegistry firstRegistry;
+	private StandardServiceRegistry secondRegistry;
+	private SessionFactoryImplementor firstNode;
+	private SessionFactoryImplementor secondNode;
+
+	@BeforeEach
+	public void setUp() {
+		firstRegistry = buildRegistry( Action.CREATE_DROP );
+		secondRegistry = buildRegistry( Action.NONE );
+		firstNode = buildSessionFactory( firstRegistry );
+		secondNode = buildSessionFactory( secondRegistry );
+	}
+
+	@AfterEach
+	public void tearDown() {
+		if ( secondNode != null ) {
+			secondNode.close();
+		}
+		if ( firstNode != null ) {
+			firstNode.close();
+		}
+		StandardServiceRegistryBuilder.destroy( secondRegistry );
+		StandardServiceRegistryBuilder.destroy( firstRegistry );
+		CLUSTER.clear();
+	}
+
+	@Test
+	public void testNearCacheOnlyAppliedToNonstrictAndReadOnlyRegions() {
+		assertThat( storageAccess( firstNode, ReadWriteItem.class ) )
+				.isNotInstanceOf( NearCacheDomainDataStorageAccess.class );
+		assertThat( storageAccess( firstNode, NonstrictItem.class ) )
+				.isInstanceOf( NearCacheDomainDataStorageAccess.class );
+	}
+
+	@Test
+	public void testReadWriteUpdateSeenByOtherNode() {
+		firstNode.inTransaction( session -> session.persist( new ReadWriteItem( 1, "original" ) ) );
+
+		// the second node reads the item from the shared cache
+		secondNode.inTransaction( session -> assertThat( session.find( ReadWriteItem.class, 1 ).name )
+				.isEqualTo( "original" ) );
+		assertThat( secondNode.getStatistics().getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+
+		firstNode.inTransaction( session -> session.find( ReadWriteItem.class, 1 ).name = "updated" );
+
+		// well within the time to live of a near cache entry
+		secondNode.inTransaction( session -> assertThat( session.find( ReadWriteItem.class, 1 ).name )
+				.isEqualTo( "updated" ) );
+	}
+
+	private static DomainDataStorageAccess storageAccess(SessionFactoryImplementor sessionFactory, Class<?> entityClass) {
+		final String regionName = sessionFactory.getMappingMetamodel()
+				.getEntityDescriptor( entityClass )
+				.getCacheAccessStrategy()
+				.getRegion()
+				.getName();
+		return ( (DomainDataRegionTemplate) sessionFactory.getCache().getRegion( regionName ) ).getCacheStorageAccess();
+	}
+
+	private static StandardServiceRegistry buildRegistry(Action action) {
+		return new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, true )
+				.applySetting( AvailableSettings.CACHE_REGION_FACTORY, new ClusteredRegionFactory() )
+				.applySetting( AvailableSettings.CACHE_NEAR_CACHE_MAX_ENTRIES, 100 )
+				.applySetting( AvailableSettings.CACHE_NEAR_CACHE_TTL, 60_000L )
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, true )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, action )
+				.build();
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(StandardServiceRegistry registry) {
+		final SessionFactory sessionFactory = new MetadataSources( registry )
+				.addAnnotatedClass( ReadWriteItem.class )
+				.addAnnotatedClass( NonstrictItem.class )
+				.buildMetadata()
+				.buildSessionFactory();
+		return sessionFactory.unwrap( SessionFactoryImplementor.class );
+	}
+
+	/**
+	 * A region factory whose regions are shared by all the session factories
+	 * using it, as the regions of a clustered cache would be
+	 */
+	public static class ClusteredRegionFactory extends RegionFactoryTemplate {
+		@Override
+		protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		}
+
+		@Override
+		protected void releaseFromUse() {
+		}
+
+		@Override
+		protected DomainDataStorageAccess createDomainDataStorageAccess(
+				DomainDataRegionConfig regionConfig,
+				DomainDataRegionBuildingContext buildingContext) {
+			return new SharedStorageAccess( regionConfig.getRegionName() );
+		}
+
+		@Override
+		protected StorageAccess createQueryResultsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new SharedStorageAccess( regionName );
+		}
+
+		@Override
+		protected StorageAccess createTimestampsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new SharedStorageAccess( regionName );
+		}
+	}
+
+	private static class SharedStorageAccess implements DomainDataStorageAccess {
+		private final ConcurrentMap<Object, Object> data;
+
+		private SharedStorageAccess(String regionName) {
+			this.data = CLUSTER.computeIfAbsent( regionName, name -> new ConcurrentHashMap<>() );
+		}
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			return data.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			data.put( key, value );
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return data.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			data.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			data.remove( key );
+		}
+
+		@Override
+		public void release() {
+		}
+	}
+
+	@Entity( name = "ReadWriteItem" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class ReadWriteItem {
+		@Id
+		Integer id;
+		String name;
+
+		public ReadWriteItem() {
+		}
+
+		public ReadWriteItem(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "NonstrictItem" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE )
+	public static class NonstrictItem {
+		@Id
+		Integer id;
+		String name;
+	}
+}
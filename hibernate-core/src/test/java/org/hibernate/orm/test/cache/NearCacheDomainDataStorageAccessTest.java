@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.spi.support.NearCacheDomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link NearCacheDomainDataStorageAccess}
+ */
+public class NearCacheDomainDataStorageAccessTest {
+
+	@Test
+	public void testReadsServedLocally() {
+		final CountingStorageAccess remote = new CountingStorageAccess();
+		final NearCacheDomainDataStorageAccess storageAccess = new NearCacheDomainDataStorageAccess( remote, 100, 60_000 );
+
+		storageAccess.putFromLoad( "a", "1", null );
+		assertThat( storageAccess.getFromCache( "a", null ) ).isEqualTo( "1" );
+		assertThat( storageAccess.getFromCache( "a", null ) ).isEqualTo( "1" );
+		assertThat( storageAccess.getAllFromCache( List.of( "a" ), null ) ).containsEntry( "a", "1" );
+		assertThat( remote.reads.get() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testWritesInvalidateLocalEntries() {
+		final CountingStorageAccess remote = new CountingStorageAccess();
+		final NearCacheDomainDataStorageAccess storageAccess = new NearCacheDomainDataStorageAccess( remote, 100, 60_000 );
+
+		storageAccess.putFromLoad( "a", "1", null );
+		assertThat( storageAccess.getFromCache( "a", null ) ).isEqualTo( "1" );
+
+		storageAccess.putIntoCache( "a", "2", null );
+		assertThat( storageAccess.getFromCache( "a", null ) ).isEqualTo( "2" );
+
+		storageAccess.removeFromCache( "a", null );
+		assertThat( storageAccess.getFromCache( "a", null ) ).isNull();
+
+		storageAccess.putIntoCache( "a", "3", null );
+		assertThat( storageAccess.getFromCache( "a", null ) ).isEqualTo( "3" );
+		storageAccess.evictData();
+		assertThat( storageAccess.getFromCache( "a", null ) ).isNull();
+	}
+
+	@Test
+	public void testSoftLocksAreNotKeptLocally() {
+		final CountingStorageAccess remote = new CountingStorageAccess();
+		final NearCacheDomainDataStorageAccess storageAccess = new NearCacheDomainDataStorageAccess( remote, 100, 60_000 );
+
+		final SoftLock lock = new SoftLock() {
+		};
+		storageAccess.putIntoCache( "a", lock, null );
+		assertThat( storageAccess.getFromCache( "a", null ) ).isSameAs( lock );
+		assertThat( storageAccess.getFromCache( "a", null ) ).isSameAs( lock );
+		assertThat( remote.reads.get() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testEntriesExpire() throws InterruptedException {
+		final CountingStorageAccess remote = new CountingStorageAccess();
+		final NearCacheDomainDataStorageAccess storageAccess = new NearCacheDomainDataStorageAccess( remote, 100, 1 );
+
+		storageAccess.putFromLoad( "a", "1", null );
+		assertThat( storageAccess.getFromCache( "a", null ) ).isEqualTo( "1" );
+		Thread.sleep( 10 );
+		// simulates a change made by another node
+		remote.putIntoCache( "a", "2", null );
+		assertThat( storageAccess.getFromCache( "a", null ) ).isEqualTo( "2" );
+		assertThat( remote.reads.get() ).isEqualTo( 2 );
+	}
+
+	private static class CountingStorageAccess extends MapStorageAccessImpl {
+		private final AtomicInteger reads = new AtomicInteger();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			reads.incrementAndGet();
+			return super.getFromCache( key, session );
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.internal.LocalRegionFactory;
+import org.hibernate.cache.spi.support.OffHeapStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@value AvailableSettings#CACHE_LOCAL_OFF_HEAP_MAX_SIZE}
+ */
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.CACHE_REGION_FACTORY, value = LocalRegionFactory.SHORT_NAME ),
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.CACHE_LOCAL_OFF_HEAP_MAX_SIZE, value = "4194304" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@DomainModel( annotatedClasses = OffHeapCacheTest.Item.class )
+@SessionFactory
+public class OffHeapCacheTest {
+
+	@Test
+	public void testEntityReadFromOffHeapRegion(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.persist( new Item( 1L, "first" ) ) );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inSession( (session) -> assertThat( session.find( Item.class, 1L ).name ).isEqualTo( "first" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityLoadCount() ).isZero();
+
+		scope.inTransaction( (session) -> session.find( Item.class, 1L ).name = "second" );
+		scope.inSession( (session) -> assertThat( session.find( Item.class, 1L ).name ).isEqualTo( "second" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 3 );
+
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( Item.class.getName() );
+		assertThat( regionStatistics.getSizeInMemory() ).isPositive();
+		assertThat( regionStatistics.getEvictionCount() ).isZero();
+	}
+
+	@Test
+	public void testLeastRecentlyUsedChunkReused() {
+		final OffHeapStorageAccess storageAccess = new OffHeapStorageAccess( 4 * 1024, 1024 );
+		storageAccess.putIntoCache( "small", "value", null );
+		for ( int i = 0; i < 3; i++ ) {
+			storageAccess.putIntoCache( "large" + i, new byte[850], null );
+		}
+		assertThat( storageAccess.getAllocatedSize() ).isEqualTo( 4 * 1024 );
+		assertThat( storageAccess.getFromCache( "large0", null ) ).isInstanceOf( byte[].class );
+
+		storageAccess.putIntoCache( "large3", new byte[850], null );
+		assertThat( storageAccess.getEvictionCount() ).isEqualTo( 1 );
+		assertThat( storageAccess.contains( "large0" ) ).isTrue();
+		assertThat( storageAccess.contains( "large1" ) ).isFalse();
+		assertThat( storageAccess.getFromCache( "small", null ) ).isEqualTo( "value" );
+
+		storageAccess.putIntoCache( "huge", new byte[2000], null );
+		assertThat( storageAccess.contains( "huge" ) ).isFalse();
+
+		storageAccess.evictData();
+		assertThat( storageAccess.getElementCountInMemory() ).isZero();
+		assertThat( storageAccess.getAllocatedSize() ).isEqualTo( 4 * 1024 );
+		storageAccess.putIntoCache( "small", "value", null );
+		assertThat( storageAccess.getFromCache( "small", null ) ).isEqualTo( "value" );
+
+		storageAccess.release();
+		assertThat( storageAccess.getAllocatedSize() ).isZero();
+	}
+
+	@Test
+	public void testReferenceCacheEntriesRejected() {
+		final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.CACHE_REGION_FACTORY, LocalRegionFactory.SHORT_NAME )
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, true )
+				.applySetting( AvailableSettings.CACHE_LOCAL_OFF_HEAP_MAX_SIZE, 4194304L )
+				.applySetting( AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES, true )
+				.build();
+		try {
+			final MetadataSources metadataSources = new MetadataSources( registry )
+					.addAnnotatedClass( ImmutableItem.class );
+			assertThatThrownBy( () -> metadataSources.buildMetadata().buildSessionFactory() )
+					.isInstanceOf( CacheException.class )
+					.hasMessageContaining( AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( registry );
+		}
+	}
+
+	@Entity( name = "ImmutableItem" )
+	@Immutable
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_ONLY )
+	public static class ImmutableItem {
+		@Id
+		Long id;
+		String name;
+	}
+
+	@Entity( name = "Item" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Item {
+		@Id
+		Long id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
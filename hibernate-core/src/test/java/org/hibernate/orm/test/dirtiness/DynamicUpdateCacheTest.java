@@ -0,0 +1,191 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.dirtiness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLockType;
+import org.hibernate.annotations.OptimisticLocking;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.mutation.MutationExecutor;
+import org.hibernate.engine.jdbc.mutation.internal.StandardMutationExecutorService;
+import org.hibernate.engine.jdbc.mutation.spi.BatchKeyAccess;
+import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.sql.model.MutationOperationGroup;
+import org.hibernate.sql.model.MutationType;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#DYNAMIC_UPDATE_CACHE_MAX_SIZE}
+ */
+@ServiceRegistry(
+		settings = @Setting( name = AvailableSettings.DYNAMIC_UPDATE_CACHE_MAX_SIZE, value = "2" ),
+		services = @ServiceRegistry.Service(
+				role = MutationExecutorService.class,
+				impl = DynamicUpdateCacheTest.CapturingMutationExecutorService.class
+		)
+)
+@DomainModel( annotatedClasses = { DynamicUpdateCacheTest.Note.class, DynamicUpdateCacheTest.LockedNote.class } )
+@SessionFactory( useCollectingStatementInspector = true )
+public class DynamicUpdateCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int id = 1; id <= 3; id++ ) {
+				session.persist( new Note( id, "title" + id, "body" + id ) );
+				session.persist( new LockedNote( id, "title" + id, null ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Note" ).executeUpdate();
+			session.createMutationQuery( "delete from LockedNote" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testCachedUpdatesOnlySetDirtyColumns(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		CapturingMutationExecutorService.NOTE_UPDATES.clear();
+
+		scope.inTransaction( session -> session.find( Note.class, 1 ).title = "changed1" );
+		scope.inTransaction( session -> session.find( Note.class, 2 ).body = "changed2" );
+		scope.inTransaction( session -> session.find( Note.class, 3 ).title = "changed3" );
+		scope.inTransaction( session -> {
+			final Note note = session.find( Note.class, 3 );
+			note.title = "changed3 again";
+			note.body = "changed3";
+		} );
+		// the second statement was evicted by the fourth one, and is generated again
+		scope.inTransaction( session -> session.find( Note.class, 2 ).body = "changed again" );
+		scope.inTransaction( session -> session.find( Note.class, 1 ).title = "changed again" );
+
+		final List<String> updates = statementInspector.getSqlQueries().stream()
+				.filter( sql -> sql.startsWith( "update" ) )
+				.collect( Collectors.toList() );
+		assertThat( updates ).hasSize( 6 );
+		assertThat( updates.get( 0 ) ).contains( "title" ).doesNotContain( "body" );
+		assertThat( updates.get( 1 ) ).contains( "body" ).doesNotContain( "title" );
+		assertThat( updates.get( 2 ) ).isEqualTo( updates.get( 0 ) );
+		assertThat( updates.get( 3 ) ).contains( "title", "body" );
+		assertThat( updates.get( 4 ) ).isEqualTo( updates.get( 1 ) );
+		assertThat( updates.get( 5 ) ).isEqualTo( updates.get( 0 ) );
+
+		final List<MutationOperationGroup> groups = CapturingMutationExecutorService.NOTE_UPDATES;
+		assertThat( groups ).hasSize( 6 );
+		assertThat( groups.get( 1 ) ).isNotSameAs( groups.get( 0 ) );
+		// the same dirty attributes reuse the cached group
+		assertThat( groups.get( 2 ) ).isSameAs( groups.get( 0 ) );
+		// unless it was evicted
+		assertThat( groups.get( 4 ) ).isNotSameAs( groups.get( 1 ) );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Note.class, 1 ).title ).isEqualTo( "changed again" );
+			assertThat( session.find( Note.class, 1 ).body ).isEqualTo( "body1" );
+			assertThat( session.find( Note.class, 2 ).title ).isEqualTo( "title2" );
+			assertThat( session.find( Note.class, 2 ).body ).isEqualTo( "changed again" );
+			assertThat( session.find( Note.class, 3 ).title ).isEqualTo( "changed3 again" );
+			assertThat( session.find( Note.class, 3 ).body ).isEqualTo( "changed3" );
+		} );
+	}
+
+	@Test
+	public void testLockingOnNullValueNotCached(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.find( LockedNote.class, 1 ).body = "first" );
+		scope.inTransaction( session -> session.find( LockedNote.class, 1 ).body = "second" );
+		scope.inTransaction( session -> session.find( LockedNote.class, 2 ).body = "first" );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( LockedNote.class, 1 ).body ).isEqualTo( "second" );
+			assertThat( session.find( LockedNote.class, 2 ).body ).isEqualTo( "first" );
+			assertThat( session.find( LockedNote.class, 3 ).body ).isNull();
+		} );
+	}
+
+	/**
+	 * Records the operation groups executed for updates of {@link Note}
+	 */
+	public static class CapturingMutationExecutorService extends StandardMutationExecutorService {
+		static final List<MutationOperationGroup> NOTE_UPDATES = new ArrayList<>();
+
+		public CapturingMutationExecutorService() {
+			super( 1 );
+		}
+
+		@Override
+		public MutationExecutor createExecutor(
+				BatchKeyAccess batchKeySupplier,
+				MutationOperationGroup operationGroup,
+				SharedSessionContractImplementor session) {
+			if ( operationGroup.getMutationType() == MutationType.UPDATE
+					&& operationGroup.getMutationTarget().getRolePath().equals( Note.class.getName() ) ) {
+				NOTE_UPDATES.add( operationGroup );
+			}
+			return super.createExecutor( batchKeySupplier, operationGroup, session );
+		}
+	}
+
+	@Entity( name = "Note" )
+	@DynamicUpdate
+	public static class Note {
+		@Id
+		Integer id;
+		String title;
+		String body;
+
+		public Note() {
+		}
+
+		public Note(Integer id, String title, String body) {
+			this.id = id;
+			this.title = title;
+			this.body = body;
+		}
+	}
+
+	@Entity( name = "LockedNote" )
+	@DynamicUpdate
+	@OptimisticLocking( type = OptimisticLockType.DIRTY )
+	public static class LockedNote {
+		@Id
+		Integer id;
+		String title;
+		String body;
+
+		public LockedNote() {
+		}
+
+		public LockedNote(Integer id, String title, String body) {
+			this.id = id;
+			this.title = title;
+			this.body = body;
+		}
+	}
+}
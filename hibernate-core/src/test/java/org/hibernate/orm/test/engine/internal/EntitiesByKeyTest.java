@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.engine.internal;
+
+import java.util.Map;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the index of the entities held by the persistence context
+ */
+@DomainModel( annotatedClasses = {
+		EntitiesByKeyTest.Animal.class,
+		EntitiesByKeyTest.Dog.class,
+		EntitiesByKeyTest.Country.class
+} )
+@SessionFactory
+public class EntitiesByKeyTest {
+
+	@Test
+	public void testAddGetRemove(SessionFactoryScope scope) {
+		scope.inSession( (session) -> {
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			final int count = 1000;
+			for ( long i = 0; i < count; i++ ) {
+				session.persist( i % 2 == 0 ? new Animal( i ) : new Dog( i ) );
+				session.persist( new Country( "C" + i ) );
+			}
+			assertThat( persistenceContext.getEntitiesByKey() ).hasSize( 2 * count );
+
+			for ( long i = 0; i < count; i++ ) {
+				// subclass instances are found using the key of the root entity
+				final EntityKey animalKey = session.generateEntityKey( i, session.getEntityPersister( Animal.class.getName(), null ) );
+				assertThat( persistenceContext.containsEntity( animalKey ) ).isTrue();
+				assertThat( ( (Animal) persistenceContext.getEntity( animalKey ) ).getId() ).isEqualTo( i );
+
+				final EntityKey countryKey = session.generateEntityKey( "C" + i, session.getEntityPersister( Country.class.getName(), null ) );
+				assertThat( ( (Country) persistenceContext.getEntity( countryKey ) ).getCode() ).isEqualTo( "C" + i );
+			}
+
+			// detach every third entity, which exercises the removal of entries in the middle of probe sequences
+			for ( long i = 0; i < count; i += 3 ) {
+				session.detach( session.getReference( Animal.class, i ) );
+				session.detach( session.getReference( Country.class, "C" + i ) );
+			}
+			for ( long i = 0; i < count; i++ ) {
+				final EntityKey animalKey = session.generateEntityKey( i, session.getEntityPersister( Dog.class.getName(), null ) );
+				assertThat( persistenceContext.containsEntity( animalKey ) ).isEqualTo( i % 3 != 0 );
+			}
+
+			final Map<EntityKey, Object> entitiesByKey = persistenceContext.getEntitiesByKey();
+			assertThat( entitiesByKey.entrySet() ).hasSize( entitiesByKey.size() );
+			entitiesByKey.forEach( (key, entity) -> assertThat( persistenceContext.getEntity( key ) ).isSameAs( entity ) );
+
+			session.clear();
+			assertThat( persistenceContext.getEntitiesByKey() ).isEmpty();
+		} );
+	}
+
+	@Entity( name = "Animal" )
+	public static class Animal {
+		@Id
+		private Long id;
+
+		public Animal() {
+		}
+
+		public Animal(Long id) {
+			this.id = id;
+		}
+
+		public Long getId() {
+			return id;
+		}
+	}
+
+	@Entity( name = "Dog" )
+	public static class Dog extends Animal {
+		public Dog() {
+		}
+
+		public Dog(Long id) {
+			super( id );
+		}
+	}
+
+	@Entity( name = "Country" )
+	public static class Country {
+		@Id
+		private String code;
+
+		public Country() {
+		}
+
+		public Country(String code) {
+			this.code = code;
+		}
+
+		public String getCode() {
+			return code;
+		}
+	}
+}
@@ -0,0 +1,271 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.flush;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.annotations.Type;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.UserType;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#PARALLEL_DIRTY_CHECKING_THRESHOLD}
+ */
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.PARALLEL_DIRTY_CHECKING_THRESHOLD, value = "10" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@DomainModel( annotatedClasses = {
+		ParallelDirtyCheckingTest.Product.class,
+		ParallelDirtyCheckingTest.Category.class,
+		ParallelDirtyCheckingTest.Measurement.class
+} )
+@SessionFactory
+public class ParallelDirtyCheckingTest {
+	private static final int COUNT = 1000;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Category category = new Category( 1, "books" );
+			session.persist( category );
+			for ( int id = 1; id <= COUNT; id++ ) {
+				session.persist( new Product( id, "product" + id, new Price( id, "EUR" ) ) );
+				session.persist( new Measurement( id, "measurement" + id, id + 0.1, Long.MAX_VALUE - id ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Product" ).executeUpdate();
+			session.createMutationQuery( "delete from Category" ).executeUpdate();
+			session.createMutationQuery( "delete from Measurement" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testDirtyEntitiesUpdated(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final List<Product> products = session.createSelectionQuery( "from Product", Product.class ).getResultList();
+			assertThat( products ).hasSize( COUNT );
+			for ( Product product : products ) {
+				if ( product.id % 10 == 0 ) {
+					product.name = "renamed" + product.id;
+				}
+				else if ( product.id % 10 == 5 ) {
+					product.price.amount = -product.id;
+				}
+			}
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( COUNT / 5 );
+
+		scope.inTransaction( session -> {
+			assertThat( session.find( Product.class, 10 ).name ).isEqualTo( "renamed10" );
+			assertThat( session.find( Product.class, 15 ).price.amount ).isEqualTo( -15 );
+			assertThat( session.find( Product.class, 11 ).name ).isEqualTo( "product11" );
+		} );
+	}
+
+	@Test
+	public void testChangesAfterFlushDetected(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final List<Category> categories = session.createSelectionQuery( "from Category", Category.class ).getResultList();
+			assertThat( session.createSelectionQuery( "from Product", Product.class ).getResultList() ).hasSize( COUNT );
+			session.flush();
+			assertThat( statistics.getEntityUpdateCount() ).isZero();
+
+			categories.get( 0 ).name = "novels";
+			session.find( Product.class, 2 ).price.currency = "USD";
+			session.find( Product.class, 3 ).name = "renamed";
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void testPrecomputedDirtyCheckReusedForBoxedValues(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			final List<Measurement> measurements =
+					session.createSelectionQuery( "from Measurement", Measurement.class ).getResultList();
+			assertThat( measurements ).hasSize( COUNT );
+
+			// the primitive values are boxed again each time the state of an entity
+			// is read, but the labels are only compared once, by the parallel check
+			CountingStringType.COMPARISONS.set( 0 );
+			session.flush();
+			assertThat( CountingStringType.COMPARISONS.get() ).isEqualTo( COUNT );
+			assertThat( statistics.getEntityUpdateCount() ).isZero();
+
+			measurements.get( 0 ).weight = -1;
+			measurements.get( 1 ).count = 0;
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 2 );
+	}
+
+	@Entity( name = "Product" )
+	public static class Product {
+		@Id
+		Integer id;
+		String name;
+		@Embedded
+		Price price;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name, Price price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+
+	@Embeddable
+	public static class Price {
+		Integer amount;
+		String currency;
+
+		public Price() {
+		}
+
+		public Price(Integer amount, String currency) {
+			this.amount = amount;
+			this.currency = currency;
+		}
+	}
+
+	@Entity( name = "Category" )
+	public static class Category {
+		@Id
+		Integer id;
+		String name;
+
+		public Category() {
+		}
+
+		public Category(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Measurement" )
+	public static class Measurement {
+		@Id
+		Integer id;
+		@Type( CountingStringType.class )
+		String label;
+		double weight;
+		long count;
+
+		public Measurement() {
+		}
+
+		public Measurement(Integer id, String label, double weight, long count) {
+			this.id = id;
+			this.label = label;
+			this.weight = weight;
+			this.count = count;
+		}
+	}
+
+	/**
+	 * Copies the loaded state, so that the labels are never identical
+	 * to the loaded state, and counts their comparisons
+	 */
+	public static class CountingStringType implements UserType<String> {
+		static final AtomicInteger COMPARISONS = new AtomicInteger();
+
+		@Override
+		public int getSqlType() {
+			return Types.VARCHAR;
+		}
+
+		@Override
+		public Class<String> returnedClass() {
+			return String.class;
+		}
+
+		@Override
+		public boolean equals(String x, String y) {
+			COMPARISONS.incrementAndGet();
+			return Objects.equals( x, y );
+		}
+
+		@Override
+		public int hashCode(String x) {
+			return Objects.hashCode( x );
+		}
+
+		@Override
+		public String nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session, Object owner)
+				throws SQLException {
+			return rs.getString( position );
+		}
+
+		@Override
+		public void nullSafeSet(PreparedStatement st, String value, int index, SharedSessionContractImplementor session)
+				throws SQLException {
+			st.setString( index, value );
+		}
+
+		@Override
+		public String deepCopy(String value) {
+			return value == null ? null : new String( value );
+		}
+
+		@Override
+		public boolean isMutable() {
+			return true;
+		}
+
+		@Override
+		public Serializable disassemble(String value) {
+			return value;
+		}
+
+		@Override
+		public String assemble(Serializable cached, Object owner) {
+			return (String) cached;
+		}
+	}
+}
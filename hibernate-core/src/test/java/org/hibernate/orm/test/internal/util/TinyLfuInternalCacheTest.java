@@ -0,0 +1,68 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.internal.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.internal.util.cache.InternalCache;
+import org.hibernate.internal.util.cache.TinyLfuInternalCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TinyLfuInternalCacheTest {
+
+	@Test
+	public void sizeIsBounded() {
+		final AtomicInteger evictions = new AtomicInteger();
+		final InternalCache<Integer, String> cache = new TinyLfuInternalCache<>( 100, key -> evictions.incrementAndGet() );
+		for ( int i = 0; i < 1000; i++ ) {
+			cache.put( i, "value" + i );
+			assertThat( cache.get( i ) ).isEqualTo( "value" + i );
+		}
+		assertThat( cache.heldElementsEstimate() ).isEqualTo( 100 );
+		assertThat( evictions.get() ).isEqualTo( 900 );
+	}
+
+	@Test
+	public void frequentlyUsedEntriesSurviveScans() {
+		final InternalCache<Integer, String> cache = new TinyLfuInternalCache<>( 100, null );
+		for ( int i = 0; i < 50; i++ ) {
+			cache.put( i, "hot" + i );
+		}
+		for ( int round = 0; round < 10; round++ ) {
+			for ( int i = 0; i < 50; i++ ) {
+				cache.get( i );
+			}
+		}
+		// a scan of entries used only once should not flush the frequently used ones
+		for ( int i = 1000; i < 2000; i++ ) {
+			cache.computeIfAbsent( i, key -> "cold" + key );
+		}
+		for ( int i = 0; i < 50; i++ ) {
+			assertThat( cache.get( i ) ).isEqualTo( "hot" + i );
+		}
+	}
+
+	@Test
+	public void replaceAndClear() {
+		final InternalCache<String, String> cache = new TinyLfuInternalCache<>( 10, null );
+		cache.put( "a", "1" );
+		cache.put( "a", "2" );
+		assertThat( cache.get( "a" ) ).isEqualTo( "2" );
+		assertThat( cache.computeIfAbsent( "a", key -> "3" ) ).isEqualTo( "2" );
+		assertThat( cache.heldElementsEstimate() ).isEqualTo( 1 );
+
+		cache.clear();
+		assertThat( cache.get( "a" ) ).isNull();
+		assertThat( cache.heldElementsEstimate() ).isEqualTo( 0 );
+
+		cache.put( "b", "1" );
+		assertThat( cache.get( "b" ) ).isEqualTo( "1" );
+	}
+}
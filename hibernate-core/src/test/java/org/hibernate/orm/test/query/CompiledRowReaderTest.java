@@ -0,0 +1,215 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.internal.CompiledRowReader;
+import org.hibernate.sql.results.internal.InitializersList;
+import org.hibernate.sql.results.spi.RowReader;
+import org.hibernate.sql.results.spi.RowReaderCompiler;
+import org.hibernate.sql.results.spi.RowTransformer;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.COMPILED_ROW_READERS;
+
+/**
+ * Tests for {@link org.hibernate.cfg.AvailableSettings#COMPILED_ROW_READERS}
+ */
+@ServiceRegistry(
+		settings = @Setting( name = COMPILED_ROW_READERS, value = "true" ),
+		services = @ServiceRegistry.Service(
+				role = BytecodeProvider.class,
+				impl = CompiledRowReaderTest.CapturingBytecodeProvider.class
+		)
+)
+@DomainModel( annotatedClasses = { CompiledRowReaderTest.Author.class, CompiledRowReaderTest.Book.class } )
+@SessionFactory
+public class CompiledRowReaderTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Author author = new Author( i, "author " + i );
+				session.persist( author );
+				for ( int j = 1; j <= 2; j++ ) {
+					session.persist( new Book( i * 10 + j, "book " + i + "." + j, author ) );
+				}
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete Book" ).executeUpdate();
+			session.createMutationQuery( "delete Author" ).executeUpdate();
+		} );
+	}
+
+	@BeforeEach
+	public void clearRowReaders() {
+		CapturingBytecodeProvider.ROW_READERS.clear();
+		CapturingBytecodeProvider.ASSEMBLER_COUNTS.clear();
+	}
+
+	@Test
+	public void testEntities(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Book> books = session.createSelectionQuery( "from Book order by id", Book.class ).list();
+			assertThat( books ).hasSize( 6 );
+			assertThat( books.get( 0 ).getTitle() ).isEqualTo( "book 1.1" );
+			assertThat( Hibernate.isInitialized( books.get( 0 ).getAuthor() ) ).isFalse();
+			assertThat( books.get( 5 ).getAuthor().getName() ).isEqualTo( "author 3" );
+		} );
+		assertCompiledRowReaders( 1 );
+	}
+
+	@Test
+	public void testFetchJoins(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Author> authors = session.createSelectionQuery(
+					"select distinct a from Author a join fetch a.books order by a.id",
+					Author.class
+			).list();
+			assertThat( authors ).hasSize( 3 );
+			assertThat( Hibernate.isInitialized( authors.get( 1 ).getBooks() ) ).isTrue();
+			assertThat( authors.get( 1 ).getBooks() ).extracting( Book::getTitle )
+					.containsExactlyInAnyOrder( "book 2.1", "book 2.2" );
+		} );
+		assertCompiledRowReaders( 1 );
+	}
+
+	@Test
+	public void testScalarsAndEntities(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Object[]> rows = session.createSelectionQuery(
+					"select b.id, b.title, a from Book b join b.author a order by b.id",
+					Object[].class
+			).list();
+			assertThat( rows ).hasSize( 6 );
+			assertThat( rows.get( 2 )[0] ).isEqualTo( 21 );
+			assertThat( rows.get( 2 )[1] ).isEqualTo( "book 2.1" );
+			assertThat( ( (Author) rows.get( 2 )[2] ).getName() ).isEqualTo( "author 2" );
+		} );
+		assertCompiledRowReaders( 3 );
+	}
+
+	/**
+	 * Asserts that the query, with the given number of results per row, and any
+	 * subsequent load were read by generated row readers, rather than by the
+	 * standard row reader the compiler falls back to
+	 */
+	private static void assertCompiledRowReaders(int queryAssemblerCount) {
+		assertThat( CapturingBytecodeProvider.ASSEMBLER_COUNTS ).first().isEqualTo( queryAssemblerCount );
+		assertThat( CapturingBytecodeProvider.ROW_READERS ).allSatisfy(
+				(rowReader) -> assertThat( rowReader ).isInstanceOf( CompiledRowReader.class )
+						.isNotExactlyInstanceOf( CompiledRowReader.class )
+		);
+	}
+
+	public static class CapturingBytecodeProvider extends BytecodeProviderImpl {
+		static final List<RowReader<?>> ROW_READERS = new ArrayList<>();
+		static final List<Integer> ASSEMBLER_COUNTS = new ArrayList<>();
+
+		@Override
+		public RowReaderCompiler getRowReaderCompiler() {
+			final RowReaderCompiler delegate = super.getRowReaderCompiler();
+			return new RowReaderCompiler() {
+				@Override
+				public <T> RowReader<T> compile(
+						List<DomainResultAssembler<?>> resultAssemblers,
+						InitializersList initializers,
+						RowTransformer<T> rowTransformer,
+						Class<T> domainResultJavaType) {
+					final RowReader<T> rowReader = delegate.compile(
+							resultAssemblers,
+							initializers,
+							rowTransformer,
+							domainResultJavaType
+					);
+					ROW_READERS.add( rowReader );
+					ASSEMBLER_COUNTS.add( resultAssemblers.size() );
+					return rowReader;
+				}
+			};
+		}
+	}
+
+	@Entity( name = "Author" )
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany( mappedBy = "author" )
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne( fetch = FetchType.LAZY )
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.jpa.HibernateHints.HINT_DETACH_SCROLLED_ENTITIES;
+
+/**
+ * Tests for {@link org.hibernate.jpa.HibernateHints#HINT_DETACH_SCROLLED_ENTITIES}
+ */
+@DomainModel( annotatedClasses = {
+		DetachScrolledEntitiesTest.Customer.class,
+		DetachScrolledEntitiesTest.Order.class,
+		DetachScrolledEntitiesTest.Invoice.class
+} )
+@SessionFactory
+public class DetachScrolledEntitiesTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Customer customer = new Customer( 1, "customer" );
+			session.persist( customer );
+			for ( int i = 1; i <= 50; i++ ) {
+				session.persist( new Order( i, customer ) );
+				session.persist( new Invoice( i, customer ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete CustomerOrder" ).executeUpdate();
+			session.createMutationQuery( "delete Invoice" ).executeUpdate();
+			session.createMutationQuery( "delete Customer" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testStream(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final AtomicInteger count = new AtomicInteger();
+			try ( Stream<Order> orders = session.createSelectionQuery( "from CustomerOrder o join fetch o.customer order by o.id", Order.class )
+					.setHint( HINT_DETACH_SCROLLED_ENTITIES, true )
+					.stream() ) {
+				orders.forEach( (order) -> {
+					count.incrementAndGet();
+					assertThat( session.contains( order ) ).isTrue();
+					assertThat( order.getCustomer().getName() ).isEqualTo( "customer" );
+					// only the entities of the current result are managed
+					assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isLessThanOrEqualTo( 2 );
+				} );
+			}
+			assertThat( count.get() ).isEqualTo( 50 );
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testScroll(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Customer customer = session.find( Customer.class, 1 );
+			try ( ScrollableResults<Order> results = session.createSelectionQuery( "from CustomerOrder order by id", Order.class )
+					.setHint( HINT_DETACH_SCROLLED_ENTITIES, true )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				Order previous = null;
+				while ( results.next() ) {
+					final Order order = results.get();
+					assertThat( session.contains( order ) ).isTrue();
+					if ( previous != null ) {
+						assertThat( session.contains( previous ) ).isFalse();
+					}
+					// entities which were already managed are not affected
+					assertThat( order.getCustomer() ).isSameAs( customer );
+					previous = order;
+				}
+			}
+			assertThat( session.contains( customer ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testDetachmentNotCascaded(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Customer customer = session.find( Customer.class, 1 );
+			try ( ScrollableResults<Invoice> results = session.createSelectionQuery( "from Invoice order by id", Invoice.class )
+					.setHint( HINT_DETACH_SCROLLED_ENTITIES, true )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				Invoice previous = null;
+				while ( results.next() ) {
+					final Invoice invoice = results.get();
+					assertThat( invoice.customer ).isSameAs( customer );
+					if ( previous != null ) {
+						assertThat( session.contains( previous ) ).isFalse();
+					}
+					// the association cascades DETACH to the customer, which was managed before
+					assertThat( session.contains( customer ) ).isTrue();
+					previous = invoice;
+				}
+			}
+			assertThat( session.contains( customer ) ).isTrue();
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testWithoutHint(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			try ( Stream<Order> orders = session.createSelectionQuery( "from CustomerOrder", Order.class ).stream() ) {
+				assertThat( orders.count() ).isEqualTo( 50 );
+			}
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isGreaterThanOrEqualTo( 50 );
+		} );
+	}
+
+	@Entity( name = "Customer" )
+	public static class Customer {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity( name = "CustomerOrder" )
+	public static class Order {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Customer customer;
+
+		public Order() {
+		}
+
+		public Order(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+
+		public Customer getCustomer() {
+			return customer;
+		}
+	}
+
+	@Entity( name = "Invoice" )
+	public static class Invoice {
+		@Id
+		private Integer id;
+		@ManyToOne( cascade = CascadeType.ALL )
+		private Customer customer;
+
+		public Invoice() {
+		}
+
+		public Invoice(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#QUERY_CACHE_LAYOUT}
+ */
+@DomainModel( annotatedClasses = QueryCacheShallowLayoutTest.Book.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.QUERY_CACHE_LAYOUT, value = "shallow" )
+} )
+public class QueryCacheShallowLayoutTest {
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1, "Hibernate in Action", 40 ) );
+			session.persist( new Book( 2, "Java Persistence with Hibernate", null ) );
+			session.persist( new Book( 3, "High-Performance Java Persistence", 35 ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testEntitiesResolvedThroughSecondLevelCache(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> assertBooks( selectBooks( session ) ) );
+
+		statistics.clear();
+		scope.inTransaction( session -> assertBooks( selectBooks( session ) ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 3 );
+		assertThat( statistics.getEntityLoadCount() ).isZero();
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+
+		scope.getSessionFactory().getCache().evictEntityData( Book.class );
+		statistics.clear();
+		scope.inTransaction( session -> assertBooks( selectBooks( session ) ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 3 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testScalarsAndEntities(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> assertTuples( selectTuples( session ) ) );
+
+		statistics.clear();
+		scope.inTransaction( session -> assertTuples( selectTuples( session ) ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+	}
+
+	@Test
+	public void testReadOnlyQueryLoadsReadOnlyEntities(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		scope.inTransaction( session -> assertBooks( selectBooks( session ) ) );
+
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createSelectionQuery( "from Book b order by b.id", Book.class )
+					.setCacheable( true )
+					.setReadOnly( true )
+					.getResultList();
+			assertBooks( books );
+			assertThat( books ).allMatch( session::isReadOnly );
+		} );
+
+		scope.inTransaction( session -> {
+			try ( ScrollableResults<Book> results = session.createSelectionQuery( "from Book b order by b.id", Book.class )
+					.setCacheable( true )
+					.setReadOnly( true )
+					.scroll() ) {
+				while ( results.next() ) {
+					assertThat( session.isReadOnly( results.get() ) ).isTrue();
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testCacheModeAppliedToEntities(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictQueryRegions();
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> assertBooks( selectBooks( session ) ) );
+
+		scope.getSessionFactory().getCache().evictEntityData( Book.class );
+		statistics.clear();
+		scope.inTransaction( session -> assertBooks(
+				session.createSelectionQuery( "from Book b order by b.id", Book.class )
+						.setCacheable( true )
+						.setCacheMode( CacheMode.GET )
+						.getResultList()
+		) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( 3 );
+		assertThat( statistics.getSecondLevelCachePutCount() ).isZero();
+		assertThat( scope.getSessionFactory().getCache().containsEntity( Book.class, 1 ) ).isFalse();
+	}
+
+	private static List<Book> selectBooks(SessionImplementor session) {
+		return session.createSelectionQuery( "from Book b order by b.id", Book.class )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	private static List<Tuple> selectTuples(SessionImplementor session) {
+		return session.createSelectionQuery( "select b, b.title, b.price from Book b order by b.id", Tuple.class )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	private static void assertBooks(List<Book> books) {
+		assertThat( books ).extracting( book -> book.title ).containsExactly(
+				"Hibernate in Action",
+				"Java Persistence with Hibernate",
+				"High-Performance Java Persistence"
+		);
+		assertThat( books ).extracting( book -> book.price ).containsExactly( 40, null, 35 );
+	}
+
+	private static void assertTuples(List<Tuple> tuples) {
+		assertThat( tuples ).hasSize( 3 );
+		assertThat( tuples.get( 0 ).get( 0, Book.class ).id ).isEqualTo( 1 );
+		assertThat( tuples.get( 0 ).get( 1 ) ).isEqualTo( "Hibernate in Action" );
+		assertThat( tuples.get( 0 ).get( 2 ) ).isEqualTo( 40 );
+		assertThat( tuples.get( 1 ).get( 0, Book.class ).price ).isNull();
+		assertThat( tuples.get( 1 ).get( 2 ) ).isNull();
+		assertThat( tuples.get( 2 ).get( 0, Book.class ).title ).isEqualTo( "High-Performance Java Persistence" );
+		assertThat( tuples.get( 2 ).get( 2 ) ).isEqualTo( 35 );
+	}
+
+	@Entity( name = "Book" )
+	@Cacheable
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		Integer price;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Integer price) {
+			this.id = id;
+			this.title = title;
+			this.price = price;
+		}
+	}
+}
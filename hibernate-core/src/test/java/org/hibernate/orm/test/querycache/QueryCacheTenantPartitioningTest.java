@@ -0,0 +1,149 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.annotations.TenantId;
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryProducer;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#QUERY_CACHE_TENANT_PARTITIONING}
+ */
+@DomainModel( annotatedClasses = QueryCacheTenantPartitioningTest.Document.class )
+@SessionFactory
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+		@Setting( name = AvailableSettings.QUERY_CACHE_TENANT_PARTITIONING, value = "true" ),
+		@Setting( name = AvailableSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, value = "create-drop" )
+} )
+public class QueryCacheTenantPartitioningTest implements SessionFactoryProducer {
+
+	private String currentTenant;
+
+	@Override
+	public SessionFactoryImplementor produceSessionFactory(MetadataImplementor model) {
+		final SessionFactoryBuilder sessionFactoryBuilder = model.getSessionFactoryBuilder();
+		sessionFactoryBuilder.applyCurrentTenantIdentifierResolver( new CurrentTenantIdentifierResolver() {
+			@Override
+			public String resolveCurrentTenantIdentifier() {
+				return currentTenant;
+			}
+
+			@Override
+			public boolean validateExistingCurrentSessions() {
+				return false;
+			}
+		} );
+		return (SessionFactoryImplementor) sessionFactoryBuilder.build();
+	}
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		currentTenant = "mine";
+		scope.inTransaction( session -> session.persist( new Document( 1, "mine" ) ) );
+		currentTenant = "yours";
+		scope.inTransaction( session -> session.persist( new Document( 2, "yours" ) ) );
+		scope.getSessionFactory().getCache().evictQueryRegions();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		for ( String tenant : List.of( "mine", "yours" ) ) {
+			currentTenant = tenant;
+			scope.inTransaction( session -> session.createMutationQuery( "delete from Document" ).executeUpdate() );
+		}
+	}
+
+	@Test
+	public void testUpdateInvalidatesOwnPartitionOnly(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		currentTenant = "mine";
+		scope.inTransaction( session -> assertThat( executeQuery( session ) ).containsExactly( "mine" ) );
+		currentTenant = "yours";
+		scope.inTransaction( session -> assertThat( executeQuery( session ) ).containsExactly( "yours" ) );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 2 );
+
+		currentTenant = "mine";
+		scope.inTransaction( session -> session.find( Document.class, 1 ).title = "updated" );
+		scope.inTransaction( session -> assertThat( executeQuery( session ) ).containsExactly( "updated" ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 3 );
+
+		currentTenant = "yours";
+		scope.inTransaction( session -> assertThat( executeQuery( session ) ).containsExactly( "yours" ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testNativeUpdateInvalidatesEveryPartition(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		currentTenant = "mine";
+		scope.inTransaction( session -> assertThat( executeQuery( session ) ).containsExactly( "mine" ) );
+		currentTenant = "yours";
+		scope.inTransaction( session -> assertThat( executeQuery( session ) ).containsExactly( "yours" ) );
+
+		scope.inTransaction( session -> session.createNativeQuery( "update Document set title = title" )
+				.addSynchronizedEntityClass( Document.class )
+				.executeUpdate() );
+
+		currentTenant = "mine";
+		scope.inTransaction( session -> assertThat( executeQuery( session ) ).containsExactly( "mine" ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 3 );
+	}
+
+	private static List<String> executeQuery(SessionImplementor session) {
+		return session.createSelectionQuery( "select d.title from Document d", String.class )
+				.setCacheable( true )
+				.getResultList();
+	}
+
+	@Entity( name = "Document" )
+	public static class Document {
+		@Id
+		Integer id;
+		@TenantId
+		String tenantId;
+		String title;
+
+		public Document() {
+		}
+
+		public Document(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
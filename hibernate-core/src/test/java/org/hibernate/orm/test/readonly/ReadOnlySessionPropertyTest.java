@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.readonly;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value HibernateHints#HINT_READ_ONLY} set as a property of the session
+ */
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ) )
+@DomainModel( annotatedClasses = { ReadOnlySessionPropertyTest.Book.class, ReadOnlySessionPropertyTest.CachedBook.class } )
+@SessionFactory
+public class ReadOnlySessionPropertyTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Book( 1, "Hibernate in Action" ) );
+			session.persist( new CachedBook( 1, "Java Persistence with Hibernate" ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from CachedBook" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEntitiesLoadedReadOnly(SessionFactoryScope scope) {
+		inReadOnlyTransaction( scope, session -> {
+			assertThat( session.isDefaultReadOnly() ).isTrue();
+
+			final Book found = session.find( Book.class, 1 );
+			assertReadOnlyWithoutSnapshot( session, found );
+			found.title = "changed";
+
+			final List<Book> queried = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+			assertThat( queried ).containsExactly( found );
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Book.class, 1 ).title ).isEqualTo( "Hibernate in Action" ) );
+	}
+
+	@Test
+	public void testEntitiesAssembledFromCacheReadOnly(SessionFactoryScope scope) {
+		// make sure the entity is in the second-level cache
+		scope.inTransaction( session -> session.find( CachedBook.class, 1 ) );
+		assertThat( scope.getSessionFactory().getCache().contains( CachedBook.class, 1 ) ).isTrue();
+
+		inReadOnlyTransaction( scope, session -> {
+			final CachedBook book = session.find( CachedBook.class, 1 );
+			assertReadOnlyWithoutSnapshot( session, book );
+			book.title = "changed";
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( CachedBook.class, 1 ).title )
+				.isEqualTo( "Java Persistence with Hibernate" ) );
+	}
+
+	@Test
+	public void testReadOnlyPropertyUnset(SessionFactoryScope scope) {
+		inReadOnlyTransaction( scope, session -> {
+			session.setProperty( HibernateHints.HINT_READ_ONLY, false );
+			assertThat( session.isDefaultReadOnly() ).isFalse();
+			session.find( Book.class, 1 ).title = "changed";
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Book.class, 1 ).title ).isEqualTo( "changed" ) );
+	}
+
+	private static void inReadOnlyTransaction(SessionFactoryScope scope, Consumer<SessionImplementor> action) {
+		final EntityManager entityManager = scope.getSessionFactory()
+				.createEntityManager( Map.of( HibernateHints.HINT_READ_ONLY, true ) );
+		try {
+			final SessionImplementor session = entityManager.unwrap( SessionImplementor.class );
+			session.getTransaction().begin();
+			action.accept( session );
+			session.getTransaction().commit();
+		}
+		finally {
+			entityManager.close();
+		}
+	}
+
+	private static void assertReadOnlyWithoutSnapshot(SessionImplementor session, Object entity) {
+		assertThat( session.isReadOnly( entity ) ).isTrue();
+		final EntityEntry entry = session.getPersistenceContextInternal().getEntry( entity );
+		assertThat( entry.getLoadedState() ).isNull();
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity( name = "CachedBook" )
+	@Cacheable
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class CachedBook {
+		@Id
+		Integer id;
+		String title;
+
+		public CachedBook() {
+		}
+
+		public CachedBook(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
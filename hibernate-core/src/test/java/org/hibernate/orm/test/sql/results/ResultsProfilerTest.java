@@ -0,0 +1,186 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.results;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.results.internal.JfrResultsProfiler;
+import org.hibernate.sql.results.internal.ResultsProcessedEvent;
+import org.hibernate.sql.results.internal.ResultsProfileImpl;
+import org.hibernate.sql.results.spi.ResultsProfile;
+import org.hibernate.sql.results.spi.ResultsProfiler;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#RESULTS_PROFILER}
+ */
+@ServiceRegistry( settings = @Setting(
+		name = AvailableSettings.RESULTS_PROFILER,
+		value = "org.hibernate.orm.test.sql.results.ResultsProfilerTest$CollectingResultsProfiler"
+) )
+@DomainModel( annotatedClasses = { ResultsProfilerTest.Author.class, ResultsProfilerTest.Book.class } )
+@SessionFactory
+public class ResultsProfilerTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author tolkien = new Author( 1, "Tolkien" );
+			final Author lewis = new Author( 2, "Lewis" );
+			session.persist( tolkien );
+			session.persist( lewis );
+			session.persist( new Book( 1, "The Hobbit", tolkien ) );
+			session.persist( new Book( 2, "The Silmarillion", tolkien ) );
+			session.persist( new Book( 3, "Perelandra", lewis ) );
+		} );
+		CollectingResultsProfiler.PROFILES.clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testResultsProfiled(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "from Book b join fetch b.author order by b.id", Book.class )
+						.getResultList()
+		).hasSize( 3 ) );
+
+		assertThat( CollectingResultsProfiler.PROFILES ).hasSize( 1 );
+		final ResultsProfile profile = CollectingResultsProfiler.PROFILES.get( 0 );
+		assertThat( profile.getSql() ).startsWith( "select" );
+		assertThat( profile.getRowCount() ).isEqualTo( 3 );
+		// three books and two authors
+		assertThat( profile.getEntityCount() ).isEqualTo( 5 );
+		assertThat( profile.getExecutionTime() ).isPositive();
+		assertThat( profile.getNextTime() ).isPositive();
+		assertThat( profile.getExtractionTime() ).isPositive();
+		assertThat( profile.getResolutionTime() ).isPositive();
+		assertThat( profile.getInitializationTime() ).isPositive();
+	}
+
+	@Test
+	public void testEntitiesInPersistenceContextNotCounted(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.find( Book.class, 1 );
+			CollectingResultsProfiler.PROFILES.clear();
+
+			session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		} );
+
+		assertThat( CollectingResultsProfiler.PROFILES ).hasSize( 1 );
+		final ResultsProfile profile = CollectingResultsProfiler.PROFILES.get( 0 );
+		assertThat( profile.getRowCount() ).isEqualTo( 3 );
+		assertThat( profile.getEntityCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testJfrResultsProfiler(SessionFactoryScope scope) throws Exception {
+		final ResultsProfiler profiler = scope.getSessionFactory()
+				.getServiceRegistry()
+				.getService( StrategySelector.class )
+				.resolveStrategy( ResultsProfiler.class, JfrResultsProfiler.SHORT_NAME );
+		assertThat( profiler ).isInstanceOf( JfrResultsProfiler.class );
+
+		final ResultsProfileImpl profile = new ResultsProfileImpl( "select 1" );
+		profile.addExecutionTime( 1000 );
+		profile.addRow( 100 );
+		profile.addEntities( 1 );
+
+		final Path file = Files.createTempFile( "results", ".jfr" );
+		try ( Recording recording = new Recording() ) {
+			recording.enable( ResultsProcessedEvent.NAME );
+			recording.start();
+			profiler.resultsProcessed( null, profile );
+			recording.stop();
+			recording.dump( file );
+
+			final List<RecordedEvent> events = RecordingFile.readAllEvents( file );
+			assertThat( events ).hasSize( 1 );
+			final RecordedEvent event = events.get( 0 );
+			assertThat( event.getString( "sql" ) ).isEqualTo( "select 1" );
+			assertThat( event.getDuration( "executionTime" ).toNanos() ).isEqualTo( 1000 );
+			assertThat( event.getDuration( "extractionTime" ).toNanos() ).isEqualTo( 100 );
+			assertThat( event.getLong( "rowCount" ) ).isEqualTo( 1 );
+			assertThat( event.getLong( "entityCount" ) ).isEqualTo( 1 );
+		}
+		finally {
+			Files.deleteIfExists( file );
+		}
+	}
+
+	public static class CollectingResultsProfiler implements ResultsProfiler {
+		static final List<ResultsProfile> PROFILES = new ArrayList<>();
+
+		@Override
+		public void resultsProcessed(JdbcOperationQuerySelect jdbcSelect, ResultsProfile profile) {
+			PROFILES.add( profile );
+		}
+	}
+
+	@Entity( name = "Author" )
+	public static class Author {
+		@Id
+		Integer id;
+		String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		Integer id;
+		String title;
+		@ManyToOne( fetch = FetchType.LAZY )
+		Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
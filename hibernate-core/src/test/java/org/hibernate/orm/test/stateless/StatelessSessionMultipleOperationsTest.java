@@ -0,0 +1,155 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.SessionEventListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link org.hibernate.StatelessSession#insertMultiple},
+ * {@link org.hibernate.StatelessSession#updateMultiple} and
+ * {@link org.hibernate.StatelessSession#deleteMultiple}
+ */
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+		@Setting( name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "1" ),
+		@Setting(
+				name = AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+				value = "org.hibernate.orm.test.stateless.StatelessSessionMultipleOperationsTest$BatchCountingListener"
+		)
+} )
+@DomainModel( annotatedClasses = StatelessSessionMultipleOperationsTest.Product.class )
+@SessionFactory
+public class StatelessSessionMultipleOperationsTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete from Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testMultipleOperations(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final List<Product> products = products( 1, 20 );
+
+		statistics.clear();
+		scope.inStatelessTransaction( (session) -> {
+			session.insertMultiple( products );
+			// the batch was executed before returning
+			assertThat( session.createSelectionQuery( "select count(*) from Product", Long.class ).getSingleResult() )
+					.isEqualTo( 20L );
+		} );
+		// a single batched statement, plus the count query
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+
+		products.forEach( (product) -> product.setName( product.getName() + " (updated)" ) );
+		statistics.clear();
+		scope.inStatelessTransaction( (session) -> session.updateMultiple( products ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+
+		scope.inStatelessTransaction( (session) -> {
+			final Product product = session.get( Product.class, 7 );
+			assertThat( product.getName() ).isEqualTo( "product 7 (updated)" );
+		} );
+
+		statistics.clear();
+		scope.inStatelessTransaction( (session) -> session.deleteMultiple( products ) );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+
+		scope.inStatelessTransaction( (session) -> assertThat(
+				session.createSelectionQuery( "select count(*) from Product", Long.class ).getSingleResult()
+		).isEqualTo( 0L ) );
+	}
+
+	@Test
+	public void testDefaultBatchSizeCapped(SessionFactoryScope scope) {
+		BatchCountingListener.BATCHES.set( 0 );
+		scope.inStatelessTransaction( (session) -> session.insertMultiple( products( 1, 100 ) ) );
+		// the statements are not all accumulated in a single batch
+		assertThat( BatchCountingListener.BATCHES.get() ).isEqualTo( 4 );
+
+		scope.inStatelessTransaction( (session) -> assertThat(
+				session.createSelectionQuery( "select count(*) from Product", Long.class ).getSingleResult()
+		).isEqualTo( 100L ) );
+	}
+
+	@Test
+	public void testFailureDoesNotAbortPendingStatements(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( (session) -> {
+			session.setJdbcBatchSize( 10 );
+			session.insert( new Product( 1, "pending" ) );
+			// the identifier of the second product is missing
+			assertThatThrownBy( () -> session.insertMultiple( List.of(
+					new Product( 2, "product 2" ),
+					new Product( null, "product 3" )
+			) ) ).isInstanceOf( HibernateException.class );
+			// the insert batched before the call was executed, and not aborted
+			assertThat( session.createSelectionQuery( "select name from Product where id = 1", String.class )
+					.getSingleResult() ).isEqualTo( "pending" );
+		} );
+	}
+
+	private static List<Product> products(int first, int last) {
+		final List<Product> products = new ArrayList<>();
+		for ( int i = first; i <= last; i++ ) {
+			products.add( new Product( i, "product " + i ) );
+		}
+		return products;
+	}
+
+	public static class BatchCountingListener implements SessionEventListener {
+		static final AtomicInteger BATCHES = new AtomicInteger();
+
+		@Override
+		public void jdbcExecuteBatchStart() {
+			BATCHES.incrementAndGet();
+		}
+	}
+
+	@Entity( name = "Product" )
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+}
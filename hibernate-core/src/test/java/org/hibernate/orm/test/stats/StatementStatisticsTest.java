@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.LatencyHistogram;
+import org.hibernate.stat.StatementStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#STATEMENT_STATISTICS_MAX_SIZE}
+ */
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+		@Setting( name = AvailableSettings.STATEMENT_STATISTICS_MAX_SIZE, value = "10" ),
+		@Setting( name = AvailableSettings.USE_SQL_COMMENTS, value = "true" )
+} )
+@DomainModel( annotatedClasses = StatementStatisticsTest.Invoice.class )
+@SessionFactory
+public class StatementStatisticsTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Invoice" ).executeUpdate() );
+	}
+
+	@Test
+	public void testPhasesRecorded(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.persist( new Invoice( 1, "first" ) ) );
+		statistics.clear();
+
+		for ( int i = 0; i < 5; i++ ) {
+			scope.inTransaction( session -> assertThat(
+					session.createSelectionQuery( "from Invoice", Invoice.class ).getResultList()
+			).hasSize( 1 ) );
+		}
+
+		final String select = Arrays.stream( statistics.getStatements() )
+				.filter( sql -> sql.startsWith( "select" ) )
+				.findFirst()
+				.orElseThrow();
+		final StatementStatistics statementStatistics = statistics.getStatementStatistics( select );
+		assertThat( statementStatistics.getPrepareTimeHistogram().getCount() ).isEqualTo( 5 );
+		assertThat( statementStatistics.getExecutionTimeHistogram().getCount() ).isEqualTo( 5 );
+		assertThat( statementStatistics.getFetchTimeHistogram().getCount() ).isEqualTo( 5 );
+
+		final LatencyHistogram executionTime = statementStatistics.getExecutionTimeHistogram();
+		assertThat( executionTime.getTimeAtPercentile( 50.0 ) )
+				.isLessThanOrEqualTo( executionTime.getTimeAtPercentile( 99.0 ) );
+		assertThat( executionTime.getTimeAtPercentile( 99.0 ) ).isLessThanOrEqualTo( executionTime.getMaxTime() );
+		assertThat( executionTime.getMaxTime() ).isLessThanOrEqualTo( executionTime.getTotalTime() );
+
+		scope.inTransaction( session -> session.find( Invoice.class, 1 ).description = "changed" );
+		final String update = Arrays.stream( statistics.getStatements() )
+				.filter( sql -> sql.contains( "update Invoice" ) )
+				.findFirst()
+				.orElseThrow();
+		assertThat( statistics.getStatementStatistics( update ).getExecutionTimeHistogram().getCount() ).isEqualTo( 1 );
+		assertThat( statistics.getStatementStatistics( update ).getFetchTimeHistogram().getCount() ).isZero();
+
+		assertThat( statistics.getAggregateStatementStatistics().getExecutionTimeHistogram().getCount() )
+				.isGreaterThanOrEqualTo( 7 );
+
+		statistics.clear();
+		assertThat( statistics.getStatements() ).isEmpty();
+		assertThat( statistics.getAggregateStatementStatistics().getExecutionTimeHistogram().getCount() ).isZero();
+	}
+
+	@Test
+	public void testStatementsKeyedWithoutComments(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			session.createSelectionQuery( "from Invoice", Invoice.class ).setComment( "first" ).getResultList();
+			session.createSelectionQuery( "from Invoice", Invoice.class ).setComment( "second" ).getResultList();
+		} );
+
+		assertThat( statistics.getStatements() ).hasSize( 1 );
+		final String select = statistics.getStatements()[0];
+		assertThat( select ).startsWith( "select" );
+		final StatementStatistics statementStatistics = statistics.getStatementStatistics( select );
+		assertThat( statementStatistics.getPrepareTimeHistogram().getCount() ).isEqualTo( 2 );
+		assertThat( statementStatistics.getExecutionTimeHistogram().getCount() ).isEqualTo( 2 );
+		assertThat( statementStatistics.getFetchTimeHistogram().getCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testPercentiles(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		for ( int i = 1; i <= 1000; i++ ) {
+			statistics.statementExecuted( "select 1", TimeUnit.MILLISECONDS.toNanos( i ) );
+		}
+
+		final LatencyHistogram histogram = statistics.getStatementStatistics( "select 1" ).getExecutionTimeHistogram();
+		assertThat( histogram.getCount() ).isEqualTo( 1000 );
+		assertThat( histogram.getMaxTime() ).isEqualTo( 1_000_000 );
+		assertThat( histogram.getTotalTime() ).isEqualTo( 500_500_000 );
+		// the precision of the histogram is one part in sixteen
+		assertThat( histogram.getTimeAtPercentile( 50.0 ) ).isBetween( 500_000L, 500_000L + 500_000L / 16 );
+		assertThat( histogram.getTimeAtPercentile( 99.0 ) ).isBetween( 990_000L, 1_000_000L );
+		assertThat( histogram.getTimeAtPercentile( 100.0 ) ).isEqualTo( 1_000_000 );
+		assertThat( histogram.getTimeAtPercentile( 0.0 ) ).isBetween( 1_000L, 1_000L + 1_000L / 16 );
+	}
+
+	@Entity( name = "Invoice" )
+	public static class Invoice {
+		@Id
+		Integer id;
+		String description;
+
+		public Invoice() {
+		}
+
+		public Invoice(Integer id, String description) {
+			this.id = id;
+			this.description = description;
+		}
+	}
+}
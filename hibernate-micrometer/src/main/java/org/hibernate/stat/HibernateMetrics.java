@@ -9,6 +9,7 @@ package org.hibernate.stat;
 import io.micrometer.common.lang.NonNullApi;
 import io.micrometer.common.lang.NonNullFields;
 import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
@@ -21,6 +22,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.ToDoubleFunction;
 
 /**
@@ -33,6 +35,8 @@ public class HibernateMetrics implements MeterBinder {
 
 	private static final String SESSION_FACTORY_TAG_NAME = "entityManagerFactory";
 
+	private static final double[] STATEMENT_LATENCY_PERCENTILES = { 0.5, 0.95, 0.99, 0.999 };
+
 	private final String cacheFactoryPrefix;
 	private final Iterable<Tag> tags;
 
@@ -145,6 +149,13 @@ public class HibernateMetrics implements MeterBinder {
 				Statistics::getCloseStatementCount, "status", "closed"
 		);
 
+		// Statement latencies, only available when statement statistics are enabled
+		if ( statistics.getAggregateStatementStatistics() != null ) {
+			statementLatency( registry, "prepare", StatementStatistics::getPrepareTimeHistogram );
+			statementLatency( registry, "execute", StatementStatistics::getExecutionTimeHistogram );
+			statementLatency( registry, "fetch", StatementStatistics::getFetchTimeHistogram );
+		}
+
 		// Second Level Caching
 		// AWKWARD: getSecondLevelCacheRegionNames is the only way to retrieve a list of names
 		// The returned names are all qualified.
@@ -334,6 +345,59 @@ public class HibernateMetrics implements MeterBinder {
 		);
 	}
 
+	private void statementLatency(
+			MeterRegistry registry,
+			String phase,
+			Function<StatementStatistics, LatencyHistogram> histogram) {
+		if ( this.statistics == null ) {
+			return;
+		}
+
+		FunctionTimer.builder(
+				"hibernate.statements.latency",
+				statistics,
+				s -> (long) latency( s, histogram, LatencyHistogram::getCount ),
+				s -> latency( s, histogram, LatencyHistogram::getTotalTime ),
+				TimeUnit.MICROSECONDS
+		)
+				.description( "The time spent in the given phase of the execution of SQL statements" )
+				.tags( tags )
+				.tags( "phase", phase )
+				.register( registry );
+
+		TimeGauge.builder(
+				"hibernate.statements.latency.max",
+				statistics,
+				TimeUnit.MICROSECONDS,
+				s -> latency( s, histogram, LatencyHistogram::getMaxTime )
+		)
+				.description( "The longest time spent in the given phase of the execution of a SQL statement" )
+				.tags( tags )
+				.tags( "phase", phase )
+				.register( registry );
+
+		for ( double percentile : STATEMENT_LATENCY_PERCENTILES ) {
+			TimeGauge.builder(
+					"hibernate.statements.latency.percentile",
+					statistics,
+					TimeUnit.MICROSECONDS,
+					s -> latency( s, histogram, h -> h.getTimeAtPercentile( percentile * 100 ) )
+			)
+					.description( "The time within which the given percentage of the executions of SQL statements completed the given phase" )
+					.tags( tags )
+					.tags( "phase", phase, "phi", String.valueOf( percentile ) )
+					.register( registry );
+		}
+	}
+
+	private static double latency(
+			Statistics statistics,
+			Function<StatementStatistics, LatencyHistogram> histogram,
+			ToDoubleFunction<LatencyHistogram> value) {
+		final StatementStatistics statementStatistics = statistics.getAggregateStatementStatistics();
+		return statementStatistics == null ? 0 : value.applyAsDouble( histogram.apply( statementStatistics ) );
+	}
+
 	private boolean hasDomainDataRegionStatistics(String regionName) {
 		// This appears to be a _qualified
 		// In 5.3, getDomainDataRegionStatistics (a new method) will throw an IllegalArgumentException
@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.stat.HibernateMetrics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests for the statement latency metrics exposed by {@link HibernateMetrics}
+ */
+public class MicrometerStatementStatisticsTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Account.class, AccountId.class };
+	}
+
+	private SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+
+		configuration.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( Environment.USE_QUERY_CACHE, "false" );
+		configuration.setProperty( Environment.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( AvailableSettings.STATEMENT_STATISTICS_MAX_SIZE, "100" );
+	}
+
+	@Before
+	public void setUpMetrics() {
+		new HibernateMetrics( sessionFactory(), "something", Tags.empty() ).bindTo( registry );
+	}
+
+	@After
+	public void cleanUpMetrics() {
+		registry.clear();
+	}
+
+	@Test
+	public void testStatementLatencyMetrics() {
+		for ( String phase : new String[] { "prepare", "execute", "fetch" } ) {
+			Assert.assertNotNull( registry.get( "hibernate.statements.latency" ).tags( "phase", phase ).functionTimer() );
+			Assert.assertNotNull( registry.get( "hibernate.statements.latency.max" ).tags( "phase", phase ).timeGauge() );
+			Assert.assertNotNull( registry.get( "hibernate.statements.latency.percentile" )
+					.tags( "phase", phase, "phi", "0.99" )
+					.timeGauge() );
+		}
+
+		Session session = openSession();
+		session.beginTransaction();
+		Account account = new Account( new AccountId( 1 ), "testAcct" );
+		session.persist( account );
+		session.getTransaction().commit();
+		session.close();
+
+		session = openSession();
+		session.beginTransaction();
+		account = session.createQuery( "from Account", Account.class ).getSingleResult();
+		session.remove( account );
+		session.getTransaction().commit();
+		session.close();
+
+		final FunctionTimer execute = registry.get( "hibernate.statements.latency" )
+				.tags( "phase", "execute" )
+				.functionTimer();
+		// the insert, the query and the delete
+		Assert.assertEquals( 3, execute.count(), 0 );
+		Assert.assertTrue( execute.totalTime( TimeUnit.MICROSECONDS ) >= registry.get( "hibernate.statements.latency.max" )
+				.tags( "phase", "execute" )
+				.timeGauge()
+				.value( TimeUnit.MICROSECONDS ) );
+
+		final FunctionTimer fetch = registry.get( "hibernate.statements.latency" )
+				.tags( "phase", "fetch" )
+				.functionTimer();
+		Assert.assertEquals( 1, fetch.count(), 0 );
+	}
+}
@@ -76,6 +76,10 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertNotNull(registry.get("hibernate.statements").tags("status", "prepared").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.statements").tags("status", "closed").functionCounter());
 
+		// Statement statistics disabled
+		verifyMeterNotFoundException("hibernate.statements.latency");
+		verifyMeterNotFoundException("hibernate.statements.latency.percentile");
+
 		// Second level cache disabled
 		verifyMeterNotFoundException("hibernate.second.level.cache.requests");
 		verifyMeterNotFoundException("hibernate.second.level.cache.puts");